@@ -0,0 +1,110 @@
+package dongneidle.DayMaker.DTO;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import dongneidle.DayMaker.config.JacksonConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 코스 생성 응답(ItineraryResponse) 직렬화 비교
+ * - defaultMapper: 기본 ObjectMapper (변경 전 new ObjectMapper() 경로)
+ * - tunedMapper: 공용 설정(Blackbird + 빠른 double writer) 적용
+ * - tunedWriter: 공용 설정 + 미리 만든 ObjectWriter 재사용
+ * ./gradlew jmh -Pjmh.includes=ItineraryResponseSerializationBenchmark (할당량은 -prof gc 로 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItineraryResponseSerializationBenchmark {
+
+    private ObjectMapper defaultMapper;
+    private ObjectMapper tunedMapper;
+    private ObjectWriter tunedWriter;
+    private ItineraryResponse response;
+
+    @Setup
+    public void setUp() {
+        defaultMapper = new ObjectMapper();
+
+        // 애플리케이션과 같은 구성: Boot 기본 builder + JacksonConfig (모듈 빈은 Boot가 modulesToInstall로 등록)
+        JacksonConfig config = new JacksonConfig();
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(config.blackbirdModule());
+        config.jsonTuningCustomizer().customize(builder);
+        tunedMapper = builder.build();
+        tunedWriter = tunedMapper.writerFor(ItineraryResponse.class);
+
+        response = typicalResponse();
+    }
+
+    @Benchmark
+    public byte[] defaultMapper() throws Exception {
+        return defaultMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] tunedMapper() throws Exception {
+        return tunedMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] tunedWriter() throws Exception {
+        return tunedWriter.writeValueAsBytes(response);
+    }
+
+    // N=4 (식당 2 + 비식당 2) + 축제 1, 이미지/평점이 없는 장소 포함
+    private static ItineraryResponse typicalResponse() {
+        List<ItineraryResponse.PlaceDto> places = new ArrayList<>();
+        places.add(place("안양 한식당", "RESTAURANT", "안양시 만안구 안양로 123", 37.3925, 126.9229, 4.4, "ChIJ-restaurant-1"));
+        places.add(place("평촌 스시", "RESTAURANT", "안양시 동안구 시민대로 230", 37.3894, 126.9507, 4.2, "ChIJ-restaurant-2"));
+        places.add(place("안양 예술공원", "ATTRACTION", "안양시 만안구 예술공원로 131", 37.4161, 126.9324, 4.6, "ChIJ-attraction-1"));
+        places.add(place("범계 영화관", "CULTURE", "안양시 동안구 동안로 130", 37.3896, 126.9524, 4.1, "ChIJ-movie-1"));
+        places.add(place("안양 충훈벚꽃축제", "FESTIVAL", "안양시 만안구 석수동", 37.4124, 126.9110, null, null));
+
+        List<ItineraryResponse.RouteStep> route = new ArrayList<>();
+        for (int i = 0; i < places.size(); i++) {
+            ItineraryResponse.PlaceDto p = places.get(i);
+            route.add(ItineraryResponse.RouteStep.builder()
+                    .orderIndex(i + 1)
+                    .name(p.getName())
+                    .latitude(p.getLatitude())
+                    .longitude(p.getLongitude())
+                    .build());
+        }
+        return ItineraryResponse.builder()
+                .recommendedPlaces(places)
+                .optimizedRoute(route)
+                .handle("5b0f7c1e-4d7a-4c39-9a1e-2f0d8c6b7a31")
+                .build();
+    }
+
+    private static ItineraryResponse.PlaceDto place(String name, String category, String address,
+                                                    double lat, double lng, Double rating, String placeId) {
+        return ItineraryResponse.PlaceDto.builder()
+                .name(name)
+                .category(category)
+                .address(address)
+                .latitude(lat)
+                .longitude(lng)
+                .rating(rating)
+                .placeId(placeId)
+                .build();
+    }
+}
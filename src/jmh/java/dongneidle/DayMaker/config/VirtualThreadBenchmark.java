@@ -0,0 +1,102 @@
+package dongneidle.DayMaker.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 느린 upstream(Google/OpenAI 대기) 요청 1k개 동시 처리: 플랫폼 스레드 풀(Tomcat 기본 200) vs 가상 스레드
+ * 요청 하나 = upstream 대기 3회(Places 검색 2 + GPT 1)를 sleep 으로 흉내
+ * pinned 모드는 대기를 synchronized 안에서 해 가상 스레드가 carrier에 고정될 때의 처리량을 보여줌
+ * ./gradlew jmh -Pjmh.includes=VirtualThreadBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class VirtualThreadBenchmark {
+
+    @Param({"platform-200", "virtual", "virtual-pinned", "virtual-reentrant-lock"})
+    public String mode;
+
+    @Param({"1000"})
+    public int concurrentRequests;
+
+    @Param({"50"})
+    public long upstreamLatencyMs;
+
+    private ExecutorService executor;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        executor = mode.equals("platform-200")
+                ? Executors.newFixedThreadPool(200)
+                : Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int serveConcurrentRequests() throws Exception {
+        List<Future<Integer>> futures = new ArrayList<>(concurrentRequests);
+        for (int i = 0; i < concurrentRequests; i++) {
+            futures.add(executor.submit(this::handleRequest));
+        }
+        int done = 0;
+        for (Future<Integer> f : futures) {
+            done += f.get();
+        }
+        return done;
+    }
+
+    private int handleRequest() throws InterruptedException {
+        for (int call = 0; call < 3; call++) {
+            upstreamCall();
+        }
+        return 1;
+    }
+
+    private void upstreamCall() throws InterruptedException {
+        switch (mode) {
+            case "virtual-pinned" -> {
+                Object monitor = new Object();
+                synchronized (monitor) {
+                    Thread.sleep(upstreamLatencyMs);
+                }
+            }
+            case "virtual-reentrant-lock" -> {
+                ReentrantLock lock = new ReentrantLock();
+                lock.lock();
+                try {
+                    Thread.sleep(upstreamLatencyMs);
+                } finally {
+                    lock.unlock();
+                }
+            }
+            default -> Thread.sleep(upstreamLatencyMs);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package dongneidle.DayMaker.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 검증 전/후 비교
+ * ./gradlew jmh -Pjmh.includes=JwtVerificationBenchmark (할당량은 -prof gc 로 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret";
+
+    private JwtTokenProvider cached;
+    private JwtTokenProvider uncached;
+    private LegacyVerifier legacy;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cached = new JwtTokenProvider(SECRET, "daymaker", 86400, 10000, new ObjectMapper());
+        uncached = new JwtTokenProvider(SECRET, "daymaker", 86400, 0, new ObjectMapper());
+        legacy = new LegacyVerifier(SECRET);
+        token = cached.createToken("benchmark-user@example.com");
+    }
+
+    @Benchmark
+    public String legacyVerify() {
+        return legacy.validateAndGetEmail(token);
+    }
+
+    @Benchmark
+    public String fastVerify() {
+        return uncached.validateAndGetEmail(token);
+    }
+
+    @Benchmark
+    public String fastVerifyCached() {
+        return cached.validateAndGetEmail(token);
+    }
+
+    /**
+     * 변경 전 JwtTokenProvider.validateAndGetEmail 구현 (split, 호출마다 Mac 생성, Base64 문자열 비교, Map 파싱)
+     */
+    static final class LegacyVerifier {
+        private final String secret;
+        private final ObjectMapper objectMapper = new ObjectMapper();
+
+        LegacyVerifier(String secret) {
+            this.secret = secret;
+        }
+
+        String validateAndGetEmail(String token) {
+            try {
+                String[] parts = token.split("\\.");
+                if (parts.length != 3) return null;
+                String unsigned = parts[0] + "." + parts[1];
+                String expectedSig = sign(unsigned);
+                if (!constantTimeEquals(expectedSig, parts[2])) return null;
+
+                String payloadJson = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+                @SuppressWarnings("unchecked")
+                Map<String, Object> payload = objectMapper.readValue(payloadJson, Map.class);
+                Object expObj = payload.get("exp");
+                long now = Instant.now().getEpochSecond();
+                long exp = (expObj instanceof Number) ? ((Number) expObj).longValue() : 0L;
+                if (exp < now) return null;
+                Object sub = payload.get("sub");
+                return sub != null ? sub.toString() : null;
+            } catch (Exception e) {
+                return null;
+            }
+        }
+
+        private String sign(String data) throws Exception {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            byte[] raw = mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+        }
+
+        private static boolean constantTimeEquals(String a, String b) {
+            if (a == null || b == null || a.length() != b.length()) return false;
+            int result = 0;
+            for (int i = 0; i < a.length(); i++) {
+                result |= a.charAt(i) ^ b.charAt(i);
+            }
+            return result == 0;
+        }
+    }
+}
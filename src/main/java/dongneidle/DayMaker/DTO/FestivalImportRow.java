@@ -0,0 +1,29 @@
+package dongneidle.DayMaker.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+// 축제 일괄 적재 파일의 한 행 (CSV 헤더/JSON 필드명 동일)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FestivalImportRow {
+    private String sourceKey;      // 원본 식별자 (없으면 이름|시작일|장소로 생성)
+    private String name;
+    private String description;
+    private String location;
+    private Double latitude;
+    private Double longitude;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String imageUrl;
+    private String category;
+    private String address;
+}
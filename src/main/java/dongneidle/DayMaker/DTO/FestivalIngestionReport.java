@@ -0,0 +1,23 @@
+package dongneidle.DayMaker.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FestivalIngestionReport {
+    private long totalRows;        // 읽은 행 수
+    private long inserted;         // 새로 추가
+    private long updated;          // 내용이 바뀌어 갱신
+    private long unchanged;        // 해시가 같아 건너뜀
+    private long invalid;          // 필수값 누락/형식 오류
+    private int batches;           // 실행한 JDBC 배치 수
+    private long elapsedMs;        // 전체 소요 시간
+    private double rowsPerSecond;  // 처리량
+}
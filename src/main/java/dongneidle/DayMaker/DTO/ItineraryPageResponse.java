@@ -0,0 +1,24 @@
+package dongneidle.DayMaker.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ItineraryPageResponse {
+    //목록 페이지 (키셋)
+	private List<ItinerarySummaryResponse> items;
+	private List<Long> deletedIds;    // since 이후 삭제된 코스 id (since 조회 첫 페이지에만 포함)
+	private String nextCursor;        // 다음 페이지 커서 (마지막 페이지면 null)
+	private LocalDateTime syncedAt;   // 조회가 본 마지막 변경 시각 (다음 동기화의 since 값으로 사용, 코스가 없으면 null)
+	private boolean resyncRequired;   // since가 삭제 기록 보관 기간보다 오래됨 → since 없이 전체 목록을 다시 받아야 함
+}
@@ -1,5 +1,7 @@
 package dongneidle.DayMaker.DTO;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -13,15 +15,21 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class ItineraryResponse {
     private List<PlaceDto> recommendedPlaces;
     private List<RouteStep> optimizedRoute;
 
+    // 서버에 보관된 생성 결과 handle (/save에 전달), 요청 본문으로는 받지 않음
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private String handle;
+
     @Getter
     @Setter
     @NoArgsConstructor
     @AllArgsConstructor
     @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL) // imageUrl/rating 등 비어 있는 필드는 생략
     public static class PlaceDto {
         private String name;
         private String category; // RESTAURANT, CAFE, CULTURE, ATTRACTION, FESTIVAL
@@ -11,6 +11,7 @@ public class ItinerarySaveRequest {
 	//저장 요청 바디
 	private String title;
 	private String userEmail; // 로그인 토큰 도입 전까지 요청에서 받음
+	private String handle;    // 생성 시 받은 handle (있으면 request/response 없이 저장)
 	private ItineraryRequest request;
 	private ItineraryResponse response;
 }
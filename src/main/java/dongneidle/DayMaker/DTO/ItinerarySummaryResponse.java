@@ -18,6 +18,7 @@ public class ItinerarySummaryResponse {
 	private Long id;
 	private String title;
 	private LocalDateTime createdAt;
+	private LocalDateTime updatedAt;
 }
 
 
@@ -0,0 +1,20 @@
+package dongneidle.DayMaker.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NearestStationResponse {
+    private String name;        // 역명
+    private String line;        // 호선
+    private Double latitude;    // 위도
+    private Double longitude;   // 경도
+    private double distanceKm;  // 요청 좌표로부터의 거리 (km)
+}
@@ -1,5 +1,6 @@
 package dongneidle.DayMaker.DTO;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -13,6 +14,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL) // 장소마다 없는 항목(overview, phone, 주차 등)은 생략
 public class PlaceDetailsDto {
     private String placeId;                 // places/{place_id} 또는 place_id
     private String name;                    // displayName.text
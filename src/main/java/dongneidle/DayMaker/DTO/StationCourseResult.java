@@ -0,0 +1,20 @@
+package dongneidle.DayMaker.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StationCourseResult {
+    private String course;              // 추천 코스 본문
+    private LocalDateTime computedAt;   // 코스 계산 시각
+    private boolean materialized;       // 사전 계산 테이블에서 제공했는지 여부
+}
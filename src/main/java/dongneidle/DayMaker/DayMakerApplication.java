@@ -3,6 +3,8 @@ package dongneidle.DayMaker;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.http.client.ClientHttpRequestFactoryBuilder;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.web.client.RestTemplate;
 
@@ -13,8 +15,10 @@ public class DayMakerApplication {
 		SpringApplication.run(DayMakerApplication.class, args);
 	}
 	
+	// RestTemplateBuilder: 공용 ObjectMapper를 쓰는 메시지 컨버터로 구성
+	// (HTTP 클라이언트는 기존 new RestTemplate()과 같은 HttpURLConnection 유지, Reactor Netty 자동 선택 방지)
 	@Bean
-	public RestTemplate restTemplate() {
-		return new RestTemplate();
+	public RestTemplate restTemplate(RestTemplateBuilder builder) {
+		return builder.requestFactoryBuilder(ClientHttpRequestFactoryBuilder.simple()).build();
 	}
 }
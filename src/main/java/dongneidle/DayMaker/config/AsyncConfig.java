@@ -0,0 +1,72 @@
+package dongneidle.DayMaker.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    // GPT 호출 전용 스레드 풀 (요청 스레드는 deadline까지만 대기)
+    // 가상 스레드 모드(spring.threads.virtual.enabled)에서는 호출마다 가상 스레드 사용.
+    // 동시 호출 수는 OpenAiClient 세마포어(openai.client.max-concurrent)가 제한하므로 풀 크기 제한이 필요 없음
+    @Bean
+    public AsyncTaskExecutor gptExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${openai.executor.pool-size:8}") int poolSize,
+            @Value("${openai.executor.queue-capacity:100}") int queueCapacity) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("gpt-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("gpt-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    // 해시 이후 단계(가입 DB 저장, 로그인 토큰 발급) 실행용: pwhash- 풀은 BCrypt만 돌리도록 여기로 넘김
+    // 가상 스레드 모드에서는 작업마다 가상 스레드 사용
+    @Bean
+    public AsyncTaskExecutor authExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${security.auth.executor.pool-size:8}") int poolSize,
+            @Value("${security.auth.executor.queue-capacity:100}") int queueCapacity) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("auth-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("auth-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    // 비밀번호 해시(BCrypt) 전용 스레드 풀: CPU 코어 수 이하로 제한해 로그인 폭주가 요청 스레드를 잠식하지 않도록 함
+    // CPU 작업이라 가상 스레드 모드에서도 플랫폼 스레드 풀 유지
+    // 대기열이 가득 차면 TaskRejectedException → 429
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${security.password.executor.pool-size:0}") int poolSize,
+            @Value("${security.password.executor.queue-capacity:32}") int queueCapacity) {
+        int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("pwhash-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
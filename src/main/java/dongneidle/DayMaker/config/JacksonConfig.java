@@ -0,0 +1,36 @@
+package dongneidle.DayMaker.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 애플리케이션 공용 JSON 설정
+ *
+ * Spring Boot ObjectMapper(및 Jackson2ObjectMapperBuilder)에 적용되므로 MVC 응답, RestTemplate/WebClient 코덱,
+ * 저장 payload 코덱(Smile 포함), JWT 파싱이 모두 같은 설정을 사용한다. 별도로 new ObjectMapper()를 만들지 않는다.
+ * (OpenAI SDK 전용 snake_case 매퍼는 예외)
+ */
+@Configuration
+public class JacksonConfig {
+
+    // getter/setter/생성자 호출을 리플렉션 대신 LambdaMetafactory로 생성한 접근자로 처리 (Module 빈은 Boot가 자동 등록)
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    // 좌표/평점 등 double 값이 많은 응답용: 빠른 double 파서/writer 사용 (결과 값은 같음)
+    // 스트림 기능은 JsonFactory 단위 설정이므로 builder에 설정된 factory로 지정 (Smile 코덱은 자체 factory로 교체)
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer jsonTuningCustomizer() {
+        return builder -> builder.factory(JsonFactory.builder()
+                .enable(StreamReadFeature.USE_FAST_DOUBLE_PARSER)
+                .enable(StreamWriteFeature.USE_FAST_DOUBLE_WRITER)
+                .build());
+    }
+}
@@ -0,0 +1,34 @@
+package dongneidle.DayMaker.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 지표 공통 설정 (노출/히스토그램 설정은 application.yml management.*)
+ */
+@Configuration
+public class MetricsConfig {
+
+    // Google 레거시 API는 쿼리 문자열을 포함한 URL로 호출되므로 HTTP 클라이언트 지표의 uri 태그에서 쿼리를 제거
+    // (API 키 노출 방지 + 좌표/키워드마다 시계열이 늘어나지 않도록)
+    @Bean
+    public MeterFilter clientUriWithoutQuery() {
+        return new MeterFilter() {
+            @Override
+            public Meter.Id map(Meter.Id id) {
+                if (!"http.client.requests".equals(id.getName())) {
+                    return id;
+                }
+                String uri = id.getTag("uri");
+                int query = uri != null ? uri.indexOf('?') : -1;
+                if (query < 0) {
+                    return id;
+                }
+                return id.replaceTags(Tags.of(id.getTagsAsIterable()).and("uri", uri.substring(0, query)));
+            }
+        };
+    }
+}
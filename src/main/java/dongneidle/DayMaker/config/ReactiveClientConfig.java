@@ -0,0 +1,46 @@
+package dongneidle.DayMaker.config;
+
+import dongneidle.DayMaker.util.ReactiveCallLimiter;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+@Configuration
+public class ReactiveClientConfig {
+
+    // Google Places 호출용 non-blocking 클라이언트 (리액티브 코스 생성 경로)
+    // 연결 수는 호출 한도와 같게 맞춰 한도 안의 호출이 커넥션 대기 없이 바로 나가도록 함
+    @Bean
+    public WebClient placesWebClient(
+            WebClient.Builder builder,
+            @Value("${google.reactive.max-concurrent:64}") int maxConcurrent,
+            @Value("${google.reactive.connect-timeout-ms:3000}") int connectTimeoutMs,
+            @Value("${google.reactive.response-timeout-ms:5000}") long responseTimeoutMs) {
+        ConnectionProvider provider = ConnectionProvider.builder("google-places")
+                .maxConnections(Math.max(1, maxConcurrent))
+                .build();
+        HttpClient httpClient = HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs));
+        return builder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                // Nearby Search 응답(최대 20건)이 기본 버퍼 256KB를 넘을 수 있음
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(2 * 1024 * 1024))
+                .build();
+    }
+
+    // 인스턴스 전체 동시 Google Places 호출 한도, 대기열이 가득 차면 요청을 503으로 거절
+    @Bean
+    public ReactiveCallLimiter placesCallLimiter(
+            @Value("${google.reactive.max-concurrent:64}") int maxConcurrent,
+            @Value("${google.reactive.max-queued:512}") int maxQueued) {
+        return new ReactiveCallLimiter("Google Places", maxConcurrent, maxQueued);
+    }
+}
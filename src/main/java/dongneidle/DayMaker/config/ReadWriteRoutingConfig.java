@@ -0,0 +1,85 @@
+package dongneidle.DayMaker.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * primary/replica 읽기·쓰기 분리 (옵션, datasource.routing.enabled)
+ *
+ * datasource.primary.* / datasource.replica.* 로 두 Hikari 풀을 만들고,
+ * @Transactional(readOnly = true) 작업만 replica로 보낸다.
+ * 켜져 있으면 spring.datasource.* 대신 이 설정이 사용된다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class ReadWriteRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("datasource.primary")
+    public HikariDataSource primaryDataSource() {
+        return DataSourceBuilder.create().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        return DataSourceBuilder.create().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${datasource.routing.max-replica-lag-seconds:5}") long maxLagSeconds) {
+        return new ReplicaLagMonitor(replicaDataSource, maxLagSeconds);
+    }
+
+    /**
+     * 애플리케이션 전체가 쓰는 DataSource (JPA, JdbcTemplate, Flyway)
+     * 실제 커넥션은 첫 SQL 실행 시점에 read-only 여부를 보고 고른다
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 @Value("${datasource.routing.replica-migrate:false}") boolean replicaMigrate,
+                                 @Value("${spring.flyway.locations:classpath:db/migration/{vendor}}") String[] locations) {
+        if (replicaMigrate) {
+            // 로컬 두 H2 구성: 복제가 없으므로 replica에도 스키마/시드를 직접 적용
+            Flyway.configure()
+                    .dataSource(replicaDataSource)
+                    .locations(resolveVendor(locations, replicaDataSource))
+                    .load()
+                    .migrate();
+        }
+        return new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor));
+    }
+
+    private static String[] resolveVendor(String[] locations, DataSource dataSource) {
+        String vendor;
+        try (Connection connection = dataSource.getConnection()) {
+            vendor = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql") ? "mysql" : "h2";
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot inspect replica datasource", e);
+        }
+        String[] resolved = new String[locations.length];
+        for (int i = 0; i < locations.length; i++) {
+            resolved[i] = locations[i].replace("{vendor}", vendor);
+        }
+        return resolved;
+    }
+}
@@ -0,0 +1,85 @@
+package dongneidle.DayMaker.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 read-your-writes 라우팅
+ *
+ * 사용자가 마지막으로 쓴 시각을 기록해 두고, 그 사용자의 조회를
+ * - 마지막 쓰기가 replica 지연 허용치(max-replica-lag-seconds)보다 오래됐으면 읽기 전용 트랜잭션(replica)
+ * - 최근에 썼으면 읽기/쓰기 트랜잭션(primary)
+ * 으로 실행한다. 허용치를 넘는 지연은 ReplicaLagMonitor가 replica 사용을 중단하므로,
+ * 허용치보다 오래된 쓰기는 replica에도 반영되어 있다.
+ * 라우팅을 끈 구성(datasource.routing.enabled=false)에서는 두 경로 모두 같은 DataSource를 쓴다.
+ */
+@Component
+public class ReadYourWritesRouter {
+
+    private final TransactionTemplate replicaRead;
+    private final TransactionTemplate primaryRead;
+    private final long windowMillis;
+
+    // 사용자(email) → 마지막 쓰기 시각(ms), window보다 오래된 항목은 주기적으로 정리
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    private final AtomicLong replicaReads = new AtomicLong();
+    private final AtomicLong primaryReads = new AtomicLong();
+
+    public ReadYourWritesRouter(PlatformTransactionManager transactionManager,
+                                @Value("${datasource.routing.max-replica-lag-seconds:5}") long maxLagSeconds) {
+        this.replicaRead = new TransactionTemplate(transactionManager);
+        this.replicaRead.setReadOnly(true);
+        this.primaryRead = new TransactionTemplate(transactionManager);
+        this.windowMillis = Math.max(0, maxLagSeconds) * 1000;
+    }
+
+    /**
+     * 사용자의 쓰기 기록 (커밋 또는 write-behind 기록 직후 호출)
+     */
+    public void recordWrite(String userEmail) {
+        if (userEmail == null) return;
+        lastWrites.put(userEmail, System.currentTimeMillis());
+    }
+
+    /**
+     * 사용자의 조회를 최근 쓰기 여부에 따라 replica 또는 primary 트랜잭션에서 실행
+     */
+    public <T> T read(String userEmail, TransactionCallback<T> action) {
+        if (wroteRecently(userEmail)) {
+            primaryReads.incrementAndGet();
+            return primaryRead.execute(action);
+        }
+        replicaReads.incrementAndGet();
+        return replicaRead.execute(action);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.recent-write-purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long threshold = System.currentTimeMillis() - windowMillis;
+        lastWrites.values().removeIf(at -> at < threshold);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("recentWriters", lastWrites.size());
+        stats.put("windowSeconds", windowMillis / 1000);
+        stats.put("replicaReads", replicaReads.get());
+        stats.put("primaryReads", primaryReads.get());
+        return stats;
+    }
+
+    private boolean wroteRecently(String userEmail) {
+        Long at = userEmail != null ? lastWrites.get(userEmail) : null;
+        return at != null && System.currentTimeMillis() - at < windowMillis;
+    }
+}
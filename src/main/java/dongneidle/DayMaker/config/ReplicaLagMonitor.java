@@ -0,0 +1,103 @@
+package dongneidle.DayMaker.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * replica 상태/복제 지연 점검
+ *
+ * 주기적으로 replica에 접속해 MySQL이면 SHOW REPLICA STATUS의 지연(초)을 읽고,
+ * 지연이 max-lag-seconds를 넘거나 접속/복제에 문제가 있으면 replica 사용을 중단한다.
+ * MySQL이 아니거나(로컬 H2) 복제 설정이 없는 서버면 접속 가능 여부만 본다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final DataSource replica;
+    private final long maxLagSeconds;
+
+    private volatile boolean usable = true;
+    private volatile long lastLagSeconds;
+    private volatile String lastProblem;
+    private final AtomicLong fallbacks = new AtomicLong();
+
+    public ReplicaLagMonitor(DataSource replica, long maxLagSeconds) {
+        this.replica = replica;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    public boolean isReplicaUsable() {
+        return usable;
+    }
+
+    public void markUnavailable(String reason) {
+        fallbacks.incrementAndGet();
+        update(false, reason);
+    }
+
+    @Scheduled(initialDelayString = "${datasource.routing.lag-check-interval-ms:5000}",
+               fixedDelayString = "${datasource.routing.lag-check-interval-ms:5000}")
+    public void check() {
+        try (Connection connection = replica.getConnection()) {
+            if (!connection.isValid(2)) {
+                update(false, "connection not valid");
+                return;
+            }
+            Long lag = readLagSeconds(connection);
+            if (lag == null) {
+                update(false, "replication not running");
+                return;
+            }
+            lastLagSeconds = lag;
+            update(lag <= maxLagSeconds, lag <= maxLagSeconds ? null : "lag " + lag + "s");
+        } catch (SQLException e) {
+            update(false, e.getMessage());
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("replicaUsable", usable);
+        stats.put("lagSeconds", lastLagSeconds);
+        stats.put("maxLagSeconds", maxLagSeconds);
+        stats.put("lastProblem", lastProblem);
+        stats.put("connectionFallbacks", fallbacks.get());
+        return stats;
+    }
+
+    private void update(boolean nowUsable, String problem) {
+        if (usable != nowUsable) {
+            if (nowUsable) {
+                log.info("Replica 복구, 읽기 전용 트랜잭션을 다시 replica로 보냅니다");
+            } else {
+                log.warn("Replica 사용 중단 ({}), 읽기를 primary로 보냅니다", problem);
+            }
+        }
+        usable = nowUsable;
+        lastProblem = problem;
+    }
+
+    // 지연(초), 복제 설정이 없으면 0, 복제가 멈췄으면 null
+    private static Long readLagSeconds(Connection connection) throws SQLException {
+        if (!"MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())) {
+            return 0L;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!rs.next()) {
+                return 0L;
+            }
+            long lag = rs.getLong("Seconds_Behind_Source");
+            return rs.wasNull() ? null : lag;
+        }
+    }
+}
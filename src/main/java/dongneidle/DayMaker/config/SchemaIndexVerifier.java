@@ -0,0 +1,127 @@
+package dongneidle.DayMaker.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 시작 시 조회 쿼리가 기대하는 인덱스가 실제 DB에 있는지 확인
+ *
+ * 인덱스 이름이 아니라 "선두 컬럼 순서(+ 유니크 여부)"로 비교하므로
+ * DB마다 자동 생성되는 제약 인덱스 이름이 달라도 판별된다.
+ * 누락 시 경고 로그, schema.index-check.fail-on-missing=true면 기동 실패.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchemaIndexVerifier {
+
+    private static final List<RequiredIndex> REQUIRED = List.of(
+            new RequiredIndex("itineraries", List.of("user_email", "created_at", "id"), false, "내 코스 목록 키셋 조회"),
+            new RequiredIndex("itineraries", List.of("user_email", "updated_at", "id"), false, "내 코스 증분 동기화"),
+            new RequiredIndex("festivals", List.of("start_date", "end_date"), false, "축제 기간 조회"),
+            new RequiredIndex("festivals", List.of("source_key"), true, "축제 일괄 적재 upsert"),
+            new RequiredIndex("stations", List.of("name"), true, "역명 조회"),
+            new RequiredIndex("itinerary_blobs", List.of("ref_count"), false, "blob GC"),
+            new RequiredIndex("revoked_tokens", List.of("expires_at"), false, "폐기 토큰 Bloom filter 재구성/정리")
+    );
+
+    private final DataSource dataSource;
+
+    @Value("${schema.index-check.enabled:true}")
+    private boolean enabled;
+
+    @Value("${schema.index-check.fail-on-missing:false}")
+    private boolean failOnMissing;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verify() {
+        if (!enabled) {
+            return;
+        }
+        List<RequiredIndex> missing = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (RequiredIndex required : REQUIRED) {
+                if (!hasIndex(metaData, connection.getCatalog(), connection.getSchema(), required)) {
+                    missing.add(required);
+                }
+            }
+        } catch (SQLException e) {
+            log.warn("인덱스 확인 실패: {}", e.getMessage());
+            return;
+        }
+
+        if (missing.isEmpty()) {
+            log.info("필수 인덱스 확인 완료 ({}개)", REQUIRED.size());
+            return;
+        }
+        missing.forEach(m -> log.warn("필수 인덱스 누락: {}({}){} - {}",
+                m.table(), String.join(", ", m.columns()), m.unique() ? " UNIQUE" : "", m.purpose()));
+        if (failOnMissing) {
+            throw new IllegalStateException("Missing required indexes: " + missing);
+        }
+    }
+
+    private boolean hasIndex(DatabaseMetaData metaData, String catalog, String schema, RequiredIndex required)
+            throws SQLException {
+        // H2는 대문자, MySQL은 소문자로 식별자를 보관
+        for (String table : List.of(required.table(), required.table().toUpperCase())) {
+            Map<String, IndexColumns> indexes = readIndexes(metaData, catalog, schema, table);
+            for (IndexColumns index : indexes.values()) {
+                if (required.unique() && !index.unique) continue;
+                if (startsWith(index.columns, required.columns())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private Map<String, IndexColumns> readIndexes(DatabaseMetaData metaData, String catalog, String schema, String table)
+            throws SQLException {
+        Map<String, IndexColumns> indexes = new TreeMap<>();
+        try (ResultSet rs = metaData.getIndexInfo(catalog, schema, table, false, false)) {
+            while (rs.next()) {
+                String name = rs.getString("INDEX_NAME");
+                String column = rs.getString("COLUMN_NAME");
+                if (name == null || column == null) continue;
+                IndexColumns index = indexes.computeIfAbsent(name, k -> new IndexColumns());
+                index.unique = !rs.getBoolean("NON_UNIQUE");
+                int position = rs.getInt("ORDINAL_POSITION");
+                while (index.columns.size() < position) index.columns.add(null);
+                index.columns.set(position - 1, column.toLowerCase());
+            }
+        }
+        return indexes;
+    }
+
+    private static boolean startsWith(List<String> actual, List<String> expected) {
+        if (actual.size() < expected.size()) return false;
+        for (int i = 0; i < expected.size(); i++) {
+            if (!expected.get(i).equals(actual.get(i))) return false;
+        }
+        return true;
+    }
+
+    private record RequiredIndex(String table, List<String> columns, boolean unique, String purpose) {
+    }
+
+    private static class IndexColumns {
+        private final List<String> columns = new ArrayList<>();
+        private boolean unique;
+    }
+}
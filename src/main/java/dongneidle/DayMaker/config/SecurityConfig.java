@@ -1,13 +1,28 @@
 package dongneidle.DayMaker.config;
 
+import dongneidle.DayMaker.security.JwtAuthenticationFilter;
+import dongneidle.DayMaker.service.TokenRevocationService;
+import dongneidle.DayMaker.util.JwtTokenProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.NegatedRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Configuration
 @EnableWebSecurity
@@ -21,18 +36,65 @@ public class SecurityConfig {
 	//같은 비밀번호라도 매번 다른 해시값 생성
 	
 	@Bean
-	public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+	public SecurityFilterChain filterChain(HttpSecurity http,
+										   JwtTokenProvider jwtTokenProvider,
+										   TokenRevocationService tokenRevocationService,
+										   @Value("${security.admin.emails:}") String adminEmails) throws Exception {
+		// 관리자 전용 경로 (적재/마이그레이션/캐시 비우기/통계, health를 제외한 actuator)
+		RequestMatcher adminEndpoints = adminEndpoints();
+		// 로그인 사용자 전용 경로 (JWT 필터도 이 경로에서만 동작)
+		RequestMatcher protectedEndpoints = new OrRequestMatcher(adminEndpoints, protectedEndpoints());
+
 		http
 			.cors(cors -> {})
 			.csrf(csrf -> csrf.disable())
 			.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 			.authorizeHttpRequests(auth -> auth
+				.requestMatchers(adminEndpoints).hasRole("ADMIN")
+				.requestMatchers(protectedEndpoints).authenticated()
 				.anyRequest().permitAll()
-			);
+			)
+			.exceptionHandling(ex -> ex
+				.authenticationEntryPoint((request, response, e) ->
+					JwtAuthenticationFilter.writeUnauthorized(response, "인증이 필요합니다."))
+				.accessDeniedHandler((request, response, e) ->
+					JwtAuthenticationFilter.writeForbidden(response, "관리자 권한이 필요합니다."))
+			)
+			.addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, tokenRevocationService, protectedEndpoints,
+					parseEmails(adminEmails)),
+				UsernamePasswordAuthenticationFilter.class);
 		
 		return http.build();
 	}
-}
 
+	private RequestMatcher adminEndpoints() {
+		PathPatternRequestMatcher.Builder path = PathPatternRequestMatcher.withDefaults();
+		return new OrRequestMatcher(
+			path.matcher("/api/admin/**"),
+			// 로드밸런서 health check는 인증 없이 허용
+			new AndRequestMatcher(
+				path.matcher("/actuator/**"),
+				new NegatedRequestMatcher(path.matcher("/actuator/health/**")))
+		);
+	}
 
+	// 쉼표로 구분한 관리자 이메일 목록 (비어 있으면 관리자 없음 → 관리자 경로는 모두 403)
+	private static Set<String> parseEmails(String emails) {
+		return Arrays.stream(emails.split(","))
+			.map(String::trim)
+			.filter(email -> !email.isEmpty())
+			.collect(Collectors.toUnmodifiableSet());
+	}
 
+	private RequestMatcher protectedEndpoints() {
+		PathPatternRequestMatcher.Builder path = PathPatternRequestMatcher.withDefaults();
+		return new OrRequestMatcher(
+			path.matcher("/api/users/me"),
+			path.matcher(HttpMethod.POST, "/api/users/logout"),
+			path.matcher(HttpMethod.POST, "/api/itineraries/save"),
+			path.matcher(HttpMethod.GET, "/api/itineraries/mine"),
+			path.matcher(HttpMethod.GET, "/api/itineraries/{id}"),
+			path.matcher(HttpMethod.DELETE, "/api/itineraries/{id}")
+		);
+	}
+}
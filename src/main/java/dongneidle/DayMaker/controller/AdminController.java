@@ -0,0 +1,152 @@
+package dongneidle.DayMaker.controller;
+
+import dongneidle.DayMaker.DTO.FestivalIngestionReport;
+import dongneidle.DayMaker.config.ReadYourWritesRouter;
+import dongneidle.DayMaker.config.ReplicaLagMonitor;
+import dongneidle.DayMaker.security.LoginAttemptThrottler;
+import dongneidle.DayMaker.service.FestivalIngestionService;
+import dongneidle.DayMaker.service.GeneratedItineraryStore;
+import dongneidle.DayMaker.service.GptCallLedger;
+import dongneidle.DayMaker.service.GptSelectionBatcher;
+import dongneidle.DayMaker.service.GptService;
+import dongneidle.DayMaker.service.ItineraryWriteBehindBuffer;
+import dongneidle.DayMaker.service.OpenAiClient;
+import dongneidle.DayMaker.service.PasswordHashingService;
+import dongneidle.DayMaker.service.TokenRevocationService;
+import dongneidle.DayMaker.util.JwtTokenProvider;
+import dongneidle.DayMaker.util.ReactiveCallLimiter;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final GptCallLedger gptCallLedger;
+    private final OpenAiClient openAiClient;
+    private final GptSelectionBatcher gptSelectionBatcher;
+    private final GptService gptService;
+    private final FestivalIngestionService festivalIngestionService;
+    private final ItineraryWriteBehindBuffer itineraryWriteBehindBuffer;
+    private final GeneratedItineraryStore generatedItineraryStore;
+    private final ObjectProvider<ReplicaLagMonitor> replicaLagMonitor;
+    private final ReadYourWritesRouter readYourWritesRouter;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final PasswordHashingService passwordHashingService;
+    private final LoginAttemptThrottler loginAttemptThrottler;
+    private final TokenRevocationService tokenRevocationService;
+    private final ReactiveCallLimiter placesCallLimiter;
+
+    @GetMapping("/gpt/ledger")
+    @Operation(summary = "GPT 호출 장부", description = "호출 지점별 토큰/대기/첫 바이트/전체 지연 히스토그램과 비용 집계")
+    public ResponseEntity<Map<String, Object>> gptLedger() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("ledger", gptCallLedger.snapshot());
+        body.put("client", openAiClient.getStats());
+        body.put("batcher", gptSelectionBatcher.getStats());
+        body.put("selection", gptService.getSelectionStats());
+        return ResponseEntity.ok(body);
+    }
+
+    @GetMapping("/gpt/ledger/recent")
+    @Operation(summary = "최근 GPT 호출", description = "최근 GPT 호출 기록 (최신순)")
+    public ResponseEntity<List<GptCallLedger.CallRecord>> recentGptCalls(
+            @RequestParam(name = "limit", defaultValue = "50") int limit) {
+        return ResponseEntity.ok(gptCallLedger.recent(limit));
+    }
+
+    @GetMapping("/upstream/places")
+    @Operation(summary = "Google Places 리액티브 호출 한도", description = "동시 호출/대기열 크기와 시작/거절/취소 횟수")
+    public ResponseEntity<Map<String, Object>> placesCallLimit() {
+        return ResponseEntity.ok(placesCallLimiter.getStats());
+    }
+
+    @GetMapping("/itineraries/write-behind")
+    @Operation(summary = "코스 저장 write-behind 상태", description = "기록 대기 건수와 누적 기록 행/배치 수")
+    public ResponseEntity<Map<String, Object>> itineraryWriteBehind() {
+        return ResponseEntity.ok(itineraryWriteBehindBuffer.getStats());
+    }
+
+    @GetMapping("/itineraries/handles")
+    @Operation(summary = "생성 코스 handle 보관소 상태", description = "보관 중인 handle 수와 저장 시 hit/miss")
+    public ResponseEntity<Map<String, Object>> itineraryHandles() {
+        return ResponseEntity.ok(generatedItineraryStore.getStats());
+    }
+
+    @GetMapping("/datasource/replica")
+    @Operation(summary = "Replica 상태", description = "읽기 분리 사용 시 replica 지연/사용 여부, primary fallback 횟수와 read-your-writes 라우팅 통계")
+    public ResponseEntity<Map<String, Object>> replicaStatus() {
+        ReplicaLagMonitor monitor = replicaLagMonitor.getIfAvailable();
+        if (monitor == null) {
+            return ResponseEntity.ok(Map.of("routingEnabled", false));
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("routingEnabled", true);
+        body.putAll(monitor.getStats());
+        body.put("readYourWrites", readYourWritesRouter.getStats());
+        return ResponseEntity.ok(body);
+    }
+
+    @GetMapping("/auth/token-cache")
+    @Operation(summary = "JWT 검증 캐시 통계", description = "검증 캐시 크기, hit/miss, 거부 및 fallback 파싱 횟수")
+    public ResponseEntity<Map<String, Object>> tokenCacheStats() {
+        return ResponseEntity.ok(jwtTokenProvider.getStats());
+    }
+
+    @GetMapping("/auth/revocation")
+    @Operation(summary = "토큰 폐기 filter 상태", description = "Bloom filter 크기와 음성/양성/확정 폐기/오탐 횟수")
+    public ResponseEntity<Map<String, Object>> tokenRevocationStats() {
+        return ResponseEntity.ok(tokenRevocationService.getStats());
+    }
+
+    @GetMapping("/auth/password-hashing")
+    @Operation(summary = "비밀번호 해시 풀 상태", description = "해시 시간/대기 시간 히스토그램, 대기열 깊이, 거절 수와 로그인 시도 제한 통계")
+    public ResponseEntity<Map<String, Object>> passwordHashingStats() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("hashing", passwordHashingService.getStats());
+        body.put("throttle", loginAttemptThrottler.getStats());
+        return ResponseEntity.ok(body);
+    }
+
+    @PostMapping("/festivals/ingest")
+    @Operation(summary = "축제 일괄 적재", description = "CSV/JSON 축제 파일을 스트리밍으로 읽어 변경된 행만 upsert")
+    public ResponseEntity<?> ingestFestivals(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(name = "format", required = false) FestivalIngestionService.Format format) {
+        FestivalIngestionService.Format resolved = format != null
+                ? format : FestivalIngestionService.Format.fromFilename(file.getOriginalFilename());
+        try (InputStream in = file.getInputStream()) {
+            FestivalIngestionReport report = festivalIngestionService.ingest(in, resolved);
+            return ResponseEntity.ok(report);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of(
+                    "success", false,
+                    "message", e.getMessage()
+            ));
+        } catch (IOException | RuntimeException e) {
+            log.error("축제 적재 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "message", "축제 파일을 읽을 수 없습니다: " + e.getMessage()
+            ));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package dongneidle.DayMaker.controller;
+
+import dongneidle.DayMaker.entity.Festival;
+import dongneidle.DayMaker.service.FestivalService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/festivals")
+@RequiredArgsConstructor
+@Slf4j
+public class FestivalController {
+
+    // 한 번에 조회 가능한 최대 기간 (일)
+    private static final long MAX_RANGE_DAYS = 366;
+
+    private final FestivalService festivalService;
+
+    /**
+     * 기간 내 진행 중인 축제 조회
+     * lat/lng가 모두 있으면 radiusKm 반경 이내로 제한 (인메모리 인덱스 조회)
+     */
+    @GetMapping
+    public ResponseEntity<?> getFestivals(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lng,
+            @RequestParam(defaultValue = "2.0") double radiusKm) {
+        LocalDate end = to != null ? to : from;
+        if (end.isBefore(from) || ChronoUnit.DAYS.between(from, end) > MAX_RANGE_DAYS) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "message", "조회 기간이 올바르지 않습니다 (최대 " + MAX_RANGE_DAYS + "일)"
+            ));
+        }
+        if (radiusKm <= 0 || radiusKm > 50) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "message", "radiusKm은 0보다 크고 50 이하여야 합니다"
+            ));
+        }
+
+        List<Festival> festivals = lat != null && lng != null
+                ? festivalService.getFestivalsNear(from, end, lat, lng, radiusKm)
+                : festivalService.getFestivalsByDateRange(from, end);
+        log.info("축제 조회: {} ~ {} (좌표: {}, {}), {}건", from, end, lat, lng, festivals.size());
+        return ResponseEntity.ok(festivals);
+    }
+}
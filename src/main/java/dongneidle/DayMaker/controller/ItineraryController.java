@@ -1,21 +1,34 @@
 package dongneidle.DayMaker.controller;
 
+import dongneidle.DayMaker.DTO.ItineraryPageResponse;
 import dongneidle.DayMaker.DTO.ItineraryRequest;
 import dongneidle.DayMaker.DTO.ItineraryResponse;
 import dongneidle.DayMaker.DTO.ItinerarySaveRequest;
-import dongneidle.DayMaker.DTO.ItinerarySummaryResponse;
+import dongneidle.DayMaker.service.ItineraryHandleExpiredException;
 import dongneidle.DayMaker.service.ItineraryService;
 import dongneidle.DayMaker.service.ItinerarySaveService;
-import dongneidle.DayMaker.util.JwtTokenProvider;
+import dongneidle.DayMaker.service.ReactiveItineraryService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import io.swagger.v3.oas.annotations.Operation;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/itineraries")
@@ -24,7 +37,7 @@ public class ItineraryController {
 
     private final ItineraryService itineraryService;
     private final ItinerarySaveService itinerarySaveService;
-    private final JwtTokenProvider jwtTokenProvider;
+    private final ReactiveItineraryService reactiveItineraryService;
 
     @PostMapping
     @Operation(summary = "여행 추천 생성", description = "입력 선호에 맞춘 장소 N개와 최적 동선 반환")
@@ -40,65 +53,75 @@ public class ItineraryController {
         return ResponseEntity.ok(response);
     }
 
+    // 리액티브 코스 생성: 요청 스레드를 바로 반납하고 upstream 응답은 이벤트 루프에서 처리 (연결 종료 시 upstream 호출 취소)
+    @PostMapping("/reactive")
+    @Operation(summary = "AI 여행 추천 생성 (non-blocking)", description = "generate와 같은 결과, Google Places/GPT 호출을 non-blocking으로 처리")
+    public Mono<ResponseEntity<ItineraryResponse>> generateItineraryReactive(@RequestBody ItineraryRequest request) {
+        return reactiveItineraryService.createItinerary(request).map(ResponseEntity::ok);
+    }
+
+    // upstream 호출 한도 대기열 초과
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<?> upstreamSaturated(RejectedExecutionException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("success", false, "message", "요청이 많아 잠시 후 다시 시도해주세요."));
+    }
+
     ////저장기능
-    @PostMapping("/save")//코스 저장 → 생성된 코스 id 반환
+    @PostMapping("/save")//코스 저장 → 생성된 코스 id 반환 (handle + title만 보내도 됨)
     public ResponseEntity<?> save(
-            @org.springframework.web.bind.annotation.RequestHeader(value = "Authorization", required = false) String authorization,
+            @AuthenticationPrincipal String email,
             @RequestBody ItinerarySaveRequest request) {
-        String email = extractEmailFromAuth(authorization);
-        if (email == null) {
-            return ResponseEntity.status(org.springframework.http.HttpStatus.UNAUTHORIZED)
-                    .body(java.util.Map.of("success", false, "message", "인증이 필요합니다."));
-        }
         request.setUserEmail(email);
-        Long id = itinerarySaveService.save(request);
-        return ResponseEntity.ok(id);
+        try {
+            Long id = itinerarySaveService.save(request);
+            return ResponseEntity.ok(id);
+        } catch (ItineraryHandleExpiredException e) {
+            // handle 만료 → 클라이언트는 다시 생성하거나 전체 payload로 저장
+            return ResponseEntity.status(HttpStatus.GONE)
+                    .body(Map.of("success", false, "message", e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            // 제목 길이 초과 등 잘못된 요청
+            return ResponseEntity.badRequest()
+                    .body(Map.of("success", false, "message", e.getMessage()));
+        }
     }
 
-    @GetMapping("/mine")//내 코스 목록 요약 반환
-    public ResponseEntity<?> myList(@org.springframework.web.bind.annotation.RequestHeader(value = "Authorization", required = false) String authorization) {
-        String email = extractEmailFromAuth(authorization);
-        if (email == null) {
-            return ResponseEntity.status(org.springframework.http.HttpStatus.UNAUTHORIZED)
-                    .body(java.util.Map.of("success", false, "message", "인증이 필요합니다."));
+    @GetMapping("/mine")//내 코스 목록 요약 반환 (키셋 페이지, since 지정 시 변경분만)
+    @Operation(summary = "내 코스 목록", description = "cursor/size로 최신순 페이지 조회, since 지정 시 이후 생성·변경된 코스만 반환")
+    public ResponseEntity<?> myList(
+            @AuthenticationPrincipal String email,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "since", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
+        try {
+            ItineraryPageResponse page = itinerarySaveService.listPage(email, cursor, size, since);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("success", false, "message", "잘못된 커서입니다."));
         }
-        java.util.List<ItinerarySummaryResponse> list = itinerarySaveService.listByUser(email);
-        return ResponseEntity.ok(list);
     }
 
     @GetMapping("/{id}")//코스 상세(ItineraryResponse) 반환
     public ResponseEntity<?> detail(
-            @org.springframework.web.bind.annotation.RequestHeader(value = "Authorization", required = false) String authorization,
+            @AuthenticationPrincipal String email,
             @PathVariable("id") Long id) {
-        String email = extractEmailFromAuth(authorization);
-        if (email == null) {
-            return ResponseEntity.status(org.springframework.http.HttpStatus.UNAUTHORIZED)
-                    .body(java.util.Map.of("success", false, "message", "인증이 필요합니다."));
-        }
         ItineraryResponse detail = itinerarySaveService.getDetail(id, email);
         return ResponseEntity.ok(detail);
     }
 
-    private String extractEmailFromAuth(String authorization) {
-        if (authorization == null || authorization.isBlank()) return null;
-        String value = authorization.trim();
-        // 허용: 'Bearer xxx', 'bearer xxx', 'xxx' (접두어 없이 바로 토큰), 따옴표 포함 케이스
-        String token;
-        if (value.regionMatches(true, 0, "Bearer ", 0, 7)) {
-            token = value.substring(7).trim();
-        } else {
-            token = value;
-        }
-        // 양 끝 따옴표 제거
-        if ((token.startsWith("\"") && token.endsWith("\"")) || (token.startsWith("'") && token.endsWith("'"))) {
-            token = token.substring(1, token.length() - 1);
+    @DeleteMapping("/{id}")//코스 삭제
+    @Operation(summary = "코스 삭제", description = "본인이 저장한 코스 삭제")
+    public ResponseEntity<?> delete(
+            @AuthenticationPrincipal String email,
+            @PathVariable("id") Long id) {
+        if (!itinerarySaveService.delete(id, email)) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("success", false, "message", "코스를 찾을 수 없습니다."));
         }
-        // 매우 기본적인 JWT 형태 검사(.
-        int dotCount = (int) token.chars().filter(c -> c == '.').count();
-        if (dotCount != 2) return null;
-        String email = jwtTokenProvider.validateAndGetEmail(token);
-        return email;
+        return ResponseEntity.ok(Map.of("success", true));
     }
 }
-
-
@@ -1,8 +1,11 @@
 package dongneidle.DayMaker.controller;
 
+import dongneidle.DayMaker.DTO.NearestStationResponse;
+import dongneidle.DayMaker.DTO.StationCourseResult;
 import dongneidle.DayMaker.DTO.StationRequest;
 import dongneidle.DayMaker.entity.Station;
 import dongneidle.DayMaker.service.StationBasedCourseService;
+import dongneidle.DayMaker.service.StationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -19,6 +22,7 @@ import java.util.Optional;
 public class StationController {
 
     private final StationBasedCourseService stationBasedCourseService;
+    private final StationRegistry stationRegistry;
 
     /**
      * 사용 가능한 모든 역 목록 조회
@@ -36,26 +40,9 @@ public class StationController {
     @GetMapping("/{stationName}")
     public ResponseEntity<Station> getStationByName(@PathVariable String stationName) {
         log.info("역 정보 조회 요청: {}", stationName);
-        log.info("요청된 역명 길이: {}", stationName.length());
-        log.info("요청된 역명 바이트: {}", java.util.Arrays.toString(stationName.getBytes()));
-        
-        // 모든 역 목록을 먼저 로그로 확인
-        List<Station> allStations = stationBasedCourseService.getAvailableStations();
-        log.info("전체 역 목록: {}", allStations.stream().map(Station::getName).toList());
-        log.info("전체 역 개수: {}", allStations.size());
-        
-        // 각 역의 상세 정보도 로그로 확인
-        for (Station station : allStations) {
-            log.info("역 정보 - ID: {}, 이름: '{}', 길이: {}, 바이트: {}", 
-                station.getId(), 
-                station.getName(), 
-                station.getName().length(),
-                java.util.Arrays.toString(station.getName().getBytes()));
-        }
         
         Optional<Station> stationOpt = stationBasedCourseService.getStationByName(stationName);
         if (stationOpt.isPresent()) {
-            log.info("찾은 역: {}", stationOpt.get().getName());
             return ResponseEntity.ok(stationOpt.get());
         } else {
             log.warn("역을 찾을 수 없음: '{}'", stationName);
@@ -63,6 +50,27 @@ public class StationController {
         }
     }
 
+    /**
+     * 좌표 기준 가까운 역 조회 (k-d 트리)
+     */
+    @GetMapping("/nearest")
+    public ResponseEntity<List<NearestStationResponse>> getNearestStations(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(name = "k", defaultValue = "1") int k) {
+        int limit = Math.max(1, Math.min(k, 20));
+        List<NearestStationResponse> result = stationRegistry.findNearest(lat, lng, limit).stream()
+                .map(n -> NearestStationResponse.builder()
+                        .name(n.item().getName())
+                        .line(n.item().getLine())
+                        .latitude(n.item().getLatitude())
+                        .longitude(n.item().getLongitude())
+                        .distanceKm(n.distanceKm())
+                        .build())
+                .toList();
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * 선택된 역을 기준으로 코스 추천
      */
@@ -78,12 +86,14 @@ public class StationController {
                 ));
             }
             
-            String courseRecommendation = stationBasedCourseService.recommendCourseFromStation(request);
+            StationCourseResult result = stationBasedCourseService.getCourse(request);
             
             return ResponseEntity.ok(Map.of(
                 "success", true,
                 "message", "코스 추천이 완료되었습니다.",
-                "data", courseRecommendation
+                "data", result.getCourse(),
+                "computedAt", result.getComputedAt(),
+                "materialized", result.isMaterialized()
             ));
             
         } catch (Exception e) {
@@ -3,16 +3,24 @@ package dongneidle.DayMaker.controller;
 import dongneidle.DayMaker.DTO.UserProfileResponse;
 import dongneidle.DayMaker.DTO.UserLoginRequest;
 import dongneidle.DayMaker.DTO.UserRegisterRequest;
+import dongneidle.DayMaker.security.AuthThrottledException;
+import dongneidle.DayMaker.service.TokenRevocationService;
 import dongneidle.DayMaker.service.UserService;
-import dongneidle.DayMaker.util.JwtTokenProvider;
+import dongneidle.DayMaker.util.JwtTokenProvider.VerifiedToken;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import io.swagger.v3.oas.annotations.Operation;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("/api/users")
@@ -21,74 +29,89 @@ import java.util.Map;
 public class UserController {
 
     private final UserService userService;
-    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
 
-    // 회원가입
+    // 회원가입 (비밀번호 해시는 전용 풀에서 처리되고 요청 스레드는 반환됨)
     @PostMapping("/register")
     @Operation(summary = "회원가입", description = "간단한 데모용 회원가입")
-    public ResponseEntity<?> register(@RequestBody UserRegisterRequest request) {
-        try {
-            log.info("회원가입 요청 받음: email={}, nickname={}", request.getEmail(), request.getNickname());
-            
-            if (request.getEmail() == null || request.getEmail().trim().isEmpty()) {
-                return ResponseEntity.badRequest().body(Map.of("success", false, "message", "이메일은 필수입니다."));
-            }
-            
-            if (request.getPassword() == null || request.getPassword().trim().isEmpty()) {
-                return ResponseEntity.badRequest().body(Map.of("success", false, "message", "비밀번호는 필수입니다."));
-            }
-            
-            if (request.getNickname() == null || request.getNickname().trim().isEmpty()) {
-                return ResponseEntity.badRequest().body(Map.of("success", false, "message", "닉네임은 필수입니다."));
-            }
-            
-            String result = userService.register(request);
-            boolean success = result.startsWith("회원가입 완료");
-            
-            log.info("회원가입 결과: {}", result);
-            
-            return ResponseEntity.ok(Map.of(
-                    "success", success,
-                    "message", result
-            ));
-        } catch (Exception e) {
-            log.error("회원가입 중 오류 발생", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(Map.of("success", false, "message", "서버 오류가 발생했습니다: " + e.getMessage()));
+    public CompletableFuture<ResponseEntity<?>> register(@RequestBody UserRegisterRequest request,
+                                                         HttpServletRequest httpRequest) {
+        log.info("회원가입 요청 받음: email={}, nickname={}", request.getEmail(), request.getNickname());
+
+        if (request.getEmail() == null || request.getEmail().trim().isEmpty()) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(Map.of("success", false, "message", "이메일은 필수입니다.")));
+        }
+
+        if (request.getPassword() == null || request.getPassword().trim().isEmpty()) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(Map.of("success", false, "message", "비밀번호는 필수입니다.")));
+        }
+
+        if (request.getNickname() == null || request.getNickname().trim().isEmpty()) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(Map.of("success", false, "message", "닉네임은 필수입니다.")));
         }
+
+        return userService.register(request, clientIp(httpRequest))
+                .<ResponseEntity<?>>thenApply(result -> {
+                    boolean success = result.startsWith("회원가입 완료");
+                    log.info("회원가입 결과: {}", result);
+                    return ResponseEntity.ok(Map.of(
+                            "success", success,
+                            "message", result
+                    ));
+                })
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    log.error("회원가입 중 오류 발생", cause);
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body(Map.of("success", false, "message", "서버 오류가 발생했습니다: " + cause.getMessage()));
+                });
     }
 
     // 로그인
     @PostMapping("/login")
     @Operation(summary = "로그인", description = "간단한 데모용 로그인")
-    public ResponseEntity<?> login(@RequestBody UserLoginRequest request) {
-        var result = userService.login(request);
-        HttpStatus status = result.isSuccess() ? HttpStatus.OK : HttpStatus.UNAUTHORIZED;
-        return ResponseEntity.status(status).body(result);
+    public CompletableFuture<ResponseEntity<?>> login(@RequestBody UserLoginRequest request,
+                                                      HttpServletRequest httpRequest) {
+        return userService.login(request, clientIp(httpRequest))
+                .thenApply(result -> {
+                    HttpStatus status = result.isSuccess() ? HttpStatus.OK : HttpStatus.UNAUTHORIZED;
+                    return ResponseEntity.status(status).body(result);
+                });
+    }
+
+    // 로그아웃: 현재 토큰 폐기 (이후 같은 토큰은 401)
+    @PostMapping("/logout")
+    @Operation(summary = "로그아웃", description = "요청에 사용한 JWT를 만료 전까지 사용할 수 없도록 폐기")
+    public ResponseEntity<?> logout(Authentication authentication) {
+        if (!(authentication.getDetails() instanceof VerifiedToken token) || !tokenRevocationService.revoke(token)) {
+            return ResponseEntity.badRequest().body(Map.of("success", false, "message", "폐기할 수 없는 토큰입니다. 다시 로그인해주세요."));
+        }
+        log.info("로그아웃: {}", token.email());
+        return ResponseEntity.ok(Map.of("success", true, "message", "로그아웃 완료"));
+    }
+
+    // 시도 횟수 초과 또는 해시 대기열 포화
+    @ExceptionHandler(AuthThrottledException.class)
+    public ResponseEntity<?> throttled(AuthThrottledException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(Map.of("success", false, "message", e.getMessage()));
     }
 
     // 내 프로필 조회
     @GetMapping("/me")
     @Operation(summary = "내 프로필", description = "JWT의 이메일을 이용해 프로필 조회")
-    public ResponseEntity<?> me(
-            @RequestHeader(value = "Authorization", required = false) String authorization
-    ) {
-        if (authorization == null || authorization.isBlank()) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("success", false, "message", "인증이 필요합니다."));
-        }
-        String value = authorization.trim();
-        String token = value.regionMatches(true, 0, "Bearer ", 0, 7) ? value.substring(7).trim() : value;
-        if ((token.startsWith("\"") && token.endsWith("\"")) || (token.startsWith("'") && token.endsWith("'"))) {
-            token = token.substring(1, token.length() - 1);
-        }
-        String email = jwtTokenProvider.validateAndGetEmail(token);
-        if (email == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("success", false, "message", "토큰이 유효하지 않습니다."));
-        }
+    public ResponseEntity<?> me(@AuthenticationPrincipal String email) {
         UserProfileResponse profile = userService.getProfileByEmail(email);
         if (profile == null) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("success", false, "message", "사용자를 찾을 수 없습니다."));
         }
         return ResponseEntity.ok(profile);
     }
+
+    // IP별 시도 제한 키: 프록시 뒤에서는 RemoteIpValve(server.forward-headers-strategy)가
+    // 신뢰하는 프록시의 X-Forwarded-For에서 꺼낸 클라이언트 IP (프록시 주소가 아님)
+    private static String clientIp(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
 }
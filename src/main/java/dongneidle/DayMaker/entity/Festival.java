@@ -6,7 +6,10 @@ import lombok.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "festivals")
+@Table(name = "festivals",
+       uniqueConstraints = @UniqueConstraint(name = "uk_festivals_source_key", columnNames = "source_key"),
+       indexes = @Index(name = "idx_festivals_dates", columnList = "start_date, end_date"))
+@EntityListeners(FestivalChangeListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -27,5 +30,11 @@ public class Festival {
     private String imageUrl;       // 축제 이미지
     private String category;       // 축제 카테고리 (문화, 음식, 전통 등)
     private String address;        // 상세 주소
+
+    @Column(name = "source_key")
+    private String sourceKey;      // 적재 원본 기준 자연 키 (일괄 적재 upsert 기준)
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;    // 적재 필드 SHA-256 (변경 없는 행 건너뛰기)
 }
 
@@ -0,0 +1,24 @@
+package dongneidle.DayMaker.entity;
+
+import dongneidle.DayMaker.service.FestivalIndex;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+// Festival 변경 시 FestivalIndex 재구성 이벤트 발행 (커밋 후 처리)
+@Component
+@RequiredArgsConstructor
+public class FestivalChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Festival festival) {
+        eventPublisher.publishEvent(new FestivalIndex.FestivalsChangedEvent());
+    }
+}
@@ -0,0 +1,21 @@
+package dongneidle.DayMaker.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "id_sequences")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdSequence {
+    // 애플리케이션 블록 할당 id 시퀀스 (이름별 다음 할당 시작값)
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(name = "next_val", nullable = false)
+    private Long nextVal;
+}
@@ -1,10 +1,11 @@
 package dongneidle.DayMaker.entity;
 
+import jakarta.persistence.Basic;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Lob;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -12,11 +13,15 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.LazyGroup;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "itineraries")
+@Table(name = "itineraries", indexes = {
+		@Index(name = "idx_itineraries_user_created", columnList = "user_email, created_at DESC, id"),
+		@Index(name = "idx_itineraries_user_updated", columnList = "user_email, updated_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -24,10 +29,11 @@ import java.time.LocalDateTime;
 @Builder
 public class Itinerary {
 //  저장된 코스 한 건을 표현
-// 필드: id, userEmail, title, requestJson(요청 DTO 원본), responseJson(추천 결과 원본), createdAt
-// 코스 생성 당시의 입력/결과를 그대로 JSON으로 보존해 재현 가능
+// 필드: id, userEmail, title, requestHash/responseHash(ItineraryBlob 참조), createdAt, updatedAt
+// 코스 생성 당시의 입력/결과를 그대로 보존해 재현 가능 (같은 내용은 blob 한 건을 공유)
+// requestJson/responseJson은 이전 저장 형식 (ItineraryPayloadMigrator가 blob으로 옮긴 뒤 null)
+	// ItineraryIdAllocator가 insert 전에 할당 (write-behind 저장은 DB 기록 전에 id를 돌려줌)
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
 
 	@Column(nullable = false)
@@ -36,16 +42,31 @@ public class Itinerary {
 	@Column(nullable = false)
 	private String title;
 
+	// payload는 목록 조회에서 읽지 않도록 지연 로딩 (바이트코드 enhancement 필요, build.gradle hibernate 플러그인)
+	// 그룹을 나눠 상세 조회 시 응답 쪽만 따로 읽음
 	@Lob
-	@Column(nullable = false)
+	@Basic(fetch = FetchType.LAZY)
+	@LazyGroup("request")
 	private String requestJson;
 
 	@Lob
-	@Column(nullable = false)
+	@Basic(fetch = FetchType.LAZY)
+	@LazyGroup("response")
 	private String responseJson;
 
+	// ItineraryBlob.hash 참조 (정규화 JSON SHA-256)
+	@Column(length = 64)
+	private String requestHash;
+
+	@Column(length = 64)
+	private String responseHash;
+
 	@Column(nullable = false)
 	private LocalDateTime createdAt;
+
+	// 생성/변경 시각 (클라이언트 증분 동기화 기준)
+	@Column(nullable = false)
+	private LocalDateTime updatedAt;
 }
 
 
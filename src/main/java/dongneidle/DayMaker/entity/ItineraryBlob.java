@@ -0,0 +1,35 @@
+package dongneidle.DayMaker.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "itinerary_blobs",
+        indexes = @Index(name = "idx_itinerary_blobs_ref_count", columnList = "ref_count"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ItineraryBlob {
+    // 저장 코스 payload 본문 (정규화한 JSON의 SHA-256으로 주소 지정, 같은 내용은 한 행만 저장)
+    @Id
+    @Column(length = 64)
+    private String hash;          // 정규화 JSON SHA-256 (hex)
+
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @Column(nullable = false)
+    private byte[] data;          // ItineraryPayloadCodec 인코딩 본문
+
+    @Column(nullable = false)
+    private Integer encoding;     // data 인코딩 버전
+
+    @Column(name = "ref_count", nullable = false)
+    private Long refCount;        // 이 blob을 참조하는 Itinerary 컬럼 수 (0이면 GC 대상)
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
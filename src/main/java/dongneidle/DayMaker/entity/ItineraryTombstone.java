@@ -0,0 +1,26 @@
+package dongneidle.DayMaker.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "itinerary_tombstones",
+       indexes = @Index(name = "idx_itinerary_tombstones_user_deleted", columnList = "user_email, deleted_at, id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ItineraryTombstone {
+    // 삭제된 코스 id (증분 동기화로 삭제를 전달, 보관 기간이 지나면 행 삭제)
+    @Id
+    private Long id;
+
+    @Column(name = "user_email", nullable = false)
+    private String userEmail;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+}
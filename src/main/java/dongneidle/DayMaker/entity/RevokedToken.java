@@ -0,0 +1,30 @@
+package dongneidle.DayMaker.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "revoked_tokens",
+       indexes = @Index(name = "idx_revoked_tokens_expires", columnList = "expires_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RevokedToken {
+    // 폐기된 JWT의 jti (토큰 만료 시각이 지나면 행 삭제)
+    @Id
+    @Column(length = 36)
+    private String jti;
+
+    @Column(name = "user_email", nullable = false)
+    private String userEmail;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+}
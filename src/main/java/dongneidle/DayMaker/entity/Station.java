@@ -4,7 +4,9 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "stations")
+@Table(name = "stations",
+       uniqueConstraints = @UniqueConstraint(name = "uk_stations_name", columnNames = "name"))
+@EntityListeners(StationChangeListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -15,7 +17,7 @@ public class Station {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String name; // 역명 (명학, 안양, 관악, 석수, 범계, 평촌, 인덕원)
     
     @Column(nullable = false)
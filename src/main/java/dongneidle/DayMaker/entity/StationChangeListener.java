@@ -0,0 +1,24 @@
+package dongneidle.DayMaker.entity;
+
+import dongneidle.DayMaker.service.StationRegistry;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+// Station 변경 시 StationRegistry 재적재 이벤트 발행 (커밋 후 처리)
+@Component
+@RequiredArgsConstructor
+public class StationChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Station station) {
+        eventPublisher.publishEvent(new StationRegistry.StationsChangedEvent());
+    }
+}
@@ -0,0 +1,38 @@
+package dongneidle.DayMaker.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "station_courses",
+        uniqueConstraints = @UniqueConstraint(name = "uk_station_courses_key",
+                columnNames = {"station_name", "culture_type", "food_key"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StationCourse {
+    // 역 기준 추천 코스 사전 계산 결과 (역, 문화 타입, 음식 타입 조합별 1건)
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String stationName;   // 역명
+
+    @Column(nullable = false)
+    private String cultureType;   // 문화 타입 (없으면 빈 문자열)
+
+    @Column(nullable = false)
+    private String foodKey;       // 정렬된 음식 타입 목록 (예: "카페,한식")
+
+    @Lob
+    @Column(nullable = false)
+    private String course;        // 추천 코스 본문
+
+    @Column(nullable = false)
+    private LocalDateTime computedAt; // 계산 시각 (신선도)
+}
@@ -0,0 +1,15 @@
+package dongneidle.DayMaker.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum GptCallSite {
+    ITINERARY("ItineraryService"),
+    STATION_COURSE("StationBasedCourseService"),
+    BATCHED("GptSelectionBatcher(mixed)"),
+    UNKNOWN("unknown");
+
+    private final String displayName;
+}
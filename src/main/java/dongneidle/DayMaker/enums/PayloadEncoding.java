@@ -0,0 +1,24 @@
+package dongneidle.DayMaker.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 저장 payload 앞 1바이트 버전 (한 번 쓰인 값은 바꾸지 않음)
+@Getter
+@RequiredArgsConstructor
+public enum PayloadEncoding {
+    JSON((byte) 0),           // UTF-8 JSON
+    SMILE((byte) 1),          // Jackson Smile (바이너리 JSON)
+    SMILE_DEFLATE((byte) 2);  // Smile + Deflate 압축
+
+    private final byte version;
+
+    public static PayloadEncoding fromVersion(byte version) {
+        for (PayloadEncoding encoding : values()) {
+            if (encoding.version == version) {
+                return encoding;
+            }
+        }
+        throw new IllegalArgumentException("Unknown payload version: " + version);
+    }
+}
@@ -5,11 +5,14 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
 
+// 조회 전용 (읽기 분리 시 replica 사용), save 등 쓰기는 SimpleJpaRepository 설정을 따름
 @Repository
+@Transactional(readOnly = true)
 public interface FestivalRepository extends JpaRepository<Festival, Long> {
     
     @Query("SELECT f FROM Festival f WHERE f.startDate <= :date AND f.endDate >= :date")
@@ -0,0 +1,55 @@
+package dongneidle.DayMaker.repository;
+
+import dongneidle.DayMaker.entity.ItineraryBlob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ItineraryBlobRepository extends JpaRepository<ItineraryBlob, String> {
+
+    // 참조 수 원자적 증감 (영향받은 행 수 반환)
+    @Modifying
+    @Query("UPDATE ItineraryBlob b SET b.refCount = b.refCount + 1 WHERE b.hash = :hash")
+    int incrementRefCount(@Param("hash") String hash);
+
+    @Modifying
+    @Query("UPDATE ItineraryBlob b SET b.refCount = b.refCount - 1 WHERE b.hash = :hash AND b.refCount > 0")
+    int decrementRefCount(@Param("hash") String hash);
+
+    // 참조가 없는 blob 삭제 (조건을 DELETE 문에서 다시 확인하므로 동시 증가와 경합하지 않음)
+    @Modifying
+    @Query("DELETE FROM ItineraryBlob b WHERE b.refCount <= 0")
+    int deleteUnreferenced();
+
+    // 현재 설정과 다른 인코딩으로 저장된 blob
+    @Query("SELECT b.hash FROM ItineraryBlob b WHERE b.encoding <> :encoding ORDER BY b.hash")
+    List<String> findHashesWithEncodingOtherThan(@Param("encoding") Integer encoding, Pageable pageable);
+
+    // 재인코딩용 본문 조회 (엔티티를 영속 상태로 올리지 않음 → ref_count를 다시 쓰지 않음)
+    @Query("SELECT b.hash AS hash, b.data AS data, b.encoding AS encoding FROM ItineraryBlob b WHERE b.hash IN :hashes")
+    List<EncodedBlob> findEncodedByHashIn(@Param("hashes") Collection<String> hashes);
+
+    // 본문/인코딩만 교체 (읽은 뒤 다른 작업이 이미 바꿨으면 0 반환, ref_count는 건드리지 않음)
+    @Modifying
+    @Query("UPDATE ItineraryBlob b SET b.data = :data, b.encoding = :encoding " +
+           "WHERE b.hash = :hash AND b.encoding = :previousEncoding")
+    int updateEncoding(@Param("hash") String hash,
+                       @Param("data") byte[] data,
+                       @Param("encoding") Integer encoding,
+                       @Param("previousEncoding") Integer previousEncoding);
+
+    interface EncodedBlob {
+        String getHash();
+
+        byte[] getData();
+
+        Integer getEncoding();
+    }
+}
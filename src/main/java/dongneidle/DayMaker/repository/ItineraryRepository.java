@@ -1,15 +1,54 @@
 package dongneidle.DayMaker.repository;
 
+import dongneidle.DayMaker.DTO.ItinerarySummaryResponse;
 import dongneidle.DayMaker.entity.Itinerary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface ItineraryRepository extends JpaRepository<Itinerary, Long> {
-	List<Itinerary> findByUserEmailOrderByCreatedAtDesc(String userEmail);
 	Optional<Itinerary> findByIdAndUserEmail(Long id, String userEmail);
+
+	// 키셋 첫 페이지 (최신순, 요약 컬럼만)
+	@Query("SELECT new dongneidle.DayMaker.DTO.ItinerarySummaryResponse(i.id, i.title, i.createdAt, i.updatedAt) "
+			+ "FROM Itinerary i WHERE i.userEmail = :userEmail ORDER BY i.createdAt DESC, i.id DESC")
+	List<ItinerarySummaryResponse> findFirstPage(@Param("userEmail") String userEmail, Pageable pageable);
+
+	// 키셋 다음 페이지: (createdAt, id)가 커서보다 이전인 행
+	@Query("SELECT new dongneidle.DayMaker.DTO.ItinerarySummaryResponse(i.id, i.title, i.createdAt, i.updatedAt) "
+			+ "FROM Itinerary i WHERE i.userEmail = :userEmail "
+			+ "AND (i.createdAt < :createdAt OR (i.createdAt = :createdAt AND i.id < :id)) "
+			+ "ORDER BY i.createdAt DESC, i.id DESC")
+	List<ItinerarySummaryResponse> findPageBefore(@Param("userEmail") String userEmail,
+												  @Param("createdAt") LocalDateTime createdAt,
+												  @Param("id") Long id,
+												  Pageable pageable);
+
+	// 아직 blob으로 옮기지 않은(이전 저장 형식) 행 id, afterId 이후부터
+	@Query("SELECT i.id FROM Itinerary i WHERE i.id > :afterId AND i.responseHash IS NULL ORDER BY i.id")
+	List<Long> findIdsWithoutBlobs(@Param("afterId") Long afterId, Pageable pageable);
+
+	// 증분 동기화: (updatedAt, id)가 기준보다 이후인 행 (오래된 변경부터)
+	@Query("SELECT new dongneidle.DayMaker.DTO.ItinerarySummaryResponse(i.id, i.title, i.createdAt, i.updatedAt) "
+			+ "FROM Itinerary i WHERE i.userEmail = :userEmail "
+			+ "AND (i.updatedAt > :updatedAt OR (i.updatedAt = :updatedAt AND i.id > :id)) "
+			+ "ORDER BY i.updatedAt ASC, i.id ASC")
+	List<ItinerarySummaryResponse> findChangedAfter(@Param("userEmail") String userEmail,
+													@Param("updatedAt") LocalDateTime updatedAt,
+													@Param("id") Long id,
+													Pageable pageable);
+
+	// 증분 동기화 기준 시각: 유저 코스 중 마지막 생성/변경 시각
+	@Query("SELECT MAX(i.updatedAt) FROM Itinerary i WHERE i.userEmail = :userEmail")
+	LocalDateTime findLatestUpdatedAt(@Param("userEmail") String userEmail);
 }
 // 코스 CRUD
-// findByUserEmailOrderByCreatedAtDesc(String): 유저별 코스 목록(최신순) 조회
+// findByIdAndUserEmail(Long, String): 본인 코스 단건 조회
+// findFirstPage/findPageBefore: (createdAt, id) 키셋 요약 페이지 (JSON LOB 컬럼은 읽지 않음), findChangedAfter: (updatedAt, id) 증분 동기화
+// findLatestUpdatedAt(String): 증분 동기화 syncedAt 기준 (마지막 변경 시각)
 
@@ -0,0 +1,25 @@
+package dongneidle.DayMaker.repository;
+
+import dongneidle.DayMaker.entity.ItineraryTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ItineraryTombstoneRepository extends JpaRepository<ItineraryTombstone, Long> {
+
+    // 증분 동기화: deletedAt이 기준 이후인 삭제 기록 (오래된 삭제부터)
+    @Query("SELECT t FROM ItineraryTombstone t WHERE t.userEmail = :userEmail AND t.deletedAt > :after "
+            + "ORDER BY t.deletedAt ASC, t.id ASC")
+    List<ItineraryTombstone> findDeletedAfter(@Param("userEmail") String userEmail,
+                                              @Param("after") LocalDateTime after);
+
+    @Modifying
+    @Query("DELETE FROM ItineraryTombstone t WHERE t.deletedAt <= :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
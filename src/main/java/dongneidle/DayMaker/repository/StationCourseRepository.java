@@ -0,0 +1,18 @@
+package dongneidle.DayMaker.repository;
+
+import dongneidle.DayMaker.entity.StationCourse;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StationCourseRepository extends JpaRepository<StationCourse, Long> {
+
+    Optional<StationCourse> findByStationNameAndCultureTypeAndFoodKey(String stationName, String cultureType, String foodKey);
+
+    // 오래된 순으로 갱신 대상 조회
+    List<StationCourse> findByComputedAtBeforeOrderByComputedAtAsc(LocalDateTime threshold);
+}
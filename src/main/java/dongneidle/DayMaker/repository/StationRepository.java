@@ -5,15 +5,19 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 
+// 조회 전용 (읽기 분리 시 replica 사용), save 등 쓰기는 SimpleJpaRepository 설정을 따름
 @Repository
+@Transactional(readOnly = true)
 public interface StationRepository extends JpaRepository<Station, Long> {
     
     @Query("SELECT s FROM Station s WHERE s.name = :name")
     Optional<Station> findByName(@Param("name") String name);
     
+    // StationRegistry 다시 읽기용
     List<Station> findAllByOrderByName();
 }
@@ -0,0 +1,17 @@
+package dongneidle.DayMaker.security;
+
+import lombok.Getter;
+
+/**
+ * 로그인/회원가입 요청을 지금 처리할 수 없음 (시도 횟수 초과 또는 해시 대기열 포화) → 429 + Retry-After
+ */
+@Getter
+public class AuthThrottledException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public AuthThrottledException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = Math.max(1, retryAfterSeconds);
+    }
+}
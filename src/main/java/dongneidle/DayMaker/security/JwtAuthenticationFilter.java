@@ -0,0 +1,124 @@
+package dongneidle.DayMaker.security;
+
+import dongneidle.DayMaker.service.TokenRevocationService;
+import dongneidle.DayMaker.util.JwtTokenProvider;
+import dongneidle.DayMaker.util.JwtTokenProvider.VerifiedToken;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Authorization 헤더의 JWT를 요청당 한 번 검증해 SecurityContext에 이메일 principal로 넣는다.
+ * 컨트롤러는 {@code @AuthenticationPrincipal String email}로 받고, 검증 결과(VerifiedToken)는 Authentication details에 둔다.
+ * 폐기된(로그아웃한) 토큰은 Bloom filter 확인 후 거부한다.
+ * 관리자 이메일(security.admin.emails)이면 ROLE_ADMIN 권한을 붙인다 (/api/admin/** 인가에 사용).
+ *
+ * 인증이 필요한 경로(protectedEndpoints)만 처리하고 공개 경로는 헤더를 보지 않는다.
+ * 토큰이 있는데 유효하지 않으면 비즈니스 로직 전에 바로 401, 토큰이 없으면 인가 단계에서 401.
+ * (SecurityConfig에서 직접 생성: @Component로 등록하면 서블릿 필터로도 한 번 더 등록됨)
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final List<GrantedAuthority> ADMIN_AUTHORITIES = AuthorityUtils.createAuthorityList("ROLE_ADMIN");
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
+    private final RequestMatcher protectedEndpoints;
+    private final Set<String> adminEmails;
+
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
+                                   TokenRevocationService tokenRevocationService,
+                                   RequestMatcher protectedEndpoints,
+                                   Set<String> adminEmails) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.tokenRevocationService = tokenRevocationService;
+        this.protectedEndpoints = protectedEndpoints;
+        this.adminEmails = Set.copyOf(adminEmails);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !protectedEndpoints.matches(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String token = extractToken(request.getHeader(HttpHeaders.AUTHORIZATION));
+        if (token != null) {
+            VerifiedToken verified = jwtTokenProvider.verify(token);
+            if (verified == null) {
+                writeUnauthorized(response, "토큰이 유효하지 않습니다.");
+                return;
+            }
+            if (tokenRevocationService.isRevoked(verified)) {
+                writeUnauthorized(response, "로그아웃된 토큰입니다.");
+                return;
+            }
+            UsernamePasswordAuthenticationToken authentication = UsernamePasswordAuthenticationToken.authenticated(
+                    verified.email(), null,
+                    adminEmails.contains(verified.email()) ? ADMIN_AUTHORITIES : AuthorityUtils.NO_AUTHORITIES);
+            authentication.setDetails(verified);
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(authentication);
+            SecurityContextHolder.setContext(context);
+        }
+        chain.doFilter(request, response);
+    }
+
+    /**
+     * 허용 형태: 'Bearer xxx', 'bearer xxx', 'xxx' (접두어 없이 바로 토큰), 양 끝 따옴표 포함
+     */
+    static String extractToken(String authorization) {
+        if (authorization == null || authorization.isBlank()) return null;
+        String token = authorization.trim();
+        if (token.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            token = token.substring(BEARER_PREFIX.length()).trim();
+        }
+        if (token.length() >= 2) {
+            char first = token.charAt(0);
+            char last = token.charAt(token.length() - 1);
+            if ((first == '"' && last == '"') || (first == '\'' && last == '\'')) {
+                token = token.substring(1, token.length() - 1);
+            }
+        }
+        return token.isEmpty() ? null : token;
+    }
+
+    /**
+     * 컨트롤러 오류 응답과 같은 형태의 401 본문
+     */
+    public static void writeUnauthorized(HttpServletResponse response, String message) throws IOException {
+        writeError(response, HttpStatus.UNAUTHORIZED, message);
+    }
+
+    /**
+     * 로그인했지만 권한이 없는 경우 (관리자 전용 경로)
+     */
+    public static void writeForbidden(HttpServletResponse response, String message) throws IOException {
+        writeError(response, HttpStatus.FORBIDDEN, message);
+    }
+
+    private static void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write("{\"success\":false,\"message\":\"" + message + "\"}");
+    }
+}
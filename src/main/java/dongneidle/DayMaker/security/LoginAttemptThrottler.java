@@ -0,0 +1,100 @@
+package dongneidle.DayMaker.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 계정/IP별 로그인·회원가입 시도 횟수 제한 (고정 윈도우)
+ *
+ * 키별 맵 대신 키 해시로 고른 stripe 카운터를 사용해 메모리가 키 수와 무관하고 할당/락이 없다.
+ * 각 stripe는 (윈도우 번호 << 32 | 시도 횟수)를 하나의 long에 담아 CAS로 갱신한다.
+ * 해시 충돌 시 서로 다른 키가 한도를 나눠 쓰게 되지만, stripe 수가 충분하면 드물고 결과는 더 보수적인 쪽이다.
+ */
+@Component
+public class LoginAttemptThrottler {
+
+    private final AtomicLongArray accountStripes;
+    private final AtomicLongArray ipStripes;
+    private final int stripeMask;
+    private final long windowMs;
+    private final int maxPerAccount;
+    private final int maxPerIp;
+
+    private final AtomicLong accountRejections = new AtomicLong();
+    private final AtomicLong ipRejections = new AtomicLong();
+
+    public LoginAttemptThrottler(
+            @Value("${security.login.throttle.stripes:4096}") int stripes,
+            @Value("${security.login.throttle.window-seconds:60}") long windowSeconds,
+            @Value("${security.login.throttle.max-per-account:10}") int maxPerAccount,
+            @Value("${security.login.throttle.max-per-ip:30}") int maxPerIp) {
+        int size = Integer.highestOneBit(Math.max(16, stripes)); // 2의 거듭제곱으로 내림
+        this.accountStripes = new AtomicLongArray(size);
+        this.ipStripes = new AtomicLongArray(size);
+        this.stripeMask = size - 1;
+        this.windowMs = Math.max(1, windowSeconds) * 1000;
+        this.maxPerAccount = maxPerAccount;
+        this.maxPerIp = maxPerIp;
+    }
+
+    /**
+     * 시도 1회 기록, 한도를 넘으면 AuthThrottledException
+     * @param account 정규화된 이메일 (null이면 IP만 검사)
+     */
+    public void acquire(String account, String clientIp) {
+        long now = System.currentTimeMillis();
+        if (clientIp != null && !tryIncrement(ipStripes, clientIp, maxPerIp, now)) {
+            ipRejections.incrementAndGet();
+            throw new AuthThrottledException("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds(now));
+        }
+        if (account != null && !tryIncrement(accountStripes, account, maxPerAccount, now)) {
+            accountRejections.incrementAndGet();
+            throw new AuthThrottledException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds(now));
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("windowSeconds", windowMs / 1000);
+        stats.put("maxPerAccount", maxPerAccount);
+        stats.put("maxPerIp", maxPerIp);
+        stats.put("stripes", stripeMask + 1);
+        stats.put("accountRejections", accountRejections.get());
+        stats.put("ipRejections", ipRejections.get());
+        return stats;
+    }
+
+    private boolean tryIncrement(AtomicLongArray stripes, String key, int limit, long now) {
+        int index = spread(key.hashCode()) & stripeMask;
+        long window = now / windowMs;
+        while (true) {
+            long current = stripes.get(index);
+            long currentWindow = current >>> 32;
+            int count = currentWindow == window ? (int) current : 0;
+            if (count >= limit) {
+                return false;
+            }
+            long next = (window << 32) | (count + 1);
+            if (stripes.compareAndSet(index, current, next)) {
+                return true;
+            }
+        }
+    }
+
+    private long retryAfterSeconds(long now) {
+        long remainingMs = windowMs - (now % windowMs);
+        return (remainingMs + 999) / 1000;
+    }
+
+    private static int spread(int h) {
+        h ^= (h >>> 16);
+        h *= 0x85ebca6b;
+        h ^= (h >>> 13);
+        return h;
+    }
+}
@@ -0,0 +1,190 @@
+package dongneidle.DayMaker.service;
+
+import dongneidle.DayMaker.entity.Festival;
+import dongneidle.DayMaker.repository.FestivalRepository;
+import dongneidle.DayMaker.util.DistanceCalculator;
+import dongneidle.DayMaker.util.IntervalTree;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 축제 인메모리 인덱스 (기간 + 반경 질의)
+ *
+ * 위경도 격자 셀마다 [시작일, 종료일] 구간 트리를 두고, 좌표 조건이 없는 질의용으로 전체 구간 트리도 둔다.
+ * "[from, to] 기간에 진행 중이고 (lat, lng)에서 R km 이내" 질의는
+ * 반경을 덮는 셀들의 구간 트리만 탐색한 뒤 하버사인으로 최종 확인한다.
+ * 축제가 JPA로 변경되면(FestivalChangeListener) 커밋 후 다시 만들고, 주기적으로도 다시 읽는다.
+ * 방금 커밋된 변경(적재 포함)을 놓치지 않도록 다시 읽기는 읽기/쓰기 트랜잭션(primary)에서 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FestivalIndex {
+
+    // 격자 한 칸 크기 (도 단위, 위도 기준 약 2.2km)
+    private static final double CELL_DEGREES = 0.02;
+    // DistanceCalculator와 같은 지구 반지름 (셀 범위가 하버사인 반경보다 좁아지지 않도록)
+    private static final double EARTH_RADIUS_KM = 6371;
+    // 셀 경계에서의 부동소수 오차 여유 (약 1cm)
+    private static final double EDGE_MARGIN_DEGREES = 1e-7;
+    private static final Comparator<Festival> BY_START_DATE =
+            Comparator.comparing(Festival::getStartDate).thenComparing(Festival::getId,
+                    Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final FestivalRepository festivalRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 축제 변경 알림 (FestivalChangeListener에서 발행)
+     */
+    public record FestivalsChangedEvent() {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFestivalsChanged(FestivalsChangedEvent event) {
+        reload();
+    }
+
+    @Scheduled(initialDelayString = "${festival.index.reload-interval-ms:600000}",
+               fixedDelayString = "${festival.index.reload-interval-ms:600000}")
+    public void reload() {
+        // 리포지토리 기본값(readOnly)은 replica로 가므로 지연된 복제본을 읽지 않도록 primary에서 조회
+        List<Festival> loaded = transactionTemplate.execute(status -> festivalRepository.findAll().stream()
+                .filter(f -> f.getStartDate() != null && f.getEndDate() != null)
+                .map(FestivalIndex::copyOf)
+                .toList());
+
+        Map<Long, List<Festival>> byCell = new HashMap<>();
+        for (Festival festival : loaded) {
+            if (festival.getLatitude() == null || festival.getLongitude() == null) continue;
+            byCell.computeIfAbsent(cellKey(cellOf(festival.getLatitude()), cellOf(festival.getLongitude())),
+                    k -> new ArrayList<>()).add(festival);
+        }
+        Map<Long, IntervalTree<Festival>> cells = new HashMap<>();
+        byCell.forEach((key, festivals) -> cells.put(key, buildTree(festivals)));
+
+        snapshot = new Snapshot(buildTree(loaded), Map.copyOf(cells));
+        log.info("Festival index loaded: {} festivals in {} cells", loaded.size(), cells.size());
+    }
+
+    /**
+     * [from, to] 기간에 하루라도 진행 중인 축제 (시작일순)
+     */
+    public List<Festival> findActive(LocalDate from, LocalDate to) {
+        List<Festival> result = current().all().findOverlapping(from.toEpochDay(), to.toEpochDay());
+        result.sort(BY_START_DATE);
+        return result;
+    }
+
+    /**
+     * [from, to] 기간에 진행 중이고 (latitude, longitude)에서 radiusKm 이내인 축제 (시작일순)
+     * 좌표가 없는 축제는 제외
+     */
+    public List<Festival> findActiveNear(LocalDate from, LocalDate to,
+                                         double latitude, double longitude, double radiusKm) {
+        Snapshot s = current();
+        long fromDay = from.toEpochDay();
+        long toDay = to.toEpochDay();
+
+        // 반경을 덮는 셀 범위: 중심에서 radiusKm 이내인 점의 최대 위도 차 / 최대 경도 차 (구면 기준)
+        // 경도 폭은 위도가 높을수록 넓어지고, 범위가 극을 포함하면 전 경도 (경도 ±180 경계는 다루지 않음)
+        double angular = radiusKm / EARTH_RADIUS_KM;
+        double latDelta = Math.toDegrees(angular) + EDGE_MARGIN_DEGREES;
+        double sinLng = Math.sin(Math.min(angular, Math.PI / 2)) / Math.cos(Math.toRadians(latitude));
+        double lngDelta = Math.abs(latitude) + latDelta >= 90 || sinLng >= 1
+                ? 180 : Math.toDegrees(Math.asin(sinLng)) + EDGE_MARGIN_DEGREES;
+        long minLatCell = cellOf(latitude - latDelta);
+        long maxLatCell = cellOf(latitude + latDelta);
+        long minLngCell = cellOf(longitude - lngDelta);
+        long maxLngCell = cellOf(longitude + lngDelta);
+
+        List<Festival> candidates = new ArrayList<>();
+        for (long latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+            for (long lngCell = minLngCell; lngCell <= maxLngCell; lngCell++) {
+                IntervalTree<Festival> tree = s.cells().get(cellKey(latCell, lngCell));
+                if (tree != null) {
+                    tree.findOverlapping(fromDay, toDay, candidates);
+                }
+            }
+        }
+
+        List<Festival> result = new ArrayList<>();
+        for (Festival festival : candidates) {
+            double distance = DistanceCalculator.calculateDistance(
+                    latitude, longitude, festival.getLatitude(), festival.getLongitude());
+            if (distance <= radiusKm) {
+                result.add(festival);
+            }
+        }
+        result.sort(BY_START_DATE);
+        return result;
+    }
+
+    public int size() {
+        return current().all().size();
+    }
+
+    private Snapshot current() {
+        Snapshot s = snapshot;
+        if (s == null) {
+            // 시작 이벤트 이전 호출 대비
+            reload();
+            s = snapshot;
+        }
+        return s;
+    }
+
+    private static IntervalTree<Festival> buildTree(List<Festival> festivals) {
+        return IntervalTree.build(festivals,
+                f -> f.getStartDate().toEpochDay(),
+                f -> f.getEndDate().toEpochDay());
+    }
+
+    private static long cellOf(double degrees) {
+        return (long) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long cellKey(long latCell, long lngCell) {
+        return (latCell << 32) ^ (lngCell & 0xffffffffL);
+    }
+
+    // 관리 대상 엔티티를 외부에 노출하지 않도록 복사본 사용
+    private static Festival copyOf(Festival festival) {
+        return Festival.builder()
+                .id(festival.getId())
+                .name(festival.getName())
+                .description(festival.getDescription())
+                .location(festival.getLocation())
+                .latitude(festival.getLatitude())
+                .longitude(festival.getLongitude())
+                .startDate(festival.getStartDate())
+                .endDate(festival.getEndDate())
+                .imageUrl(festival.getImageUrl())
+                .category(festival.getCategory())
+                .address(festival.getAddress())
+                .build();
+    }
+
+    private record Snapshot(IntervalTree<Festival> all, Map<Long, IntervalTree<Festival>> cells) {
+    }
+}
@@ -0,0 +1,333 @@
+package dongneidle.DayMaker.service;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dongneidle.DayMaker.DTO.FestivalImportRow;
+import dongneidle.DayMaker.DTO.FestivalIngestionReport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Date;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 축제 일괄 적재 (CSV/JSON 스트리밍 → JDBC 배치 upsert)
+ *
+ * - 파일을 한 행씩 읽어 메모리에 전체를 올리지 않음
+ * - 기존 행의 source_key → content_hash를 먼저 읽어 두고, 해시가 같은 행은 건너뜀
+ * - 바뀐 행만 batch-size 단위의 짧은 트랜잭션으로 INSERT/UPDATE (테이블 잠금 없이 행 단위로만 잠김)
+ * - 일정 조회는 FestivalIndex(메모리)를 쓰므로 적재 중에도 영향이 없고, 적재가 끝나면 인덱스를 한 번 다시 만든다
+ */
+@Slf4j
+@Service
+public class FestivalIngestionService {
+
+    private static final String INSERT_SQL = "INSERT INTO festivals (source_key, content_hash, name, description, location, "
+            + "latitude, longitude, start_date, end_date, image_url, category, address) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_SQL = "UPDATE festivals SET content_hash = ?, name = ?, description = ?, location = ?, "
+            + "latitude = ?, longitude = ?, start_date = ?, end_date = ?, image_url = ?, category = ?, address = ? "
+            + "WHERE source_key = ?";
+    private static final int[] INSERT_TYPES = {Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.DOUBLE, Types.DOUBLE, Types.DATE, Types.DATE, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR};
+    private static final int[] UPDATE_TYPES = {Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.DOUBLE, Types.DOUBLE, Types.DATE, Types.DATE, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR};
+
+    public enum Format {
+        CSV, JSON;
+
+        public static Format fromFilename(String filename) {
+            return filename != null && filename.toLowerCase().endsWith(".json") ? JSON : CSV;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final FestivalIndex festivalIndex;
+    private final int batchSize;
+
+    // 동시에 두 적재가 같은 키를 다루지 않도록 직렬화
+    private final ReentrantLock ingestLock = new ReentrantLock();
+
+    public FestivalIngestionService(JdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager,
+                                    ObjectMapper objectMapper,
+                                    FestivalIndex festivalIndex,
+                                    @Value("${festival.ingest.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.festivalIndex = festivalIndex;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * 축제 파일 적재
+     * @throws IllegalStateException 다른 적재가 진행 중인 경우
+     */
+    public FestivalIngestionReport ingest(InputStream in, Format format) throws IOException {
+        if (!ingestLock.tryLock()) {
+            throw new IllegalStateException("다른 축제 적재가 진행 중입니다");
+        }
+        try {
+            long started = System.nanoTime();
+            BatchWriter writer = new BatchWriter(loadExistingHashes());
+            if (format == Format.JSON) {
+                readJson(in, writer);
+            } else {
+                readCsv(in, writer);
+            }
+            writer.flush();
+
+            if (writer.inserted + writer.updated > 0) {
+                festivalIndex.reload();
+            }
+
+            long elapsedMs = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+            FestivalIngestionReport report = FestivalIngestionReport.builder()
+                    .totalRows(writer.total)
+                    .inserted(writer.inserted)
+                    .updated(writer.updated)
+                    .unchanged(writer.unchanged)
+                    .invalid(writer.invalid)
+                    .batches(writer.batches)
+                    .elapsedMs(elapsedMs)
+                    .rowsPerSecond(writer.total * 1000.0 / elapsedMs)
+                    .build();
+            log.info("Festival ingestion finished: {} rows ({} inserted, {} updated, {} unchanged, {} invalid) in {}ms",
+                    writer.total, writer.inserted, writer.updated, writer.unchanged, writer.invalid, elapsedMs);
+            return report;
+        } finally {
+            ingestLock.unlock();
+        }
+    }
+
+    private Map<String, String> loadExistingHashes() {
+        Map<String, String> hashes = new HashMap<>();
+        jdbcTemplate.query("SELECT source_key, content_hash FROM festivals WHERE source_key IS NOT NULL",
+                rs -> {
+                    hashes.put(rs.getString(1), rs.getString(2));
+                });
+        return hashes;
+    }
+
+    private void readJson(InputStream in, BatchWriter writer) throws IOException {
+        // 최상위 배열 또는 객체 나열 모두 한 객체씩 읽음
+        // 값 변환 실패(날짜/숫자 형식 등)는 그 행만 invalid로 세고 계속 (MappingIterator가 다음 객체로 건너뜀)
+        // JSON 문법 오류는 이후 위치를 신뢰할 수 없으므로 그대로 실패
+        try (MappingIterator<FestivalImportRow> rows = objectMapper.readerFor(FestivalImportRow.class).readValues(in)) {
+            while (rows.hasNextValue()) {
+                FestivalImportRow row;
+                try {
+                    row = rows.nextValue();
+                } catch (JsonMappingException e) {
+                    writer.rejectInvalid(e.getOriginalMessage());
+                    continue;
+                }
+                writer.accept(row);
+            }
+        }
+    }
+
+    private void readCsv(InputStream in, BatchWriter writer) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String headerLine = reader.readLine();
+        if (headerLine == null) return;
+        if (headerLine.startsWith("\uFEFF")) headerLine = headerLine.substring(1);
+
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> header = parseCsvLine(headerLine);
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim(), i);
+        }
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) continue;
+            List<String> values = parseCsvLine(line);
+            try {
+                writer.accept(FestivalImportRow.builder()
+                        .sourceKey(column(values, columns, "sourceKey"))
+                        .name(column(values, columns, "name"))
+                        .description(column(values, columns, "description"))
+                        .location(column(values, columns, "location"))
+                        .latitude(toDouble(column(values, columns, "latitude")))
+                        .longitude(toDouble(column(values, columns, "longitude")))
+                        .startDate(toDate(column(values, columns, "startDate")))
+                        .endDate(toDate(column(values, columns, "endDate")))
+                        .imageUrl(column(values, columns, "imageUrl"))
+                        .category(column(values, columns, "category"))
+                        .address(column(values, columns, "address"))
+                        .build());
+            } catch (RuntimeException e) {
+                writer.rejectInvalid(line);
+            }
+        }
+    }
+
+    private static String column(List<String> values, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= values.size()) return null;
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Double toDouble(String value) {
+        return value == null ? null : Double.valueOf(value);
+    }
+
+    private static LocalDate toDate(String value) {
+        return value == null ? null : LocalDate.parse(value);
+    }
+
+    // 따옴표("...", 내부 "" 이스케이프)를 지원하는 한 줄 CSV 파서 (필드 내 줄바꿈은 지원하지 않음)
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    static String contentHash(FestivalImportRow row) {
+        String canonical = String.join("\u001f",
+                Objects.toString(row.getName(), ""),
+                Objects.toString(row.getDescription(), ""),
+                Objects.toString(row.getLocation(), ""),
+                Objects.toString(row.getLatitude(), ""),
+                Objects.toString(row.getLongitude(), ""),
+                Objects.toString(row.getStartDate(), ""),
+                Objects.toString(row.getEndDate(), ""),
+                Objects.toString(row.getImageUrl(), ""),
+                Objects.toString(row.getCategory(), ""),
+                Objects.toString(row.getAddress(), ""));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String naturalKey(FestivalImportRow row) {
+        if (row.getSourceKey() != null && !row.getSourceKey().isBlank()) {
+            return row.getSourceKey().trim();
+        }
+        return row.getName().trim() + "|" + row.getStartDate() + "|" + Objects.toString(row.getLocation(), "").trim();
+    }
+
+    /**
+     * 변경된 행을 모아 batch-size마다 한 트랜잭션으로 기록
+     */
+    private class BatchWriter {
+        private final Map<String, String> knownHashes;
+        private final List<Object[]> inserts = new ArrayList<>();
+        private final List<Object[]> updates = new ArrayList<>();
+
+        private long total;
+        private long inserted;
+        private long updated;
+        private long unchanged;
+        private long invalid;
+        private int batches;
+
+        BatchWriter(Map<String, String> knownHashes) {
+            this.knownHashes = knownHashes;
+        }
+
+        void accept(FestivalImportRow row) {
+            total++;
+            if (row == null || row.getName() == null || row.getName().isBlank()
+                    || row.getStartDate() == null || row.getEndDate() == null
+                    || row.getEndDate().isBefore(row.getStartDate())) {
+                invalid++;
+                return;
+            }
+
+            String key = naturalKey(row);
+            String hash = contentHash(row);
+            boolean exists = knownHashes.containsKey(key);
+            if (exists && hash.equals(knownHashes.get(key))) {
+                unchanged++;
+                return;
+            }
+            knownHashes.put(key, hash);
+
+            if (exists) {
+                updates.add(new Object[]{hash, row.getName(), row.getDescription(), row.getLocation(),
+                        row.getLatitude(), row.getLongitude(), Date.valueOf(row.getStartDate()),
+                        Date.valueOf(row.getEndDate()), row.getImageUrl(), row.getCategory(), row.getAddress(), key});
+                updated++;
+            } else {
+                inserts.add(new Object[]{key, hash, row.getName(), row.getDescription(), row.getLocation(),
+                        row.getLatitude(), row.getLongitude(), Date.valueOf(row.getStartDate()),
+                        Date.valueOf(row.getEndDate()), row.getImageUrl(), row.getCategory(), row.getAddress()});
+                inserted++;
+            }
+            if (inserts.size() + updates.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void rejectInvalid(String line) {
+            total++;
+            invalid++;
+            log.debug("Invalid festival row skipped: {}", line);
+        }
+
+        void flush() {
+            if (inserts.isEmpty() && updates.isEmpty()) return;
+            // INSERT를 먼저 실행해 같은 파일 안에서 뒤따르는 UPDATE가 방금 넣은 행을 찾도록 함
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!inserts.isEmpty()) jdbcTemplate.batchUpdate(INSERT_SQL, inserts, INSERT_TYPES);
+                if (!updates.isEmpty()) jdbcTemplate.batchUpdate(UPDATE_SQL, updates, UPDATE_TYPES);
+            });
+            batches++;
+            inserts.clear();
+            updates.clear();
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package dongneidle.DayMaker.service;
 
+import dongneidle.DayMaker.DTO.FestivalIngestionReport;
 import dongneidle.DayMaker.DTO.ItineraryResponse;
 import dongneidle.DayMaker.entity.Festival;
 import dongneidle.DayMaker.repository.FestivalRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -16,19 +20,34 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class FestivalService {
     
+    private static final String INITIAL_FESTIVALS = "festivals/initial-festivals.csv";
+    
     private final FestivalRepository festivalRepository;
+    private final FestivalIndex festivalIndex;
+    private final FestivalIngestionService festivalIngestionService;
     
     // 오늘 진행 중인 축제 찾기
     public List<Festival> getTodayFestivals() {
         LocalDate today = LocalDate.now();
-        List<Festival> festivals = festivalRepository.findByDateRange(today, today);
+        List<Festival> festivals = festivalIndex.findActive(today, today);
         log.info("Found {} festivals for today: {}", festivals.size(), today);
         return festivals;
     }
     
     // 특정 날짜의 축제 찾기
     public List<Festival> getFestivalsByDate(LocalDate date) {
-        return festivalRepository.findByDateRange(date, date);
+        return festivalIndex.findActive(date, date);
+    }
+    
+    // 기간 [from, to] 중 하루라도 진행 중인 축제 찾기
+    public List<Festival> getFestivalsByDateRange(LocalDate from, LocalDate to) {
+        return festivalIndex.findActive(from, to);
+    }
+    
+    // 기간 [from, to] 중 진행 중이고 좌표에서 radiusKm 이내인 축제 찾기
+    public List<Festival> getFestivalsNear(LocalDate from, LocalDate to,
+                                           double latitude, double longitude, double radiusKm) {
+        return festivalIndex.findActiveNear(from, to, latitude, longitude, radiusKm);
     }
     
     // 요청받은 날짜에 진행 중인 축제 찾기 (문자열 날짜 파싱)
@@ -60,6 +79,23 @@ public class FestivalService {
                 .collect(Collectors.toList());
     }
     
+    // 요청받은 날짜에 진행 중이고 좌표에서 radiusKm 이내인 축제를 Place 형태로 변환
+    public List<ItineraryResponse.PlaceDto> getNearbyFestivalsAsPlaces(String requestDate,
+                                                                       double latitude,
+                                                                       double longitude,
+                                                                       double radiusKm) {
+        LocalDate date;
+        try {
+            date = LocalDate.parse(requestDate);
+        } catch (Exception e) {
+            log.warn("Invalid date format: {}, using today", requestDate);
+            date = LocalDate.now();
+        }
+        return getFestivalsNear(date, date, latitude, longitude, radiusKm).stream()
+                .map(this::convertFestivalToPlace)
+                .collect(Collectors.toList());
+    }
+    
     private ItineraryResponse.PlaceDto convertFestivalToPlace(Festival festival) {
         return ItineraryResponse.PlaceDto.builder()
                 .name(festival.getName())
@@ -73,89 +109,15 @@ public class FestivalService {
                 .build();
     }
     
-    // 초기 축제 데이터 생성 (개발용)
+    // 초기 축제 데이터 생성 (개발용, 일괄 적재 파이프라인 사용)
     public void createInitialFestivals() {
         if (festivalRepository.count() == 0) {
-            Festival festival1 = Festival.builder()
-                    .name("2025 안양충훈벚꽃축제")
-                    .description("충훈동 충훈2교 및 벚꽃길 일대에서 열리는 봄맞이 벚꽃축제")
-                    .location("충훈동 충훈2교 및 벚꽃길 일대")
-                    .latitude(37.3942)
-                    .longitude(126.9569)
-                    .startDate(LocalDate.of(2025, 4, 5))
-                    .endDate(LocalDate.of(2025, 4, 6))
-                    .category("자연생태")
-                    .address("안양시 만안구 충훈동")
-                    .build();
-            
-            Festival festival2 = Festival.builder()
-                    .name("제34회 안양예술제")
-                    .description("평촌중앙공원에서 열리는 문화예술 축제")
-                    .location("평촌중앙공원")
-                    .latitude(37.3902)
-                    .longitude(126.9506)
-                    .startDate(LocalDate.of(2025, 5, 2))
-                    .endDate(LocalDate.of(2025, 5, 3))
-                    .category("문화예술")
-                    .address("안양시 동안구 평촌중앙공원")
-                    .build();
-            
-            Festival festival3 = Festival.builder()
-                    .name("제22회 안양스마T움축제")
-                    .description("안양체육관에서 열리는 스마트 기술 축제")
-                    .location("안양체육관")
-                    .latitude(37.3960)
-                    .longitude(126.9540)
-                    .startDate(LocalDate.of(2025, 5, 31))
-                    .endDate(LocalDate.of(2025, 6, 1))
-                    .category("문화예술")
-                    .address("안양시 동안구 안양체육관")
-                    .build();
-            
-            Festival festival4 = Festival.builder()
-                    .name("2025 안양춤축제")
-                    .description("평촌중앙공원과 삼덕공원에서 열리는 춤 축제")
-                    .location("평촌중앙공원, 삼덕공원")
-                    .latitude(37.3902)
-                    .longitude(126.9506)
-                    .startDate(LocalDate.of(2025, 9, 26))
-                    .endDate(LocalDate.of(2025, 9, 28))
-                    .category("문화예술")
-                    .address("안양시 동안구 평촌중앙공원")
-                    .build();
-            
-            Festival festival5 = Festival.builder()
-                    .name("먹거리 한마당")
-                    .description("평촌중앙공원 다목적운동장에서 열리는 음식 축제")
-                    .location("평촌중앙공원 다목적운동장")
-                    .latitude(37.3902)
-                    .longitude(126.9506)
-                    .startDate(LocalDate.of(2025, 9, 26))
-                    .endDate(LocalDate.of(2025, 9, 28))
-                    .category("문화예술")
-                    .address("안양시 동안구 평촌중앙공원")
-                    .build();
-            
-            Festival festival6 = Festival.builder()
-                    .name("안양1번가 넘버원 페스티벌")
-                    .description("안양1번가 일원에서 열리는 주민화합 축제")
-                    .location("안양1번가 일원")
-                    .latitude(37.4016)
-                    .longitude(126.9228)
-                    .startDate(LocalDate.of(2025, 10, 17))
-                    .endDate(LocalDate.of(2025, 10, 18))
-                    .category("주민화합")
-                    .address("안양시 만안구 안양1번가")
-                    .build();
-            
-            festivalRepository.save(festival1);
-            festivalRepository.save(festival2);
-            festivalRepository.save(festival3);
-            festivalRepository.save(festival4);
-            festivalRepository.save(festival5);
-            festivalRepository.save(festival6);
-            log.info("Initial festivals created: 6 official Anyang festivals");
+            try (InputStream in = new ClassPathResource(INITIAL_FESTIVALS).getInputStream()) {
+                FestivalIngestionReport report = festivalIngestionService.ingest(in, FestivalIngestionService.Format.CSV);
+                log.info("Initial festivals created: {} Anyang festivals", report.getInserted());
+            } catch (IOException e) {
+                log.error("Failed to load initial festivals: {}", e.getMessage());
+            }
         }
     }
 }
-
@@ -0,0 +1,137 @@
+package dongneidle.DayMaker.service;
+
+import dongneidle.DayMaker.DTO.ItineraryRequest;
+import dongneidle.DayMaker.DTO.ItineraryResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 생성된 코스 임시 보관소 (handle → 인코딩된 요청/응답)
+ *
+ * createItinerary 결과를 저장 가능한 형태(정규화 hash + 인코딩 본문)로 미리 만들어 짧은 TTL 동안 보관하고,
+ * 클라이언트에는 handle만 돌려준다. /save는 handle과 제목만 받아 보관된 바이트를 그대로 저장한다.
+ * 최대 개수를 넘으면 가장 오래 쓰이지 않은 항목부터 버린다.
+ * 저장 시 hit/miss는 cache.gets{cache=itinerary.handles} 지표로도 노출된다.
+ */
+@Slf4j
+@Component
+public class GeneratedItineraryStore implements MeterBinder {
+
+    private final ItineraryBlobStore blobStore;
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    private final Map<String, Entry> entries;
+
+    private final AtomicLong stored = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public GeneratedItineraryStore(ItineraryBlobStore blobStore,
+                                   @Value("${itinerary.handle.ttl-minutes:30}") long ttlMinutes,
+                                   @Value("${itinerary.handle.max-entries:1000}") int maxEntries) {
+        this.blobStore = blobStore;
+        this.ttlMillis = ttlMinutes * 60_000L;
+        this.maxEntries = Math.max(1, maxEntries);
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > GeneratedItineraryStore.this.maxEntries;
+            }
+        });
+    }
+
+    /**
+     * 보관된 코스 (저장 준비 완료 상태)
+     */
+    public record Entry(ItineraryBlobStore.PreparedBlob request,
+                        ItineraryBlobStore.PreparedBlob response,
+                        String requestDate,
+                        long expiresAt) {
+    }
+
+    /**
+     * 생성 결과 보관 후 handle 반환 (인코딩 실패 시 null → 클라이언트는 전체 payload로 저장)
+     */
+    public String put(ItineraryRequest request, ItineraryResponse response) {
+        try {
+            Entry entry = new Entry(blobStore.prepare(request), blobStore.prepare(response),
+                    request != null ? request.getDate() : null,
+                    System.currentTimeMillis() + ttlMillis);
+            String handle = UUID.randomUUID().toString();
+            entries.put(handle, entry);
+            stored.incrementAndGet();
+            return handle;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to hold generated itinerary: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * handle로 조회 (만료/없음이면 empty)
+     */
+    public Optional<Entry> get(String handle) {
+        Entry entry = handle != null ? entries.get(handle) : null;
+        if (entry == null || entry.expiresAt() < System.currentTimeMillis()) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+        hits.incrementAndGet();
+        return Optional.of(entry);
+    }
+
+    @Scheduled(fixedDelayString = "${itinerary.handle.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        int removed = 0;
+        synchronized (entries) {
+            Iterator<Entry> it = entries.values().iterator();
+            while (it.hasNext()) {
+                if (it.next().expiresAt() < now) {
+                    it.remove();
+                    removed++;
+                }
+            }
+        }
+        if (removed > 0) {
+            log.debug("Purged {} expired itinerary handles", removed);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hits, AtomicLong::get)
+                .description("생성 코스 handle 조회").tags("cache", "itinerary.handles", "result", "hit").register(registry);
+        FunctionCounter.builder("cache.gets", misses, AtomicLong::get)
+                .description("생성 코스 handle 조회").tags("cache", "itinerary.handles", "result", "miss").register(registry);
+        Gauge.builder("cache.size", entries, Map::size)
+                .description("보관 중인 handle 수").tag("cache", "itinerary.handles").register(registry);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", entries.size());
+        stats.put("maxEntries", maxEntries);
+        stats.put("ttlMinutes", ttlMillis / 60_000L);
+        stats.put("stored", stored.get());
+        stats.put("hits", hits.get());
+        stats.put("misses", misses.get());
+        return stats;
+    }
+}
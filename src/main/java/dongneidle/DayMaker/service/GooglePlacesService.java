@@ -4,15 +4,21 @@ import dongneidle.DayMaker.DTO.ItineraryResponse;
 import dongneidle.DayMaker.DTO.PlaceDetailsDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import dongneidle.DayMaker.util.ReactiveCallLimiter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Google Places API를 활용한 장소 검색 및 상세 정보 조회 서비스
@@ -52,6 +58,22 @@ public class GooglePlacesService {
      * Google Places API 호출 시 사용
      */
     private final RestTemplate restTemplate;
+
+    /**
+     * 리액티브 코스 생성용 non-blocking HTTP 클라이언트 (ReactiveClientConfig)
+     * 응답은 Reactor Netty 이벤트 루프에서 처리되어 호출 중 스레드를 점유하지 않음
+     */
+    private final WebClient placesWebClient;
+
+    /**
+     * 리액티브 호출의 인스턴스 전체 동시 실행 한도 (google.reactive.max-concurrent / max-queued)
+     */
+    private final ReactiveCallLimiter placesCallLimiter;
+
+    /**
+     * 호출별 시간/결과 지표 (daymaker.upstream.requests)
+     */
+    private final MetricsRecorder metricsRecorder;
     
     // ===================== 기본 설정 상수 =====================
     
@@ -78,6 +100,19 @@ public class GooglePlacesService {
     private static final double BASE_MIN_RATING = 4.0; // 최소 평점
     private static final int BASE_MIN_REVIEWS = 20;    // 최소 리뷰 수
     private static final int DEFAULT_MAX_RESULTS = 12;  // 기본 최대 반환 개수
+
+    /**
+     * 점진적 완화 단계: 반경, 평점, 리뷰 기준 (10km, 13km, 16km)
+     */
+    private static final int[] RELAX_RADII = {DEFAULT_RADIUS, (int)(DEFAULT_RADIUS * 1.3), (int)(DEFAULT_RADIUS * 1.6)};
+    private static final double[] RELAX_MIN_RATINGS = {BASE_MIN_RATING, 3.8, 3.5};
+    private static final int[] RELAX_MIN_REVIEWS = {BASE_MIN_REVIEWS, 10, 0};
+
+    /**
+     * 레거시 Nearby Search URL 템플릿 (WebClient가 변수 값을 인코딩)
+     */
+    private static final String NEARBY_SEARCH_TEMPLATE = "https://maps.googleapis.com/maps/api/place/nearbysearch/json"
+            + "?location={location}&radius={radius}&type={type}&keyword={keyword}&key={key}&language=ko";
     
     /**
      * Google Places API v1 기본 URL
@@ -141,9 +176,9 @@ public class GooglePlacesService {
         final int targetMax = Math.max(DEFAULT_MAX_RESULTS, desiredCount * 3);
 
         // 점진적 완화 전략: 반경, 평점, 리뷰 기준을 단계별로 완화
-        int[] radii = new int[]{DEFAULT_RADIUS, (int)(DEFAULT_RADIUS * 1.3), (int)(DEFAULT_RADIUS * 1.6)}; // 10km, 13km, 16km
-        double[] minRatings = new double[]{BASE_MIN_RATING, 3.8, 3.5};
-        int[] minReviews = new int[]{BASE_MIN_REVIEWS, 10, 0};
+        int[] radii = RELAX_RADII;
+        double[] minRatings = RELAX_MIN_RATINGS;
+        int[] minReviews = RELAX_MIN_REVIEWS;
 
         Set<String> seenIds = new HashSet<>(); // 중복 장소 제거용
         List<ItineraryResponse.PlaceDto> aggregated = new ArrayList<>();
@@ -208,7 +243,8 @@ public class GooglePlacesService {
             );
             log.info("Calling Google Places API (location-based): {} (radius: {}m)", url.replace(googleApiKey, "***"), radiusMeters);
             
-            Map<String, Object> response = restTemplate.getForObject(url, Map.class);
+            Map<String, Object> response = metricsRecorder.timeUpstream(MetricsRecorder.PLACES_NEARBY,
+                    () -> restTemplate.getForObject(url, Map.class), GooglePlacesService::legacyOutcome);
             if (response != null && "OK".equals(response.get("status"))) {
                 List<Map<String, Object>> rawResults = (List<Map<String, Object>>) response.get("results");
                 List<ItineraryResponse.PlaceDto> places = convertAndFilter(rawResults, BASE_MIN_RATING, BASE_MIN_REVIEWS, new HashSet<>());
@@ -228,6 +264,60 @@ public class GooglePlacesService {
         }
     }
 
+    // ===================== 리액티브(non-blocking) 검색 =====================
+
+    /**
+     * searchPlaces(type, keyword, desiredCount)의 non-blocking 버전
+     * 
+     * 완화 단계는 앞 단계 결과에 따라 다음 단계 호출 여부가 정해지므로 순서대로(concatMap) 실행하고,
+     * 목표 개수에 도달하면 남은 단계는 구독하지 않음 (호출 자체가 발생하지 않음)
+     * 
+     * @return 필터링된 장소 목록, 호출 한도 대기열이 가득 차면 RejectedExecutionException
+     */
+    public Mono<List<ItineraryResponse.PlaceDto>> searchPlacesReactive(String type, String keyword, int desiredCount) {
+        if (googleApiKey.isEmpty()) {
+            log.warn("Google API key not configured, returning dummy data");
+            return Mono.fromSupplier(() -> getDummyPlaces(type, keyword));
+        }
+
+        final int targetMax = Math.max(DEFAULT_MAX_RESULTS, desiredCount * 3);
+        return Mono.defer(() -> {
+            // 구독마다 새 상태 (concatMap이라 단계 간 동시 접근 없음)
+            Set<String> seenIds = new HashSet<>();
+            List<ItineraryResponse.PlaceDto> aggregated = new ArrayList<>();
+            return Flux.range(0, RELAX_RADII.length)
+                    .concatMap(i -> callPlacesApiReactive(ANYANG_LAT, ANYANG_LNG, RELAX_RADII[i], type, keyword)
+                            .map(rawResults -> {
+                                List<ItineraryResponse.PlaceDto> filtered = convertAndFilter(
+                                        rawResults, RELAX_MIN_RATINGS[i], RELAX_MIN_REVIEWS[i], seenIds);
+                                aggregated.addAll(filtered);
+                                log.info("Places fetched (radius={}m, rating>={}, reviews>={}): +{} (agg={})",
+                                        RELAX_RADII[i], RELAX_MIN_RATINGS[i], RELAX_MIN_REVIEWS[i], filtered.size(), aggregated.size());
+                                return aggregated.size();
+                            }))
+                    .takeUntil(size -> size >= targetMax)
+                    .then(Mono.fromSupplier(() -> aggregated.size() > targetMax
+                            ? aggregated.subList(0, targetMax) : aggregated));
+        });
+    }
+
+    /**
+     * searchPlacesNearLocation의 non-blocking 버전 (역 기반 검색)
+     * 
+     * @return 주변 장소 목록, 호출 한도 대기열이 가득 차면 RejectedExecutionException
+     */
+    public Mono<List<ItineraryResponse.PlaceDto>> searchPlacesNearLocationReactive(String type, String keyword, double latitude, double longitude, int radiusMeters, int desiredCount) {
+        if (googleApiKey.isEmpty()) {
+            log.warn("Google API key not configured, returning dummy data");
+            return Mono.fromSupplier(() -> getDummyPlaces(type, keyword));
+        }
+        return callPlacesApiReactive(latitude, longitude, radiusMeters, type, keyword)
+                .map(rawResults -> {
+                    List<ItineraryResponse.PlaceDto> places = convertAndFilter(rawResults, BASE_MIN_RATING, BASE_MIN_REVIEWS, new HashSet<>());
+                    return places.size() > desiredCount ? places.subList(0, desiredCount) : places;
+                });
+    }
+
     // ===================== 내부 API 호출 메서드 =====================
 
     /**
@@ -255,7 +345,8 @@ public class GooglePlacesService {
                 ANYANG_LAT, ANYANG_LNG, radiusMeters, type, keyword, googleApiKey
             );
             log.info("Calling Google Places API: {}", url.replace(googleApiKey, "***"));
-            Map<String, Object> response = restTemplate.getForObject(url, Map.class);
+            Map<String, Object> response = metricsRecorder.timeUpstream(MetricsRecorder.PLACES_NEARBY,
+                    () -> restTemplate.getForObject(url, Map.class), GooglePlacesService::legacyOutcome);
             if (response != null && "OK".equals(response.get("status"))) {
                 return (List<Map<String, Object>>) response.get("results");
             } else {
@@ -268,6 +359,35 @@ public class GooglePlacesService {
         }
     }
 
+    /**
+     * 레거시 Nearby Search non-blocking 호출 (호출 한도 적용)
+     * 
+     * 에러 처리는 callPlacesApi와 같음 (API 오류/예외 시 빈 리스트),
+     * 단 호출 한도 초과(RejectedExecutionException)는 그대로 전달해 요청 단위로 거절되도록 함
+     */
+    private Mono<List<Map<String, Object>>> callPlacesApiReactive(double latitude, double longitude, int radiusMeters, String type, String keyword) {
+        Mono<Map<String, Object>> call = Mono.defer(() -> {
+            log.info("Calling Google Places API (reactive): type={}, keyword={}, radius={}m", type, keyword, radiusMeters);
+            return placesWebClient.get()
+                    .uri(NEARBY_SEARCH_TEMPLATE, String.format("%f,%f", latitude, longitude), radiusMeters, type, keyword, googleApiKey)
+                    .retrieve()
+                    .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {});
+        });
+        // 한도 안에서 구독되는 시점부터 측정 (대기열 대기 시간 제외)
+        return placesCallLimiter.limit(metricsRecorder.timeUpstream(MetricsRecorder.PLACES_NEARBY, call, GooglePlacesService::legacyOutcome))
+                .map(response -> {
+                    if ("OK".equals(response.get("status"))) {
+                        return (List<Map<String, Object>>) response.get("results");
+                    }
+                    log.error("Google Places API error: {}", response);
+                    return List.<Map<String, Object>>of();
+                })
+                .onErrorResume(e -> !(e instanceof RejectedExecutionException), e -> {
+                    log.error("Error calling Google Places API (reactive): {}", e.getMessage());
+                    return Mono.just(List.of());
+                });
+    }
+
     // ===================== 데이터 변환 및 필터링 =====================
 
     /**
@@ -585,7 +705,8 @@ public class GooglePlacesService {
                     "photos"
             );
 
-            String url = V1_BASE + "/places/" + placeId + "?languageCode=ko";
+            // placeId는 URI 변수로 전달 (HTTP 클라이언트 지표의 uri 태그가 장소마다 늘어나지 않도록)
+            String url = V1_BASE + "/places/{placeId}?languageCode=ko";
 
             // v1 API는 헤더에 API 키와 FieldMask를 포함해야 함
             org.springframework.http.HttpHeaders headers = new org.springframework.http.HttpHeaders();
@@ -593,13 +714,16 @@ public class GooglePlacesService {
             headers.add("X-Goog-FieldMask", fields);
             org.springframework.http.HttpEntity<Void> entity = new org.springframework.http.HttpEntity<>(headers);
 
-            org.springframework.http.ResponseEntity<Map> resp =
-                    new org.springframework.web.client.RestTemplate().exchange(
+            org.springframework.http.ResponseEntity<Map> resp = metricsRecorder.timeUpstream(
+                    MetricsRecorder.PLACES_DETAILS,
+                    () -> restTemplate.exchange(
                             url,
                             org.springframework.http.HttpMethod.GET,
                             entity,
-                            Map.class
-                    );
+                            Map.class,
+                            placeId
+                    ),
+                    r -> r.getBody() != null ? MetricsRecorder.SUCCESS : MetricsRecorder.EMPTY);
 
             Map body = resp.getBody();
             if (body == null) return PlaceDetailsDto.builder().placeId(placeId).build();
@@ -777,12 +901,7 @@ public class GooglePlacesService {
             org.springframework.http.HttpEntity<java.util.Map<String, Object>> entity =
                     new org.springframework.http.HttpEntity<>(body, headers);
 
-            org.springframework.http.ResponseEntity<java.util.Map> resp = restTemplate.exchange(
-                    url,
-                    org.springframework.http.HttpMethod.POST,
-                    entity,
-                    java.util.Map.class
-            );
+            org.springframework.http.ResponseEntity<java.util.Map> resp = searchNearbyV1(url, entity);
 
             java.util.Map response = resp.getBody();
             if (response == null) return java.util.List.of();
@@ -793,7 +912,7 @@ public class GooglePlacesService {
                 body.remove("includedTypes");
                 body.put("includedPrimaryTypes", java.util.List.of("parking"));
                 entity = new org.springframework.http.HttpEntity<>(body, headers);
-                resp = restTemplate.exchange(url, org.springframework.http.HttpMethod.POST, entity, java.util.Map.class);
+                resp = searchNearbyV1(url, entity);
                 response = resp.getBody();
                 if (response != null) {
                     places = (java.util.List<java.util.Map>) response.get("places");
@@ -916,12 +1035,7 @@ public class GooglePlacesService {
             org.springframework.http.HttpEntity<java.util.Map<String, Object>> entity =
                     new org.springframework.http.HttpEntity<>(body, headers);
 
-            org.springframework.http.ResponseEntity<java.util.Map> resp = restTemplate.exchange(
-                    url,
-                    org.springframework.http.HttpMethod.POST,
-                    entity,
-                    java.util.Map.class
-            );
+            org.springframework.http.ResponseEntity<java.util.Map> resp = searchNearbyV1(url, entity);
 
             java.util.Map response = resp.getBody();
             java.util.List<java.util.Map> places = response != null ? (java.util.List<java.util.Map>) response.get("places") : null;
@@ -963,6 +1077,28 @@ public class GooglePlacesService {
 
     // ===================== 유틸리티 메서드 =====================
 
+    /**
+     * Places v1 Nearby Search 호출 (시간/결과 지표 기록)
+     */
+    private org.springframework.http.ResponseEntity<java.util.Map> searchNearbyV1(
+            String url, org.springframework.http.HttpEntity<java.util.Map<String, Object>> entity) {
+        return metricsRecorder.timeUpstream(MetricsRecorder.PLACES_SEARCH_NEARBY,
+                () -> restTemplate.exchange(url, org.springframework.http.HttpMethod.POST, entity, java.util.Map.class),
+                resp -> resp.getBody() != null && resp.getBody().get("places") instanceof java.util.List<?> places && !places.isEmpty()
+                        ? MetricsRecorder.SUCCESS : MetricsRecorder.EMPTY);
+    }
+
+    /**
+     * 레거시 API 응답 status를 지표 outcome으로 변환 (OK / ZERO_RESULTS / 그 외 오류 status)
+     */
+    private static String legacyOutcome(Map<?, ?> response) {
+        if (response == null) return MetricsRecorder.EMPTY;
+        Object status = response.get("status");
+        if ("OK".equals(status)) return MetricsRecorder.SUCCESS;
+        if ("ZERO_RESULTS".equals(status)) return MetricsRecorder.EMPTY;
+        return MetricsRecorder.API_ERROR;
+    }
+
     /**
      * Google Places v1 API 응답에서 placeId 추출
      * 
@@ -1025,7 +1161,8 @@ public class GooglePlacesService {
                     latitude, longitude, radiusMeters, googleApiKey
             );
             log.info("Fallback Legacy Nearby parking: {}", url.replace(googleApiKey, "***"));
-            Map<String, Object> response = restTemplate.getForObject(url, Map.class);
+            Map<String, Object> response = metricsRecorder.timeUpstream(MetricsRecorder.PLACES_PARKING_LEGACY,
+                    () -> restTemplate.getForObject(url, Map.class), GooglePlacesService::legacyOutcome);
             if (response == null || response.get("results") == null) return java.util.List.of();
             List<Map<String, Object>> results = (List<Map<String, Object>>) response.get("results");
             java.util.List<ItineraryResponse.PlaceDto> out = new java.util.ArrayList<>();
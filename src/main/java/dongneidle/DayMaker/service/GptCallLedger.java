@@ -0,0 +1,143 @@
+package dongneidle.DayMaker.service;
+
+import dongneidle.DayMaker.enums.GptCallSite;
+import dongneidle.DayMaker.util.BucketHistogram;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * GPT 호출 단위 토큰/지연/비용 장부
+ *
+ * OpenAiClient가 호출이 끝날 때마다 기록하며, 호출 지점(GptCallSite)별로
+ * 토큰 수·대기 시간·첫 바이트까지 시간·전체 지연 히스토그램과 누적 비용을 집계한다.
+ * 최근 호출 기록은 고정 개수만 보관한다.
+ */
+@Slf4j
+@Component
+public class GptCallLedger {
+
+    private static final int RECENT_LIMIT = 200;
+
+    // 1K 토큰당 비용 (USD)
+    private final double promptPricePer1k;
+    private final double completionPricePer1k;
+
+    private final Map<GptCallSite, SiteStats> statsBySite = new EnumMap<>(GptCallSite.class);
+    private final Deque<CallRecord> recent = new ArrayDeque<>();
+
+    public GptCallLedger(
+            @Value("${openai.pricing.prompt-per-1k:0.0005}") double promptPricePer1k,
+            @Value("${openai.pricing.completion-per-1k:0.0015}") double completionPricePer1k) {
+        this.promptPricePer1k = promptPricePer1k;
+        this.completionPricePer1k = completionPricePer1k;
+        for (GptCallSite site : GptCallSite.values()) {
+            statsBySite.put(site, new SiteStats());
+        }
+    }
+
+    /**
+     * 호출 1건 기록
+     */
+    public void record(GptCallSite callSite,
+                       String outcome,
+                       long promptTokens,
+                       long completionTokens,
+                       long queueMs,
+                       long firstByteMs,
+                       long totalMs) {
+        GptCallSite site = callSite != null ? callSite : GptCallSite.UNKNOWN;
+        double cost = promptTokens / 1000.0 * promptPricePer1k + completionTokens / 1000.0 * completionPricePer1k;
+
+        SiteStats stats = statsBySite.get(site);
+        stats.calls.increment();
+        if (!"success".equals(outcome)) stats.failures.increment();
+        stats.promptTokens.record(promptTokens);
+        stats.completionTokens.record(completionTokens);
+        stats.queueMs.record(queueMs);
+        stats.firstByteMs.record(firstByteMs);
+        stats.totalMs.record(totalMs);
+        stats.costUsd.add(cost);
+
+        CallRecord record = new CallRecord(Instant.now(), site, outcome, promptTokens, completionTokens,
+                queueMs, firstByteMs, totalMs, cost);
+        synchronized (recent) {
+            recent.addFirst(record);
+            if (recent.size() > RECENT_LIMIT) {
+                recent.removeLast();
+            }
+        }
+        log.debug("GPT call [{}] {}: prompt={} completion={} queue={}ms ttfb={}ms total={}ms cost=${}",
+                site, outcome, promptTokens, completionTokens, queueMs, firstByteMs, totalMs, cost);
+    }
+
+    /**
+     * 호출 지점별 집계 스냅샷
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("promptPricePer1k", promptPricePer1k);
+        result.put("completionPricePer1k", completionPricePer1k);
+        Map<String, Object> sites = new LinkedHashMap<>();
+        statsBySite.forEach((site, stats) -> {
+            long calls = stats.calls.sum();
+            if (calls == 0) return;
+            Map<String, Object> s = new LinkedHashMap<>();
+            s.put("callSite", site.getDisplayName());
+            s.put("calls", calls);
+            s.put("failures", stats.failures.sum());
+            s.put("totalCostUsd", stats.costUsd.sum());
+            s.put("avgCostUsd", stats.costUsd.sum() / calls);
+            s.put("promptTokens", stats.promptTokens.snapshot());
+            s.put("completionTokens", stats.completionTokens.snapshot());
+            s.put("queueMs", stats.queueMs.snapshot());
+            s.put("firstByteMs", stats.firstByteMs.snapshot());
+            s.put("totalMs", stats.totalMs.snapshot());
+            sites.put(site.name(), s);
+        });
+        result.put("sites", sites);
+        return result;
+    }
+
+    /**
+     * 최근 호출 기록 (최신순)
+     */
+    public List<CallRecord> recent(int limit) {
+        synchronized (recent) {
+            return new ArrayList<>(recent).subList(0, Math.min(Math.max(limit, 0), recent.size()));
+        }
+    }
+
+    public record CallRecord(Instant at,
+                             GptCallSite callSite,
+                             String outcome,
+                             long promptTokens,
+                             long completionTokens,
+                             long queueMs,
+                             long firstByteMs,
+                             long totalMs,
+                             double costUsd) {
+    }
+
+    private static class SiteStats {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final BucketHistogram promptTokens = BucketHistogram.forTokens();
+        private final BucketHistogram completionTokens = BucketHistogram.forTokens();
+        private final BucketHistogram queueMs = BucketHistogram.forMillis();
+        private final BucketHistogram firstByteMs = BucketHistogram.forMillis();
+        private final BucketHistogram totalMs = BucketHistogram.forMillis();
+        private final DoubleAdder costUsd = new DoubleAdder();
+    }
+}
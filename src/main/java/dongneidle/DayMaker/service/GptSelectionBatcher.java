@@ -0,0 +1,217 @@
+package dongneidle.DayMaker.service;
+
+import com.theokanning.openai.completion.chat.ChatCompletionRequest;
+import com.theokanning.openai.completion.chat.ChatMessage;
+import dongneidle.DayMaker.enums.GptCallSite;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * GPT 장소 선택 요청 마이크로 배칭 (옵션, openai.batch.enabled)
+ *
+ * 짧은 시간(window-ms) 동안 들어온 선택 요청을 모아 한 번의 Chat Completion으로 보내고,
+ * 응답을 문제 번호별로 나눠 각 호출자에게 돌려준다.
+ * - 요청당 왕복/프롬프트 오버헤드를 나눠 부담
+ * - OpenAI 분당 요청 수(RPM) 한도 절약
+ * 응답에서 자기 문제의 답을 찾지 못한 호출자는 실패 처리되어 로컬 랭킹으로 fallback 된다.
+ */
+@Slf4j
+@Component
+public class GptSelectionBatcher {
+
+    // "문제번호: 답" 형식만 인정 ("1." / "1)"은 답 안의 장소 목록 번호일 수 있으므로 제외)
+    private static final Pattern ANSWER_LINE = Pattern.compile("^\\s*(?:문제\\s*)?(\\d+)\\s*[:：]\\s*(.*)$");
+
+    private final OpenAiClient openAiClient;
+    private final boolean enabled;
+    private final long windowMs;
+    private final int maxBatchSize;
+    private final String openaiModel;
+
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "gpt-batcher");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final Object lock = new Object();
+    private List<PendingSelection> current = new ArrayList<>();
+
+    private final AtomicLong batchesSent = new AtomicLong();
+    private final AtomicLong selectionsBatched = new AtomicLong();
+    private final AtomicLong unansweredSelections = new AtomicLong();
+
+    public GptSelectionBatcher(
+            OpenAiClient openAiClient,
+            @Value("${openai.batch.enabled:false}") boolean enabled,
+            @Value("${openai.batch.window-ms:50}") long windowMs,
+            @Value("${openai.batch.max-size:8}") int maxBatchSize,
+            @Value("${openai.api.model:gpt-3.5-turbo}") String openaiModel) {
+        this.openAiClient = openAiClient;
+        this.enabled = enabled;
+        this.windowMs = windowMs;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.openaiModel = openaiModel;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 선택 문제 하나를 배치에 추가하고, 해당 문제에 대한 GPT 응답 텍스트(예: "1,3,5")를 돌려받는다
+     * problem은 응답 형식 줄이 없는 본문, answerFormat은 단건으로 보낼 때만 붙이는 응답 형식
+     * (배치로 보낼 때는 문제별 형식 대신 배치 공통 형식 하나만 사용)
+     */
+    public CompletableFuture<String> submit(String problem, String answerFormat, GptCallSite callSite) {
+        PendingSelection selection = new PendingSelection(problem, answerFormat, callSite, new CompletableFuture<>());
+        List<PendingSelection> full = null;
+        synchronized (lock) {
+            current.add(selection);
+            if (current.size() >= maxBatchSize) {
+                full = current;
+                current = new ArrayList<>();
+            } else if (current.size() == 1) {
+                // 배치의 첫 요청이 window 타이머를 시작
+                List<PendingSelection> batch = current;
+                flusher.schedule(() -> flushIfCurrent(batch), windowMs, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (full != null) {
+            send(full);
+        }
+        return selection.future();
+    }
+
+    /**
+     * 배치 통계
+     */
+    public Map<String, Object> getStats() {
+        long batches = batchesSent.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("windowMs", windowMs);
+        stats.put("maxBatchSize", maxBatchSize);
+        stats.put("batchesSent", batches);
+        stats.put("selectionsBatched", selectionsBatched.get());
+        stats.put("avgBatchSize", batches == 0 ? 0.0 : (double) selectionsBatched.get() / batches);
+        stats.put("unansweredSelections", unansweredSelections.get());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdownNow();
+    }
+
+    private void flushIfCurrent(List<PendingSelection> batch) {
+        synchronized (lock) {
+            // 크기 초과로 이미 전송된 배치면 무시
+            if (current != batch) {
+                return;
+            }
+            current = new ArrayList<>();
+        }
+        send(batch);
+    }
+
+    private void send(List<PendingSelection> batch) {
+        batchesSent.incrementAndGet();
+        selectionsBatched.addAndGet(batch.size());
+
+        // 단건이면 배치하지 않을 때와 같은 프롬프트로 전송
+        if (batch.size() == 1) {
+            PendingSelection only = batch.get(0);
+            openAiClient.createChatCompletionAsync(buildRequest(only.problem() + only.answerFormat(), 100), only.callSite())
+                    .thenApply(result -> result.getChoices().get(0).getMessage().getContent())
+                    .whenComplete((content, error) -> {
+                        if (error != null) only.future().completeExceptionally(error);
+                        else only.future().complete(content);
+                    });
+            return;
+        }
+
+        log.info("Sending batched GPT selection: {} problems", batch.size());
+        // 배치 내 호출 지점이 모두 같으면 그 지점으로, 섞여 있으면 BATCHED로 기록
+        GptCallSite batchSite = batch.stream().map(PendingSelection::callSite).distinct().count() == 1
+                ? batch.get(0).callSite() : GptCallSite.BATCHED;
+        openAiClient.createChatCompletionAsync(buildRequest(createBatchPrompt(batch), 60 * batch.size()), batchSite)
+                .thenApply(result -> result.getChoices().get(0).getMessage().getContent())
+                .whenComplete((content, error) -> {
+                    if (error != null) {
+                        batch.forEach(s -> s.future().completeExceptionally(error));
+                        return;
+                    }
+                    Map<Integer, String> answers = parseBatchResponse(content);
+                    for (int i = 0; i < batch.size(); i++) {
+                        String answer = answers.get(i + 1);
+                        if (answer != null && !answer.isBlank()) {
+                            batch.get(i).future().complete(answer);
+                        } else {
+                            unansweredSelections.incrementAndGet();
+                            batch.get(i).future().completeExceptionally(
+                                    new IllegalStateException("No answer for batched problem " + (i + 1)));
+                        }
+                    }
+                });
+    }
+
+    private ChatCompletionRequest buildRequest(String prompt, int maxTokens) {
+        return ChatCompletionRequest.builder()
+                .model(openaiModel)
+                .messages(List.of(new ChatMessage("user", prompt)))
+                .maxTokens(maxTokens)
+                .temperature(0.3)
+                .build();
+    }
+
+    /**
+     * 여러 선택 문제를 하나의 구조화된 프롬프트로 결합
+     * 문제 본문에는 각자의 응답 형식 줄이 없고, 마지막의 "문제번호: 번호들" 형식 하나만 지시한다
+     */
+    private String createBatchPrompt(List<PendingSelection> batch) {
+        StringBuilder prompt = new StringBuilder();
+        prompt.append("아래에 서로 독립적인 장소 선택 문제 ").append(batch.size()).append("개가 있습니다.\n");
+        prompt.append("각 문제를 따로 풀고, 문제마다 선택한 장소 번호를 답해주세요.\n\n");
+        for (int i = 0; i < batch.size(); i++) {
+            prompt.append("### 문제 ").append(i + 1).append("\n");
+            prompt.append(batch.get(i).problem()).append("\n\n");
+        }
+        prompt.append("최종 응답 형식: 문제마다 한 줄씩 \"문제번호: 선택한 장소 번호들\" 형태로만 답변해주세요.\n");
+        prompt.append("(예:\n1: 1,3,5\n2: 2,4,6)");
+        return prompt.toString();
+    }
+
+    private Map<Integer, String> parseBatchResponse(String content) {
+        Map<Integer, String> answers = new HashMap<>();
+        if (content == null) {
+            return answers;
+        }
+        for (String line : content.split("\\R")) {
+            Matcher m = ANSWER_LINE.matcher(line);
+            if (m.matches()) {
+                answers.putIfAbsent(Integer.parseInt(m.group(1)), m.group(2).trim());
+            }
+        }
+        return answers;
+    }
+
+    private record PendingSelection(String problem, String answerFormat, GptCallSite callSite,
+                                    CompletableFuture<String> future) {
+    }
+}
@@ -1,16 +1,29 @@
 package dongneidle.DayMaker.service;
 
 import dongneidle.DayMaker.DTO.ItineraryResponse;
+import dongneidle.DayMaker.enums.GptCallSite;
 import com.theokanning.openai.completion.chat.ChatCompletionRequest;
 import com.theokanning.openai.completion.chat.ChatMessage;
-import com.theokanning.openai.service.OpenAiService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.ArrayList;
 
@@ -19,13 +32,41 @@ import java.util.ArrayList;
 @RequiredArgsConstructor
 public class GptService {
     
-    @Value("${openai.api.key:}")
-    private String openaiApiKey;
-    
     @Value("${openai.api.model:gpt-3.5-turbo}")
     private String openaiModel;
     
-    private OpenAiService openAiService;
+    /**
+     * GPT 응답 대기 한도 (ms). 초과 시 로컬 랭킹 결과를 사용
+     */
+    @Value("${openai.selection.deadline-ms:2500}")
+    private long selectionDeadlineMs;
+    
+    private static final int SELECTION_CACHE_SIZE = 256;
+    // 단건 선택 응답 형식 (배치 프롬프트는 문제별 형식 대신 GptSelectionBatcher의 공통 형식을 사용)
+    private static final String SELECTION_ANSWER_FORMAT = "\n응답 형식: 선택한 장소의 번호만 쉼표로 구분하여 답변해주세요. (예: 1,3,5)";
+    
+    private final OpenAiClient openAiClient;
+    private final GptSelectionBatcher selectionBatcher;
+    
+    /**
+     * 프롬프트 → GPT 원본 응답 캐시 (늦게 도착한 응답으로도 채워짐)
+     * 프롬프트에 후보 순서가 그대로 들어가므로 응답의 번호를 그대로 재사용 가능
+     */
+    private final Map<String, String> selectionCache = Collections.synchronizedMap(
+            new LinkedHashMap<String, String>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                    return size() > SELECTION_CACHE_SIZE;
+                }
+            });
+    
+    // 경쟁 결과 통계 (품질 비교용)
+    private final AtomicLong gptWins = new AtomicLong();
+    private final AtomicLong deadlineMisses = new AtomicLong();
+    private final AtomicLong gptFailures = new AtomicLong();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong lateAnswers = new AtomicLong();
+    private final AtomicLong lateOverlapPercentSum = new AtomicLong();
     
     /**
      * GPT API를 사용하여 최적의 장소들을 선택
@@ -34,6 +75,7 @@ public class GptService {
      * @param transport 교통수단
      * @param maxPlaces 선택할 최대 장소 수
      * @param foodType 음식 타입 (음식점 제한 로직용)
+     * @param callSite 호출 지점 (토큰/지연 장부 집계용)
      * @return GPT가 선택한 최적 장소들
      */
     public List<ItineraryResponse.PlaceDto> selectOptimalPlaces(
@@ -41,24 +83,37 @@ public class GptService {
             String peopleCount,
             String transport,
             int maxPlaces,
-            List<String> foodType) {
+            List<String> foodType,
+            GptCallSite callSite) {
+        
+        if (!openAiClient.isEnabled()) {
+            log.warn("OpenAI API key not configured, returning top {} places by local ranking", maxPlaces);
+            return applyNRestriction(rankLocally(allPlaces, maxPlaces), foodType);
+        }
+        
+        // 프롬프트 생성 (캐시 키는 응답 형식까지 포함한 단건 프롬프트)
+        String problem = createSelectionProblem(allPlaces, peopleCount, transport, maxPlaces, foodType);
+        String prompt = problem + SELECTION_ANSWER_FORMAT;
         
-        if (openaiApiKey.isEmpty()) {
-            log.warn("OpenAI API key not configured, returning first {} places", maxPlaces);
-            return applyNRestriction(allPlaces.stream().limit(maxPlaces).collect(Collectors.toList()), foodType);
+        // 같은 후보/조건으로 이미 받은 GPT 응답이 있으면 바로 사용
+        String cached = selectionCache.get(prompt);
+        if (cached != null) {
+            cacheHits.incrementAndGet();
+            log.info("GPT selection cache hit");
+            return applyNRestriction(parseGptResponse(cached, allPlaces, maxPlaces), foodType);
         }
         
+        // GPT 호출과 로컬 랭킹을 동시에 시작
+        long startedAt = System.nanoTime();
+        // 동시 호출 한도/대기열 초과 시 OpenAiClient가 즉시 실패시키므로 아래에서 로컬 fallback
+        CompletableFuture<String> gptFuture = callGptApi(problem, callSite);
+        List<ItineraryResponse.PlaceDto> localPlaces = rankLocally(allPlaces, maxPlaces);
+        
         try {
-            // GPT API 서비스 초기화
-            if (openAiService == null) {
-                openAiService = new OpenAiService(openaiApiKey, Duration.ofSeconds(30));
-            }
-            
-            // 프롬프트 생성
-            String prompt = createSelectionPrompt(allPlaces, peopleCount, transport, maxPlaces, foodType);
-            
-            // GPT API 호출
-            String response = callGptApi(prompt);
+            // deadline 안에 GPT가 응답하면 GPT 결과 채택
+            String response = gptFuture.get(selectionDeadlineMs, TimeUnit.MILLISECONDS);
+            selectionCache.put(prompt, response);
+            gptWins.incrementAndGet();
             
             // 응답 파싱 및 장소 선택
             List<ItineraryResponse.PlaceDto> selectedPlaces = parseGptResponse(response, allPlaces, maxPlaces);
@@ -66,18 +121,179 @@ public class GptService {
             // N개 제한 로직 적용
             return applyNRestriction(selectedPlaces, foodType);
             
-        } catch (Exception e) {
-            log.error("Error calling GPT API", e);
-            // GPT API 실패 시 기본 로직으로 fallback
-            List<ItineraryResponse.PlaceDto> fallbackPlaces = allPlaces.stream().limit(maxPlaces).collect(Collectors.toList());
-            return applyNRestriction(fallbackPlaces, foodType);
+        } catch (TimeoutException e) {
+            deadlineMisses.incrementAndGet();
+            log.warn("GPT selection exceeded deadline ({}ms), using local ranking", selectionDeadlineMs);
+            // 늦게 도착한 응답은 품질 비교 기록 + 캐시 워밍에 사용
+            gptFuture.whenComplete((response, error) ->
+                    recordLateAnswer(prompt, response, error, localPlaces, allPlaces, maxPlaces, startedAt));
+            return applyNRestriction(localPlaces, foodType);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            gptFuture.cancel(true);
+            return applyNRestriction(localPlaces, foodType);
+        } catch (ExecutionException e) {
+            gptFailures.incrementAndGet();
+            if (e.getCause() instanceof RejectedExecutionException) {
+                log.warn("GPT call rejected ({}), using local ranking", e.getCause().getMessage());
+                return applyNRestriction(localPlaces, foodType);
+            }
+            log.error("Error calling GPT API", e.getCause());
+            // GPT API 실패 시 로컬 랭킹으로 fallback
+            return applyNRestriction(localPlaces, foodType);
         }
     }
     
     /**
-     * 장소 선택을 위한 프롬프트 생성
+     * selectOptimalPlaces의 non-blocking 버전 (리액티브 코스 생성용)
+     * 캐시/deadline/로컬 fallback 규칙은 같고, GPT 응답을 기다리며 점유하는 스레드가 없음.
+     * deadline을 넘긴 호출은 그대로 두어 늦은 응답으로 캐시를 채우고,
+     * 구독이 취소되면(클라이언트 연결 종료) 진행 중인 GPT 호출도 취소
      */
-    private String createSelectionPrompt(
+    public Mono<List<ItineraryResponse.PlaceDto>> selectOptimalPlacesReactive(
+            List<ItineraryResponse.PlaceDto> allPlaces,
+            String peopleCount,
+            String transport,
+            int maxPlaces,
+            List<String> foodType,
+            GptCallSite callSite) {
+        
+        if (!openAiClient.isEnabled()) {
+            log.warn("OpenAI API key not configured, returning top {} places by local ranking", maxPlaces);
+            return Mono.fromSupplier(() -> applyNRestriction(rankLocally(allPlaces, maxPlaces), foodType));
+        }
+        
+        return Mono.defer(() -> {
+            String problem = createSelectionProblem(allPlaces, peopleCount, transport, maxPlaces, foodType);
+            String prompt = problem + SELECTION_ANSWER_FORMAT;
+            String cached = selectionCache.get(prompt);
+            if (cached != null) {
+                cacheHits.incrementAndGet();
+                log.info("GPT selection cache hit");
+                return Mono.just(applyNRestriction(parseGptResponse(cached, allPlaces, maxPlaces), foodType));
+            }
+            
+            long startedAt = System.nanoTime();
+            CompletableFuture<String> gptFuture = callGptApiReactive(problem, callSite);
+            List<ItineraryResponse.PlaceDto> localPlaces = rankLocally(allPlaces, maxPlaces);
+            
+            // deadline 초과로 timeout이 구독을 끊어도 future는 취소하지 않음 (suppressCancel)
+            return Mono.fromFuture(gptFuture, true)
+                    .timeout(Duration.ofMillis(selectionDeadlineMs))
+                    .map(response -> {
+                        selectionCache.put(prompt, response);
+                        gptWins.incrementAndGet();
+                        return applyNRestriction(parseGptResponse(response, allPlaces, maxPlaces), foodType);
+                    })
+                    .onErrorResume(TimeoutException.class, e -> {
+                        deadlineMisses.incrementAndGet();
+                        log.warn("GPT selection exceeded deadline ({}ms), using local ranking", selectionDeadlineMs);
+                        gptFuture.whenComplete((response, error) ->
+                                recordLateAnswer(prompt, response, error, localPlaces, allPlaces, maxPlaces, startedAt));
+                        return Mono.just(applyNRestriction(localPlaces, foodType));
+                    })
+                    .onErrorResume(e -> {
+                        gptFailures.incrementAndGet();
+                        if (e instanceof RejectedExecutionException) {
+                            log.warn("GPT call rejected ({}), using local ranking", e.getMessage());
+                        } else {
+                            log.error("Error calling GPT API", e);
+                        }
+                        return Mono.just(applyNRestriction(localPlaces, foodType));
+                    })
+                    .doOnCancel(() -> gptFuture.cancel(true));
+        });
+    }
+    
+    /**
+     * 경쟁 결과 통계 (GPT 채택/deadline 초과/늦은 응답과 로컬 결과의 겹침 비율)
+     */
+    public Map<String, Object> getSelectionStats() {
+        long late = lateAnswers.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("deadlineMs", selectionDeadlineMs);
+        stats.put("gptWins", gptWins.get());
+        stats.put("deadlineMisses", deadlineMisses.get());
+        stats.put("gptFailures", gptFailures.get());
+        stats.put("cacheHits", cacheHits.get());
+        stats.put("cacheSize", selectionCache.size());
+        stats.put("lateAnswers", late);
+        stats.put("lateAvgOverlapPercent", late == 0 ? 0 : lateOverlapPercentSum.get() / late);
+        return stats;
+    }
+    
+    /**
+     * deadline 이후 도착한 GPT 응답 처리
+     * - 로컬 결과와 얼마나 겹치는지 기록 (품질 비교)
+     * - 같은 요청이 다시 들어오면 바로 쓰도록 캐시에 저장
+     */
+    private void recordLateAnswer(
+            String prompt,
+            String response,
+            Throwable error,
+            List<ItineraryResponse.PlaceDto> localPlaces,
+            List<ItineraryResponse.PlaceDto> allPlaces,
+            int maxPlaces,
+            long startedAt) {
+        
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        if (error != null) {
+            gptFailures.incrementAndGet();
+            log.warn("Late GPT selection failed after {}ms: {}", elapsedMs, error.getMessage());
+            return;
+        }
+        selectionCache.put(prompt, response);
+        
+        List<ItineraryResponse.PlaceDto> gptPlaces = parseGptResponse(response, allPlaces, maxPlaces);
+        Set<String> localIds = localPlaces.stream()
+                .map(ItineraryResponse.PlaceDto::getPlaceId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        long overlap = gptPlaces.stream()
+                .map(ItineraryResponse.PlaceDto::getPlaceId)
+                .filter(localIds::contains)
+                .count();
+        long overlapPercent = gptPlaces.isEmpty() ? 0 : overlap * 100 / gptPlaces.size();
+        lateAnswers.incrementAndGet();
+        lateOverlapPercentSum.addAndGet(overlapPercent);
+        log.info("Late GPT selection arrived after {}ms, overlap with local ranking: {}/{} ({}%)",
+                elapsedMs, overlap, gptPlaces.size(), overlapPercent);
+    }
+    
+    /**
+     * 로컬 랭킹: 카테고리별 평점 순으로 정렬한 뒤 카테고리를 번갈아 선택 (다양성 확보)
+     */
+    private List<ItineraryResponse.PlaceDto> rankLocally(List<ItineraryResponse.PlaceDto> allPlaces, int maxPlaces) {
+        Map<String, List<ItineraryResponse.PlaceDto>> byCategory = new LinkedHashMap<>();
+        for (ItineraryResponse.PlaceDto place : allPlaces) {
+            String category = place.getCategory() != null ? place.getCategory() : "OTHER";
+            byCategory.computeIfAbsent(category, k -> new ArrayList<>()).add(place);
+        }
+        Comparator<ItineraryResponse.PlaceDto> byRating = Comparator.comparingDouble(
+                (ItineraryResponse.PlaceDto p) -> p.getRating() != null ? p.getRating() : 0.0).reversed();
+        byCategory.values().forEach(list -> list.sort(byRating));
+        
+        List<ItineraryResponse.PlaceDto> ranked = new ArrayList<>();
+        int round = 0;
+        boolean added = true;
+        while (ranked.size() < maxPlaces && added) {
+            added = false;
+            for (List<ItineraryResponse.PlaceDto> list : byCategory.values()) {
+                if (ranked.size() >= maxPlaces) break;
+                if (round < list.size()) {
+                    ranked.add(list.get(round));
+                    added = true;
+                }
+            }
+            round++;
+        }
+        return ranked;
+    }
+    
+    /**
+     * 장소 선택 문제 본문 생성 (응답 형식 줄 제외, 단건 호출은 SELECTION_ANSWER_FORMAT을 붙여 전송)
+     */
+    private String createSelectionProblem(
             List<ItineraryResponse.PlaceDto> allPlaces,
             String peopleCount,
             String transport,
@@ -103,24 +319,43 @@ public class GptService {
                   .append(", 주소: ").append(place.getAddress()).append(")\n");
         }
         
-        prompt.append("\n응답 형식: 선택한 장소의 번호만 쉼표로 구분하여 답변해주세요. (예: 1,3,5)");
-        
         return prompt.toString();
     }
     
     /**
-     * GPT API 호출
+     * GPT API 호출 (비동기, OpenAiClient의 동시 호출 한도 적용)
+     * 마이크로 배칭이 켜져 있으면 다른 동시 요청과 묶어서 한 번에 호출
      */
-    private String callGptApi(String prompt) {
-        ChatCompletionRequest request = ChatCompletionRequest.builder()
+    private CompletableFuture<String> callGptApi(String problem, GptCallSite callSite) {
+        if (selectionBatcher.isEnabled()) {
+            return selectionBatcher.submit(problem, SELECTION_ANSWER_FORMAT, callSite);
+        }
+        
+        return openAiClient.createChatCompletionAsync(buildSelectionRequest(problem + SELECTION_ANSWER_FORMAT), callSite)
+                .thenApply(result -> result.getChoices().get(0).getMessage().getContent());
+    }
+    
+    /**
+     * GPT API non-blocking 호출 (WebClient 경로)
+     * 반환된 future를 취소하면 HTTP 호출도 취소됨. 마이크로 배칭이 켜져 있으면 배치에 합류 (배치 호출은 gptExecutor에서 실행)
+     */
+    private CompletableFuture<String> callGptApiReactive(String problem, GptCallSite callSite) {
+        if (selectionBatcher.isEnabled()) {
+            return selectionBatcher.submit(problem, SELECTION_ANSWER_FORMAT, callSite);
+        }
+        
+        return openAiClient.createChatCompletionReactive(buildSelectionRequest(problem + SELECTION_ANSWER_FORMAT), callSite)
+                .map(result -> result.getChoices().get(0).getMessage().getContent())
+                .toFuture();
+    }
+    
+    private ChatCompletionRequest buildSelectionRequest(String prompt) {
+        return ChatCompletionRequest.builder()
                 .model(openaiModel)
                 .messages(List.of(new ChatMessage("user", prompt)))
                 .maxTokens(100)
                 .temperature(0.3)
                 .build();
-        
-        return openAiService.createChatCompletion(request)
-                .getChoices().get(0).getMessage().getContent();
     }
     
     /**
@@ -138,6 +373,7 @@ public class GptService {
             List<ItineraryResponse.PlaceDto> selectedPlaces = new ArrayList<>();
             for (String numberStr : numbers) {
                 if (selectedPlaces.size() >= maxPlaces) break;
+                if (numberStr.isBlank()) continue;
                 
                 int index = Integer.parseInt(numberStr.trim()) - 1; // 0-based index
                 if (index >= 0 && index < allPlaces.size()) {
@@ -145,6 +381,11 @@ public class GptService {
                 }
             }
             
+            if (selectedPlaces.isEmpty()) {
+                log.warn("GPT response had no usable selection, falling back to local ranking: {}", response);
+                return rankLocally(allPlaces, maxPlaces);
+            }
+            
             log.info("GPT selected {} places: {}", selectedPlaces.size(), 
                     selectedPlaces.stream().map(ItineraryResponse.PlaceDto::getName).collect(Collectors.toList()));
             
@@ -152,8 +393,8 @@ public class GptService {
             
         } catch (Exception e) {
             log.error("Error parsing GPT response: {}", response, e);
-            // 파싱 실패 시 기본 로직으로 fallback
-            return allPlaces.stream().limit(maxPlaces).collect(Collectors.toList());
+            // 파싱 실패 시 로컬 랭킹으로 fallback
+            return rankLocally(allPlaces, maxPlaces);
         }
     }
     
@@ -0,0 +1,128 @@
+package dongneidle.DayMaker.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import dongneidle.DayMaker.entity.ItineraryBlob;
+import dongneidle.DayMaker.repository.ItineraryBlobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+/**
+ * 저장 코스 payload 내용 주소 저장소
+ *
+ * payload를 키 정렬한 정규 JSON으로 만들어 SHA-256을 키로 쓰고, 같은 내용은 한 행만 저장한다.
+ * Itinerary가 참조할 때마다 ref_count를 올리고(acquire), 삭제 시 내린다(release).
+ * ref_count가 0이 된 blob은 주기적인 GC가 지운다.
+ * acquire/release는 호출한 트랜잭션 안에서 실행되어야 한다.
+ */
+@Slf4j
+@Service
+public class ItineraryBlobStore {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO itinerary_blobs (hash, data, encoding, ref_count, created_at) VALUES (?, ?, ?, 1, ?)";
+
+    private final ItineraryBlobRepository blobRepository;
+    private final ItineraryPayloadCodec payloadCodec;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper canonicalMapper;
+
+    public ItineraryBlobStore(ItineraryBlobRepository blobRepository,
+                              ItineraryPayloadCodec payloadCodec,
+                              JdbcTemplate jdbcTemplate,
+                              ObjectMapper objectMapper) {
+        this.blobRepository = blobRepository;
+        this.payloadCodec = payloadCodec;
+        this.jdbcTemplate = jdbcTemplate;
+        this.canonicalMapper = objectMapper.copy().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+    }
+
+    /**
+     * 저장 준비가 끝난 blob (hash + 인코딩된 본문), DB 트랜잭션 밖에서 미리 만들어 둘 수 있음
+     */
+    public record PreparedBlob(String hash, byte[] data, int encoding) {
+    }
+
+    /**
+     * payload를 정규화해 hash를 계산하고 현재 형식으로 인코딩 (DB 접근 없음)
+     */
+    public PreparedBlob prepare(Object payload) throws IOException {
+        // 객체 → Map 트리 변환 후 키 정렬 직렬화 = 필드 순서와 무관한 정규형
+        Object tree = canonicalMapper.convertValue(payload, Object.class);
+        String hash = sha256(canonicalMapper.writeValueAsBytes(tree));
+        return new PreparedBlob(hash, payloadCodec.encode(tree), payloadCodec.getEncoding().getVersion());
+    }
+
+    /**
+     * payload를 저장(또는 기존 blob 참조 수 증가)하고 hash 반환
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public String acquire(Object payload) throws IOException {
+        return acquire(prepare(payload));
+    }
+
+    /**
+     * 준비된 blob을 저장(또는 기존 blob 참조 수 증가)하고 hash 반환
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public String acquire(PreparedBlob blob) {
+        if (blobRepository.incrementRefCount(blob.hash()) > 0) {
+            return blob.hash();
+        }
+        try {
+            jdbcTemplate.update(INSERT_SQL, blob.hash(), blob.data(), blob.encoding(),
+                    Timestamp.valueOf(LocalDateTime.now()));
+        } catch (DuplicateKeyException e) {
+            // 동시에 같은 내용이 먼저 저장됨 → 참조 수만 증가
+            blobRepository.incrementRefCount(blob.hash());
+        }
+        return blob.hash();
+    }
+
+    /**
+     * 참조 수 감소 (0이 되면 다음 GC에서 삭제)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(String hash) {
+        if (hash != null) {
+            blobRepository.decrementRefCount(hash);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public <T> T load(String hash, Class<T> type) throws IOException {
+        ItineraryBlob blob = blobRepository.findById(hash)
+                .orElseThrow(() -> new IOException("Missing itinerary blob: " + hash));
+        return payloadCodec.decode(blob.getData(), type);
+    }
+
+    @Scheduled(initialDelayString = "${itinerary.blob.gc-interval-ms:3600000}",
+               fixedDelayString = "${itinerary.blob.gc-interval-ms:3600000}")
+    @Transactional
+    public void collectGarbage() {
+        int deleted = blobRepository.deleteUnreferenced();
+        if (deleted > 0) {
+            log.info("Itinerary blob GC: {} unreferenced blobs deleted", deleted);
+        }
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package dongneidle.DayMaker.service;
+
+/**
+ * 저장 요청의 handle이 만료되었거나 존재하지 않음 (GeneratedItineraryStore 보관 기간 경과) → 410
+ * 클라이언트는 코스를 다시 생성하거나 요청/응답 전체 payload로 저장한다.
+ */
+public class ItineraryHandleExpiredException extends RuntimeException {
+
+    public ItineraryHandleExpiredException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,80 @@
+package dongneidle.DayMaker.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 저장 코스 id 블록 할당기
+ *
+ * id_sequences 테이블에서 block-size만큼 범위를 한 번에 예약해 두고 메모리에서 나눠준다.
+ * insert 전에 id가 필요하므로(write-behind 저장은 DB 쓰기 전에 id를 돌려줌) 모든 저장 경로가 이 할당기를 사용한다.
+ * 재시작 시 남은 블록은 버려지므로 id에 빈 번호가 생길 수 있다.
+ */
+@Slf4j
+@Component
+public class ItineraryIdAllocator {
+
+    private static final String SEQUENCE_NAME = "itineraries";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+    private final int blockSize;
+
+    // lock으로 보호 (블록 할당 시 락 안에서 JDBC 호출 → synchronized 대신 ReentrantLock: 가상 스레드 pinning 방지)
+    private final ReentrantLock lock = new ReentrantLock();
+    private long next;
+    private long limit;
+
+    public ItineraryIdAllocator(JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${itinerary.id.block-size:50}") int blockSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = Math.max(1, blockSize);
+    }
+
+    public long next() {
+        lock.lock();
+        try {
+            if (next >= limit) {
+                allocateBlock();
+            }
+            return next++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 호출자 트랜잭션과 무관하게 바로 커밋해 다른 인스턴스와 범위가 겹치지 않게 함
+    private void allocateBlock() {
+        Long end = requiresNew.execute(status -> {
+            int updated = jdbcTemplate.update(
+                    "UPDATE id_sequences SET next_val = next_val + ? WHERE name = ?", blockSize, SEQUENCE_NAME);
+            if (updated == 0) {
+                // 최초 할당: 기존 행 id 이후부터 시작
+                Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM itineraries", Long.class);
+                try {
+                    jdbcTemplate.update("INSERT INTO id_sequences (name, next_val) VALUES (?, ?)",
+                            SEQUENCE_NAME, maxId + 1 + blockSize);
+                } catch (DuplicateKeyException e) {
+                    jdbcTemplate.update("UPDATE id_sequences SET next_val = next_val + ? WHERE name = ?",
+                            blockSize, SEQUENCE_NAME);
+                }
+            }
+            return jdbcTemplate.queryForObject(
+                    "SELECT next_val FROM id_sequences WHERE name = ?", Long.class, SEQUENCE_NAME);
+        });
+        limit = end;
+        next = end - blockSize;
+        log.debug("Itinerary id block allocated: [{}, {})", next, limit);
+    }
+}
@@ -0,0 +1,111 @@
+package dongneidle.DayMaker.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import dongneidle.DayMaker.enums.PayloadEncoding;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 저장 코스 payload 코덱
+ *
+ * [버전 1바이트][본문] 형식으로 인코딩하고, 읽을 때는 버전 바이트를 보고 해당 형식으로 디코딩한다.
+ * 쓰기 형식은 itinerary.payload.encoding으로 바꿀 수 있고, 이전 형식으로 쓰인 행도 계속 읽힌다.
+ * (기존 텍스트 JSON 컬럼 행은 ItineraryPayloadMigrator가 백그라운드로 옮긴다)
+ */
+@Slf4j
+@Component
+public class ItineraryPayloadCodec {
+
+    // 타입별 reader/writer를 한 번만 만들어 재사용 (ObjectReader/Writer는 불변이라 스레드 간 공유 가능)
+    private final ClassValue<ObjectReader> jsonReaders;
+    private final ClassValue<ObjectWriter> jsonWriters;
+    private final ClassValue<ObjectReader> smileReaders;
+    private final ClassValue<ObjectWriter> smileWriters;
+    private final PayloadEncoding encoding;
+    private final int deflateLevel;
+
+    public ItineraryPayloadCodec(ObjectMapper objectMapper,
+                                 Jackson2ObjectMapperBuilder jacksonBuilder,
+                                 @Value("${itinerary.payload.encoding:SMILE_DEFLATE}") PayloadEncoding encoding,
+                                 @Value("${itinerary.payload.deflate-level:6}") int deflateLevel) {
+        // 애플리케이션 ObjectMapper와 같은 설정(모듈, 역직렬화 옵션)으로 Smile 매퍼 생성
+        ObjectMapper smileMapper = jacksonBuilder.factory(new SmileFactory()).build();
+        this.jsonReaders = readers(objectMapper);
+        this.jsonWriters = writers(objectMapper);
+        this.smileReaders = readers(smileMapper);
+        this.smileWriters = writers(smileMapper);
+        this.encoding = encoding;
+        this.deflateLevel = deflateLevel;
+        log.info("Itinerary payload encoding: {}", encoding);
+    }
+
+    public PayloadEncoding getEncoding() {
+        return encoding;
+    }
+
+    public byte[] encode(Object value) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+        out.write(encoding.getVersion());
+        switch (encoding) {
+            case JSON -> jsonWriters.get(value.getClass()).writeValue(out, value);
+            case SMILE -> smileWriters.get(value.getClass()).writeValue(out, value);
+            case SMILE_DEFLATE -> {
+                Deflater deflater = new Deflater(deflateLevel);
+                try (DeflaterOutputStream deflated = new DeflaterOutputStream(out, deflater)) {
+                    smileWriters.get(value.getClass()).writeValue(deflated, value);
+                } finally {
+                    deflater.end();
+                }
+            }
+        }
+        return out.toByteArray();
+    }
+
+    public <T> T decode(byte[] data, Class<T> type) throws IOException {
+        if (data == null || data.length == 0) {
+            throw new IOException("Empty payload");
+        }
+        PayloadEncoding stored = PayloadEncoding.fromVersion(data[0]);
+        InputStream body = new ByteArrayInputStream(data, 1, data.length - 1);
+        return switch (stored) {
+            case JSON -> jsonReaders.get(type).readValue(body);
+            case SMILE -> smileReaders.get(type).readValue(body);
+            case SMILE_DEFLATE -> {
+                try (InflaterInputStream inflated = new InflaterInputStream(body)) {
+                    yield smileReaders.get(type).readValue(inflated);
+                }
+            }
+        };
+    }
+
+    private static ClassValue<ObjectReader> readers(ObjectMapper mapper) {
+        return new ClassValue<>() {
+            @Override
+            protected ObjectReader computeValue(Class<?> type) {
+                return mapper.readerFor(type);
+            }
+        };
+    }
+
+    private static ClassValue<ObjectWriter> writers(ObjectMapper mapper) {
+        return new ClassValue<>() {
+            @Override
+            protected ObjectWriter computeValue(Class<?> type) {
+                return mapper.writerFor(type);
+            }
+        };
+    }
+}
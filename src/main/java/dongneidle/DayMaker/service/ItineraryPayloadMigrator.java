@@ -0,0 +1,153 @@
+package dongneidle.DayMaker.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dongneidle.DayMaker.entity.Itinerary;
+import dongneidle.DayMaker.repository.ItineraryBlobRepository;
+import dongneidle.DayMaker.repository.ItineraryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 저장 코스 payload 백그라운드 이전
+ *
+ * 1) 텍스트 JSON 컬럼(request_json/response_json)에 남아 있는 이전 형식 행을 ItineraryBlob으로 옮긴다
+ * 2) 현재 설정과 다른 형식으로 인코딩된 blob을 현재 형식(ItineraryPayloadCodec)으로 다시 인코딩한다
+ * 모두 batch-size 단위의 짧은 트랜잭션으로 처리하고, 내용은 JsonNode로 그대로 옮기므로
+ * blob hash와 updatedAt은 바뀌지 않는다.
+ * 재인코딩은 data/encoding 컬럼만 UPDATE 하므로 동시에 진행되는 acquire/release의 ref_count 증감과 겹치지 않는다.
+ */
+@Slf4j
+@Component
+public class ItineraryPayloadMigrator {
+
+    private final ItineraryRepository itineraryRepository;
+    private final ItineraryBlobRepository blobRepository;
+    private final ItineraryBlobStore blobStore;
+    private final ItineraryPayloadCodec payloadCodec;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${itinerary.payload.migrate.enabled:true}")
+    private boolean enabled;
+
+    @Value("${itinerary.payload.migrate.batch-size:200}")
+    private int batchSize;
+
+    // 한 번 실행에서 처리할 최대 배치 수 (DB 부하 분산)
+    @Value("${itinerary.payload.migrate.max-batches-per-run:10}")
+    private int maxBatchesPerRun;
+
+    public ItineraryPayloadMigrator(ItineraryRepository itineraryRepository,
+                                    ItineraryBlobRepository blobRepository,
+                                    ItineraryBlobStore blobStore,
+                                    ItineraryPayloadCodec payloadCodec,
+                                    ObjectMapper objectMapper,
+                                    PlatformTransactionManager transactionManager) {
+        this.itineraryRepository = itineraryRepository;
+        this.blobRepository = blobRepository;
+        this.blobStore = blobStore;
+        this.payloadCodec = payloadCodec;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(initialDelayString = "${itinerary.payload.migrate.initial-delay-ms:30000}",
+               fixedDelayString = "${itinerary.payload.migrate.interval-ms:60000}")
+    public void migrate() {
+        if (!enabled) {
+            return;
+        }
+        int[] rows = migrateLegacyRows();
+        int[] blobs = reencodeStaleBlobs();
+        if (rows[0] + rows[1] + blobs[0] + blobs[1] > 0) {
+            log.info("Itinerary payload migration: {} rows moved to blobs ({} failed), {} blobs re-encoded ({} failed)",
+                    rows[0], rows[1], blobs[0], blobs[1]);
+        }
+    }
+
+    private int[] migrateLegacyRows() {
+        long afterId = 0L;
+        int[] total = new int[2];
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<Long> ids = itineraryRepository.findIdsWithoutBlobs(afterId, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            afterId = ids.get(ids.size() - 1);
+            int[] result = transactionTemplate.execute(status -> moveToBlobs(ids));
+            total[0] += result[0];
+            total[1] += result[1];
+        }
+        return total;
+    }
+
+    private int[] moveToBlobs(List<Long> ids) {
+        int migrated = 0;
+        int failed = 0;
+        for (Itinerary itinerary : itineraryRepository.findAllById(ids)) {
+            try {
+                JsonNode request = readTree(itinerary.getRequestJson());
+                JsonNode response = readTree(itinerary.getResponseJson());
+                itinerary.setRequestHash(blobStore.acquire(request));
+                itinerary.setResponseHash(blobStore.acquire(response));
+                itinerary.setRequestJson(null);
+                itinerary.setResponseJson(null);
+                migrated++;
+            } catch (IOException | RuntimeException e) {
+                // 읽을 수 없는 행은 그대로 두고 다음 실행에서 다시 시도
+                log.warn("Itinerary {} payload migration failed: {}", itinerary.getId(), e.getMessage());
+                failed++;
+            }
+        }
+        return new int[]{migrated, failed};
+    }
+
+    private int[] reencodeStaleBlobs() {
+        int target = payloadCodec.getEncoding().getVersion();
+        int[] total = new int[2];
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<String> hashes = blobRepository.findHashesWithEncodingOtherThan(target, PageRequest.of(0, batchSize));
+            if (hashes.isEmpty()) {
+                break;
+            }
+            int[] result = transactionTemplate.execute(status -> reencodeBlobs(hashes, target));
+            total[0] += result[0];
+            total[1] += result[1];
+            // 실패만 남은 배치면 같은 행을 반복 조회하지 않도록 중단
+            if (result[0] == 0) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private int[] reencodeBlobs(List<String> hashes, int target) {
+        int reencoded = 0;
+        int failed = 0;
+        for (ItineraryBlobRepository.EncodedBlob blob : blobRepository.findEncodedByHashIn(hashes)) {
+            try {
+                JsonNode content = payloadCodec.decode(blob.getData(), JsonNode.class);
+                if (blobRepository.updateEncoding(blob.getHash(), payloadCodec.encode(content), target, blob.getEncoding()) > 0) {
+                    reencoded++;
+                }
+            } catch (IOException | RuntimeException e) {
+                log.warn("Itinerary blob {} re-encoding failed: {}", blob.getHash(), e.getMessage());
+                failed++;
+            }
+        }
+        return new int[]{reencoded, failed};
+    }
+
+    private JsonNode readTree(String json) throws IOException {
+        return json != null ? objectMapper.readTree(json) : objectMapper.nullNode();
+    }
+}
@@ -1,75 +1,269 @@
 package dongneidle.DayMaker.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import dongneidle.DayMaker.DTO.ItineraryRequest;
+import dongneidle.DayMaker.DTO.ItineraryPageResponse;
 import dongneidle.DayMaker.DTO.ItineraryResponse;
 import dongneidle.DayMaker.DTO.ItinerarySaveRequest;
 import dongneidle.DayMaker.DTO.ItinerarySummaryResponse;
+import dongneidle.DayMaker.config.ReadYourWritesRouter;
 import dongneidle.DayMaker.entity.Itinerary;
+import dongneidle.DayMaker.entity.ItineraryTombstone;
 import dongneidle.DayMaker.repository.ItineraryRepository;
+import dongneidle.DayMaker.repository.ItineraryTombstoneRepository;
+import dongneidle.DayMaker.util.KeysetCursor;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ItinerarySaveService {
     //저장/조회 로직
-// save(ItinerarySaveRequest): 요청/응답 DTO를 JSON으로 직렬화해 Itinerary 저장,저장된 id 반환
-// listByUser(String userEmail):해당 유저의 코스 요약 목록 반환
-// getDetail(Long id): 저장된 responseJson을 역직렬화하여 ItineraryResponse로 반환
+// save(ItinerarySaveRequest): handle(또는 요청/응답 DTO)의 payload를 ItineraryBlobStore에 저장(같은 내용은 공유)하고 Itinerary 저장,저장된 id 반환
+//   (write-behind 모드면 ItineraryWriteBehindBuffer에 기록 후 id만 먼저 반환)
+// listPage(...): 커서 기반 요약 페이지 / since 이후 변경분 반환
+// getDetail(Long id): 저장된 응답 blob(또는 이전 형식 JSON 컬럼)을 역직렬화하여 ItineraryResponse로 반환
+// delete(Long id): 코스 삭제, blob 참조 해제, 삭제 기록(tombstone) 추가
+
+	private static final int DEFAULT_PAGE_SIZE = 20;
+	private static final int MAX_PAGE_SIZE = 100;
 
 	private final ItineraryRepository itineraryRepository;
-	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final ItineraryTombstoneRepository tombstoneRepository;
+	private final ItineraryBlobStore blobStore;
+	private final ItineraryPayloadCodec payloadCodec;
+	private final ObjectMapper objectMapper;
+	private final ItineraryIdAllocator idAllocator;
+	private final ItineraryWriteBehindBuffer writeBehindBuffer;
+	private final GeneratedItineraryStore generatedItineraryStore;
+	private final TransactionTemplate transactionTemplate;
+	private final EntityManager entityManager;
+	private final ReadYourWritesRouter readYourWritesRouter;
+
+	// since 조회 시 기준을 이만큼 앞당겨 다시 읽음 (진행 중인 커밋, write-behind 기록 지연, 복제 지연으로
+	// 기준 시각보다 이른 updatedAt이 늦게 보이는 행을 놓치지 않도록, 중복 항목은 클라이언트가 id로 덮어씀)
+	@Value("${itinerary.sync.overlap-seconds:60}")
+	private long syncOverlapSeconds;
+
+	// 삭제 기록 보관 기간, since가 이보다 오래되면 삭제분을 보장할 수 없어 전체 재동기화 요구
+	@Value("${itinerary.sync.tombstone-retention-days:30}")
+	private long tombstoneRetentionDays;
 
+	/**
+	 * 코스 저장
+	 * handle이 있으면 GeneratedItineraryStore에 보관된 인코딩 결과를, 없으면 요청 본문의 DTO를 저장한다.
+	 * write-behind 모드면 파일 버퍼에 기록 후 바로 id 반환 (DB 커넥션 사용 안 함), 아니면 바로 insert
+	 * @throws ItineraryHandleExpiredException handle이 만료되었거나 없는 경우
+	 * @throws IllegalArgumentException 제목이 너무 긴 경우
+	 */
 	public Long save(ItinerarySaveRequest request) {
+		ItineraryBlobStore.PreparedBlob requestBlob;
+		ItineraryBlobStore.PreparedBlob responseBlob;
+		String title;
 		try {
-			String requestJson = objectMapper.writeValueAsString(request.getRequest());
-			String responseJson = objectMapper.writeValueAsString(request.getResponse());
+			if (request.getHandle() != null && !request.getHandle().isBlank()) {
+				GeneratedItineraryStore.Entry generated = generatedItineraryStore.get(request.getHandle())
+						.orElseThrow(() -> new ItineraryHandleExpiredException("만료되었거나 존재하지 않는 코스입니다."));
+				requestBlob = generated.request();
+				responseBlob = generated.response();
+				title = request.getTitle() != null ? request.getTitle() : buildDefaultTitle(generated.requestDate());
+			} else {
+				requestBlob = blobStore.prepare(request.getRequest());
+				responseBlob = blobStore.prepare(request.getResponse());
+				title = request.getTitle() != null ? request.getTitle()
+						: buildDefaultTitle(request.getRequest() != null ? request.getRequest().getDate() : null);
+			}
+		} catch (IOException e) {
+			throw new RuntimeException("여행 코스 저장에 실패했습니다.");
+		}
+		if (title.length() > ItineraryWriteBehindBuffer.MAX_TITLE_LENGTH) {
+			throw new IllegalArgumentException("제목은 " + ItineraryWriteBehindBuffer.MAX_TITLE_LENGTH + "자 이하여야 합니다.");
+		}
+
+		long id = idAllocator.next();
+		LocalDateTime now = LocalDateTime.now();
+		if (writeBehindBuffer.isEnabled()) {
+			try {
+				writeBehindBuffer.append(new ItineraryWriteBehindBuffer.PendingSave(
+						id, request.getUserEmail(), title, now, requestBlob, responseBlob));
+			} catch (IOException e) {
+				throw new RuntimeException("여행 코스 저장에 실패했습니다.");
+			}
+			readYourWritesRouter.recordWrite(request.getUserEmail());
+			return id;
+		}
+		transactionTemplate.executeWithoutResult(status -> {
 			Itinerary entity = Itinerary.builder()
+					.id(id)
 					.userEmail(request.getUserEmail())
-					.title(request.getTitle() != null ? request.getTitle() : buildDefaultTitle(request.getRequest()))
-					.requestJson(requestJson)
-					.responseJson(responseJson)
-					.createdAt(LocalDateTime.now())
+					.title(title)
+					.requestHash(blobStore.acquire(requestBlob))
+					.responseHash(blobStore.acquire(responseBlob))
+					.createdAt(now)
+					.updatedAt(now)
 					.build();
-			Itinerary saved = itineraryRepository.save(entity);
-			return saved.getId();
-		} catch (JsonProcessingException e) {
-			throw new RuntimeException("여행 코스 저장에 실패했습니다.");
-		}
+			// id를 직접 할당하므로 merge(SELECT) 없이 persist
+			entityManager.persist(entity);
+		});
+		readYourWritesRouter.recordWrite(request.getUserEmail());
+		return id;
+	}
+
+	/**
+	 * 키셋 페이지 조회
+	 * - since 없음: (createdAt, id) 최신순, cursor 이후 페이지
+	 * - since 있음: since(- overlap) 이후 생성/변경된 항목만 (updatedAt, id) 오래된 순, 첫 페이지에 삭제된 id 포함
+	 * 다음 페이지 유무는 size + 1개를 읽어 판단
+	 * syncedAt은 서버 시각이 아니라 조회가 본 마지막 변경 시각 (updatedAt/deletedAt 최댓값)
+	 * 최근(replica 지연 허용치 이내)에 저장/삭제한 사용자는 결과가 바로 보이도록 primary, 나머지는 replica에서 조회
+	 * @throws IllegalArgumentException 잘못된 커서
+	 */
+	public ItineraryPageResponse listPage(String userEmail, String cursor, Integer size, LocalDateTime since) {
+		return readYourWritesRouter.read(userEmail, status -> loadPage(userEmail, cursor, size, since));
 	}
 
-	public List<ItinerarySummaryResponse> listByUser(String userEmail) {
-		return itineraryRepository.findByUserEmailOrderByCreatedAtDesc(userEmail)
-				.stream()
-				.map(e -> ItinerarySummaryResponse.builder()
-						.id(e.getId())
-						.title(e.getTitle())
-						.createdAt(e.getCreatedAt())
-						.build())
-				.collect(Collectors.toList());
+	private ItineraryPageResponse loadPage(String userEmail, String cursor, Integer size, LocalDateTime since) {
+		int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+		Pageable limit = PageRequest.of(0, pageSize + 1);
+		boolean firstPage = cursor == null || cursor.isBlank();
+
+		if (since != null && firstPage && since.isBefore(LocalDateTime.now().minusDays(tombstoneRetentionDays))) {
+			// 보관 기간이 지난 삭제 기록은 없으므로 since 없이 전체 목록을 다시 받아야 함
+			return ItineraryPageResponse.builder()
+					.items(List.of())
+					.deletedIds(List.of())
+					.resyncRequired(true)
+					.build();
+		}
+
+		// 목록보다 먼저 읽어, 이 값 이후의 변경은 다음 동기화에서 다시 보이도록 함
+		LocalDateTime syncedAt = latest(itineraryRepository.findLatestUpdatedAt(userEmail), since);
+
+		List<ItinerarySummaryResponse> rows;
+		List<Long> deletedIds = List.of();
+		char mode = since != null ? KeysetCursor.UPDATED : KeysetCursor.CREATED;
+		if (since != null) {
+			LocalDateTime from = since.minusSeconds(syncOverlapSeconds);
+			if (firstPage) {
+				List<ItineraryTombstone> tombstones = tombstoneRepository.findDeletedAfter(userEmail, from);
+				deletedIds = tombstones.stream().map(ItineraryTombstone::getId).toList();
+				if (!tombstones.isEmpty()) {
+					syncedAt = latest(syncedAt, tombstones.get(tombstones.size() - 1).getDeletedAt());
+				}
+			}
+			KeysetCursor after = firstPage
+					? new KeysetCursor(mode, from, Long.MAX_VALUE)
+					: KeysetCursor.decode(cursor, mode);
+			rows = itineraryRepository.findChangedAfter(userEmail, after.at(), after.id(), limit);
+		} else if (!firstPage) {
+			KeysetCursor before = KeysetCursor.decode(cursor, mode);
+			rows = itineraryRepository.findPageBefore(userEmail, before.at(), before.id(), limit);
+		} else {
+			rows = itineraryRepository.findFirstPage(userEmail, limit);
+		}
+
+		String nextCursor = null;
+		if (rows.size() > pageSize) {
+			rows = rows.subList(0, pageSize);
+			ItinerarySummaryResponse last = rows.get(pageSize - 1);
+			LocalDateTime key = mode == KeysetCursor.UPDATED ? last.getUpdatedAt() : last.getCreatedAt();
+			nextCursor = new KeysetCursor(mode, key, last.getId()).encode();
+		}
+		return ItineraryPageResponse.builder()
+				.items(List.copyOf(rows))
+				.deletedIds(deletedIds)
+				.nextCursor(nextCursor)
+				.syncedAt(syncedAt)
+				.build();
 	}
 
+	// 지연 로딩된 응답 payload를 같은 세션에서 읽도록 트랜잭션 안에서 조회
+	// 저장 직후 조회가 복제 지연에 걸리지 않도록 최근에 쓴 사용자는 primary, 나머지는 replica
 	public ItineraryResponse getDetail(Long id, String userEmail) {
+		// 아직 DB에 기록되지 않은 write-behind 저장
+		ItineraryWriteBehindBuffer.PendingSave pendingSave = writeBehindBuffer.findPending(id).orElse(null);
+		if (pendingSave != null && userEmail != null && userEmail.equals(pendingSave.userEmail())) {
+			try {
+				return payloadCodec.decode(pendingSave.response().data(), ItineraryResponse.class);
+			} catch (IOException ex) {
+				throw new RuntimeException("저장된 데이터를 읽는 데 실패했습니다.");
+			}
+		}
+		return readYourWritesRouter.read(userEmail, status -> loadDetail(id, userEmail));
+	}
+
+	private ItineraryResponse loadDetail(Long id, String userEmail) {
 		return itineraryRepository.findById(id)
 				.filter(e -> userEmail != null && userEmail.equals(e.getUserEmail()))
 				.map(e -> {
 					try {
+						if (e.getResponseHash() != null) {
+							return blobStore.load(e.getResponseHash(), ItineraryResponse.class);
+						}
 						return objectMapper.readValue(e.getResponseJson(), ItineraryResponse.class);
-					} catch (JsonProcessingException ex) {
+					} catch (IOException ex) {
 						throw new RuntimeException("저장된 데이터를 읽는 데 실패했습니다.");
 					}
 				})
 				.orElseThrow(() -> new RuntimeException("코스를 찾을 수 없습니다."));
 	}
 
-	private String buildDefaultTitle(ItineraryRequest req) {
-		String date = req != null && req.getDate() != null ? req.getDate() : "언제든";
+	// 본인 코스만 삭제, 참조하던 blob은 참조 수만 내리고 GC가 정리
+	// 같은 트랜잭션에서 삭제 기록을 남겨 since 조회로 다른 기기에 삭제가 전달되도록 함
+	@Transactional
+	public boolean delete(Long id, String userEmail) {
+		// 기록 대기 중이면 먼저 기록해 삭제 대상이 DB에 있도록 함
+		if (writeBehindBuffer.isPending(id)) {
+			writeBehindBuffer.flush();
+		}
+		return itineraryRepository.findByIdAndUserEmail(id, userEmail)
+				.map(e -> {
+					blobStore.release(e.getRequestHash());
+					blobStore.release(e.getResponseHash());
+					itineraryRepository.delete(e);
+					// 코스 id는 재사용되지 않으므로 merge(SELECT) 없이 persist
+					entityManager.persist(ItineraryTombstone.builder()
+							.id(e.getId())
+							.userEmail(e.getUserEmail())
+							.deletedAt(LocalDateTime.now())
+							.build());
+					readYourWritesRouter.recordWrite(userEmail);
+					return true;
+				})
+				.orElse(false);
+	}
+
+	// 보관 기간이 지난 삭제 기록 정리
+	@Scheduled(fixedDelayString = "${itinerary.sync.tombstone-purge-interval-ms:3600000}")
+	@Transactional
+	public void purgeTombstones() {
+		int purged = tombstoneRepository.deleteOlderThan(LocalDateTime.now().minusDays(tombstoneRetentionDays));
+		if (purged > 0) {
+			log.info("Purged {} itinerary tombstones", purged);
+		}
+	}
+
+	private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+		if (a == null) {
+			return b;
+		}
+		return b == null || a.isAfter(b) ? a : b;
+	}
+
+	private String buildDefaultTitle(String requestDate) {
+		String date = requestDate != null ? requestDate : "언제든";
 		return "여행 코스 - " + date;
 	}
 }
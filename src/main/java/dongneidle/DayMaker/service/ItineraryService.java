@@ -3,8 +3,6 @@ package dongneidle.DayMaker.service;
 import dongneidle.DayMaker.DTO.ItineraryRequest;
 import dongneidle.DayMaker.DTO.ItineraryResponse;
 import dongneidle.DayMaker.enums.*;
-import dongneidle.DayMaker.entity.Station;
-import dongneidle.DayMaker.repository.StationRepository;
 import dongneidle.DayMaker.util.DistanceCalculator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,41 +20,25 @@ public class ItineraryService {
     private final GooglePlacesService googlePlacesService;
     private final FestivalService festivalService;
     private final GptService gptService;
-    private final StationRepository stationRepository; // 역 정보 조회용
+    private final StationRegistry stationRegistry; // 역 정보 조회용 (인메모리)
+    private final GeneratedItineraryStore generatedItineraryStore; // 저장용 생성 결과 보관
+    private final MetricsRecorder metricsRecorder; // 단계별 시간 (daymaker.itinerary.stage)
     
     public ItineraryResponse createItinerary(ItineraryRequest request) {
         log.info("Creating itinerary for request: {}", request);
+        long stageStarted = System.nanoTime();
         
-        // 1. 입력값을 내부 Enum으로 매핑 (멀티 선택 지원)
-        java.util.List<String> foodInputs = request.getFoods() != null && !request.getFoods().isEmpty()
-                ? request.getFoods() : (request.getFood() != null ? java.util.List.of(request.getFood()) : java.util.List.of());
-        java.util.List<FoodType> selectedFoodTypes = new java.util.ArrayList<>();
-        for (String f : foodInputs) {
-            try { selectedFoodTypes.add(FoodType.fromDisplayName(f)); } catch (Exception ignored) {}
-        }
-        // 기본: 단일 값이 감성카페/일식 등으로 들어올 수 있음
-        if (selectedFoodTypes.isEmpty() && request.getFood() != null) {
-            try { selectedFoodTypes.add(FoodType.fromDisplayName(request.getFood())); } catch (Exception ignored) {}
-        }
-        // 문화 멀티
-        java.util.List<String> cultureInputs = request.getCultures() != null && !request.getCultures().isEmpty()
-                ? request.getCultures() : (request.getCulture() != null ? java.util.List.of(request.getCulture()) : java.util.List.of());
-        java.util.List<CultureType> selectedCultureTypes = new java.util.ArrayList<>();
-        for (String c : cultureInputs) {
-            try { selectedCultureTypes.add(CultureType.fromDisplayName(c)); } catch (Exception ignored) {}
-        }
-        if (selectedCultureTypes.isEmpty() && request.getCulture() != null) {
-            try { selectedCultureTypes.add(CultureType.fromDisplayName(request.getCulture())); } catch (Exception ignored) {}
-        }
-        // 기본 선택 (없으면 문화는 OTHER, 음식은 OTHER 취급)
-        FoodType foodTypePrimary = selectedFoodTypes.isEmpty() ? FoodType.OTHER : selectedFoodTypes.get(0);
-        CultureType cultureTypePrimary = selectedCultureTypes.isEmpty() ? CultureType.OTHER : selectedCultureTypes.get(0);
-        // transport 정규화(공백 제거 등)
-        String transportInput = request.getTransport() != null ? request.getTransport().replaceAll("\\s+", "") : null;
-        TransportType transportTypePrimary = TransportType.fromDisplayName(transportInput);
-        
-        // N 개수 (기본 4)
-        int numPlaces = request.getNumPlaces() != null && request.getNumPlaces() > 0 ? request.getNumPlaces() : 4;
+        // 1. 입력값 해석 + 검색 기준 좌표
+        ItineraryPlan plan = plan(request);
+        stageStarted = recordStage("plan", stageStarted);
+        java.util.List<FoodType> selectedFoodTypes = plan.foodTypes();
+        java.util.List<CultureType> selectedCultureTypes = plan.cultureTypes();
+        FoodType foodTypePrimary = plan.foodTypePrimary();
+        CultureType cultureTypePrimary = plan.cultureTypePrimary();
+        int numPlaces = plan.numPlaces();
+        final double searchLat = plan.searchLat();
+        final double searchLng = plan.searchLng();
+        final int searchRadius = plan.searchRadius();
         
         // 2. 모든 장소 수집 (Google API + 축제)
         List<ItineraryResponse.PlaceDto> allPlaces = new ArrayList<>();
@@ -64,35 +46,6 @@ public class ItineraryService {
         // 문화 장소 컨테이너(후속 보정에서 사용)
         List<ItineraryResponse.PlaceDto> culturePlaces = new ArrayList<>();
         
-        //0823 역 기준 로직
-        // 역 기준 검색 좌표 설정 (Lambda에서 사용하므로 final로 선언)
-        final double searchLat;
-        final double searchLng;
-        final int searchRadius;
-        
-        if (request.getSelectedStation() != null && !request.getSelectedStation().trim().isEmpty()) {
-            // 선택된 역 정보 조회
-            var stationOpt = stationRepository.findByName(request.getSelectedStation().trim());
-            if (stationOpt.isPresent()) {
-                var station = stationOpt.get();
-                searchLat = station.getLatitude();
-                searchLng = station.getLongitude();
-                searchRadius = 1000; // 역 기준 2km 반경
-                log.info("역 기준 검색: {}역 (위도: {}, 경도: {}), 반경: {}m", 
-                        station.getName(), searchLat, searchLng, searchRadius);
-            } else {
-                log.warn("선택된 역을 찾을 수 없음: {}, 기본 좌표 사용", request.getSelectedStation());
-                searchLat = 37.3942; // 기본: 안양시 중심
-                searchLng = 126.9569;
-                searchRadius = 1000; // 기본: 10km
-            }
-        } else {
-            // 역을 선택하지 않은 경우 기본값 사용
-            searchLat = 37.3942; // 기본: 안양시 중심
-            searchLng = 126.9569;
-            searchRadius = 10000; // 기본: 10km
-        }
-        
         // 음식 장소 검색 (다중 foodTypes) - 역 기준으로 검색
         List<ItineraryResponse.PlaceDto> foodPlaces = new ArrayList<>();
         java.util.Set<String> seenFoodIds = new java.util.HashSet<>();
@@ -106,13 +59,7 @@ public class ItineraryService {
             }
             // 후보가 적으면(예: < 3) 완화 키워드로 추가 탐색
             if (foodPlaces.size() < 3) {
-                String[] altKeywords = switch (ft) {
-                    case KOREAN -> new String[]{"한식", "밥집", "백반"};
-                    case JAPANESE -> new String[]{"일식", "스시", "라멘"};
-                    case CHINESE -> new String[]{"중식", "중국집", "짜장면"};
-                    case WESTERN -> new String[]{"양식", "파스타", "스테이크"};
-                    default -> new String[]{ft.getSearchKeyword()};
-                };
+                String[] altKeywords = altFoodKeywords(ft);
                 for (String kw : altKeywords) {
                     List<ItineraryResponse.PlaceDto> more = googlePlacesService.searchPlaces(ft.getGoogleType(), kw, Math.max(numPlaces * 2, 12));
                     for (ItineraryResponse.PlaceDto p : more) {
@@ -147,32 +94,107 @@ public class ItineraryService {
             log.info("Found {} culture places", culturePlaces.size());
         }
         
-        // 요청받은 날짜에 진행 중인 축제 추가 (역 기준으로 필터링)
-        List<ItineraryResponse.PlaceDto> dateFestivals = festivalService.getFestivalsAsPlacesByRequestDate(request.getDate());
-        if (!dateFestivals.isEmpty()) {
-                    // 역 기준으로 2km 반경 내 축제만 필터링
-        List<ItineraryResponse.PlaceDto> nearbyFestivals = dateFestivals.stream()
-            .filter(festival -> {
-                if (festival.getLatitude() != null && festival.getLongitude() != null) {
-                    double distance = DistanceCalculator.calculateDistance(
-                        searchLat, searchLng, 
-                        festival.getLatitude(), festival.getLongitude()
-                    );
-                    return distance <= 2.0; // 2km 이내
-                }
-                return false;
-            })
-            .toList();
-        
-        allPlaces.addAll(nearbyFestivals);
-        log.info("Added {} nearby festivals (within 2km) for requested date: {}", nearbyFestivals.size(), request.getDate());
+        // 요청받은 날짜에 진행 중이고 역 기준 2km 이내인 축제 추가 (인메모리 인덱스 조회)
+        List<ItineraryResponse.PlaceDto> nearbyFestivals = festivalService.getNearbyFestivalsAsPlaces(
+                request.getDate(), searchLat, searchLng, 2.0);
+        if (!nearbyFestivals.isEmpty()) {
+            allPlaces.addAll(nearbyFestivals);
+            log.info("Added {} nearby festivals (within 2km) for requested date: {}", nearbyFestivals.size(), request.getDate());
         } else {
             log.info("No festivals found for requested date: {}", request.getDate());
         }
         
         log.info("Total places collected: {}", allPlaces.size());
+        stageStarted = recordStage("search", stageStarted);
         
         // 3. GPT가 최적 장소 선택 (정확히 numPlaces개로 보정)
+        List<ItineraryResponse.PlaceDto> gptSelectedPlaces = gptService.selectOptimalPlaces(
+            allPlaces, request.getPeopleCount(), request.getTransport(), numPlaces, plan.foodTypesForGpt(),
+            GptCallSite.ITINERARY
+        );
+        stageStarted = recordStage("gpt_selection", stageStarted);
+
+        List<ItineraryResponse.PlaceDto> finalSelected = enforceComposition(
+                plan, new Candidates(foodPlaces, culturePlaces, allPlaces), gptSelectedPlaces,
+                googlePlacesService::searchPlaces);
+        stageStarted = recordStage("composition", stageStarted);
+
+        ItineraryResponse response = buildResponse(request, plan, finalSelected);
+        recordStage("response", stageStarted);
+        return response;
+    }
+
+    // 단계 시간 기록 후 다음 단계 시작 시각 반환
+    private long recordStage(String stage, long stageStarted) {
+        long now = System.nanoTime();
+        metricsRecorder.recordStage(MetricsRecorder.SYNC, stage, now - stageStarted);
+        return now;
+    }
+
+    /**
+     * 요청 입력값을 내부 Enum/검색 좌표로 해석 (동기/리액티브 경로 공용)
+     */
+    ItineraryPlan plan(ItineraryRequest request) {
+        // 입력값을 내부 Enum으로 매핑 (멀티 선택 지원)
+        java.util.List<String> foodInputs = request.getFoods() != null && !request.getFoods().isEmpty()
+                ? request.getFoods() : (request.getFood() != null ? java.util.List.of(request.getFood()) : java.util.List.of());
+        java.util.List<FoodType> selectedFoodTypes = new java.util.ArrayList<>();
+        for (String f : foodInputs) {
+            try { selectedFoodTypes.add(FoodType.fromDisplayName(f)); } catch (Exception ignored) {}
+        }
+        // 기본: 단일 값이 감성카페/일식 등으로 들어올 수 있음
+        if (selectedFoodTypes.isEmpty() && request.getFood() != null) {
+            try { selectedFoodTypes.add(FoodType.fromDisplayName(request.getFood())); } catch (Exception ignored) {}
+        }
+        // 문화 멀티
+        java.util.List<String> cultureInputs = request.getCultures() != null && !request.getCultures().isEmpty()
+                ? request.getCultures() : (request.getCulture() != null ? java.util.List.of(request.getCulture()) : java.util.List.of());
+        java.util.List<CultureType> selectedCultureTypes = new java.util.ArrayList<>();
+        for (String c : cultureInputs) {
+            try { selectedCultureTypes.add(CultureType.fromDisplayName(c)); } catch (Exception ignored) {}
+        }
+        if (selectedCultureTypes.isEmpty() && request.getCulture() != null) {
+            try { selectedCultureTypes.add(CultureType.fromDisplayName(request.getCulture())); } catch (Exception ignored) {}
+        }
+        // 기본 선택 (없으면 문화는 OTHER, 음식은 OTHER 취급)
+        FoodType foodTypePrimary = selectedFoodTypes.isEmpty() ? FoodType.OTHER : selectedFoodTypes.get(0);
+        CultureType cultureTypePrimary = selectedCultureTypes.isEmpty() ? CultureType.OTHER : selectedCultureTypes.get(0);
+        // transport 정규화(공백 제거 등)
+        String transportInput = request.getTransport() != null ? request.getTransport().replaceAll("\\s+", "") : null;
+        TransportType transportTypePrimary = TransportType.fromDisplayName(transportInput);
+        
+        // N 개수 (기본 4)
+        int numPlaces = request.getNumPlaces() != null && request.getNumPlaces() > 0 ? request.getNumPlaces() : 4;
+        
+        //0823 역 기준 로직
+        // 역 기준 검색 좌표 설정 (Lambda에서 사용하므로 final로 선언)
+        final double searchLat;
+        final double searchLng;
+        final int searchRadius;
+        
+        if (request.getSelectedStation() != null && !request.getSelectedStation().trim().isEmpty()) {
+            // 선택된 역 정보 조회
+            var stationOpt = stationRegistry.findByName(request.getSelectedStation().trim());
+            if (stationOpt.isPresent()) {
+                var station = stationOpt.get();
+                searchLat = station.getLatitude();
+                searchLng = station.getLongitude();
+                searchRadius = 1000; // 역 기준 2km 반경
+                log.info("역 기준 검색: {}역 (위도: {}, 경도: {}), 반경: {}m", 
+                        station.getName(), searchLat, searchLng, searchRadius);
+            } else {
+                log.warn("선택된 역을 찾을 수 없음: {}, 기본 좌표 사용", request.getSelectedStation());
+                searchLat = 37.3942; // 기본: 안양시 중심
+                searchLng = 126.9569;
+                searchRadius = 1000; // 기본: 10km
+            }
+        } else {
+            // 역을 선택하지 않은 경우 기본값 사용
+            searchLat = 37.3942; // 기본: 안양시 중심
+            searchLng = 126.9569;
+            searchRadius = 10000; // 기본: 10km
+        }
+
         // 멀티 선택 고려: restaurant 타입이 하나라도 있으면 해당 displayName(첫 번째)을 GPT에 전달
         boolean hasRestaurantSelected = !selectedFoodTypes.isEmpty() && selectedFoodTypes.stream()
                 .anyMatch(ft -> "restaurant".equals(ft.getGoogleType()));
@@ -185,9 +207,26 @@ public class ItineraryService {
         // String을 List<String>으로 변환
         List<String> foodTypeListForGpt = List.of(foodTypeForGpt);
 
-        List<ItineraryResponse.PlaceDto> gptSelectedPlaces = gptService.selectOptimalPlaces(
-            allPlaces, request.getPeopleCount(), request.getTransport(), numPlaces, foodTypeListForGpt
-        );
+        return new ItineraryPlan(selectedFoodTypes, selectedCultureTypes, foodTypePrimary, cultureTypePrimary,
+                transportTypePrimary, numPlaces, searchLat, searchLng, searchRadius,
+                hasRestaurantSelected, foodTypeListForGpt);
+    }
+
+    /**
+     * 카테고리 구성 보정: GPT 선택 결과를 식당/비식당 개수에 맞추고, 부족하면 search로 추가 후보를 찾는다.
+     * search 결과 외에는 부수 효과가 없어 같은 입력으로 여러 번 호출해도 된다 (리액티브 경로는 빠진 검색만 채워 재실행).
+     */
+    List<ItineraryResponse.PlaceDto> enforceComposition(ItineraryPlan plan,
+                                                        Candidates candidates,
+                                                        List<ItineraryResponse.PlaceDto> gptSelectedPlaces,
+                                                        PlaceSearch search) {
+        int numPlaces = plan.numPlaces();
+        FoodType foodTypePrimary = plan.foodTypePrimary();
+        CultureType cultureTypePrimary = plan.cultureTypePrimary();
+        boolean hasRestaurantSelected = plan.hasRestaurantSelected();
+        List<ItineraryResponse.PlaceDto> foodPlaces = candidates.foodPlaces();
+        List<ItineraryResponse.PlaceDto> culturePlaces = candidates.culturePlaces();
+        List<ItineraryResponse.PlaceDto> allPlaces = candidates.allPlaces();
 
         // 3-1. 정확한 카테고리 구성 보정 (멀티 선택 기반)
         boolean isRestaurantTypeSelected = hasRestaurantSelected;
@@ -250,7 +289,7 @@ public class ItineraryService {
                         .filter(java.util.Objects::nonNull).collect(java.util.stream.Collectors.toSet());
                 for (FoodType ft : fallbackFoods) {
                     if (need <= 0) break;
-                    List<ItineraryResponse.PlaceDto> cands = googlePlacesService.searchPlaces(ft.getGoogleType(), ft.getSearchKeyword(), Math.max(numPlaces, 6));
+                    List<ItineraryResponse.PlaceDto> cands = search.search(ft.getGoogleType(), ft.getSearchKeyword(), Math.max(numPlaces, 6));
                     // 레스토랑만, 중복 제거, 랜덤하게 처리
                     cands = cands.stream()
                             .filter(p -> "RESTAURANT".equals(p.getCategory()))
@@ -307,7 +346,7 @@ public class ItineraryService {
                 java.util.List<ItineraryResponse.PlaceDto> extraCulture = new java.util.ArrayList<>();
                 String[] parts2 = cultureGoogleType2.contains("|") ? cultureGoogleType2.split("\\|") : new String[]{cultureGoogleType2};
                 for (String tp : parts2) {
-                    List<ItineraryResponse.PlaceDto> part = googlePlacesService.searchPlaces(tp, cultureTypePrimary.getSearchKeyword(), Math.max(numPlaces * 3, 10));
+                    List<ItineraryResponse.PlaceDto> part = search.search(tp, cultureTypePrimary.getSearchKeyword(), Math.max(numPlaces * 3, 10));
                     for (ItineraryResponse.PlaceDto p : part) {
                         if (p.getPlaceId() != null && !seenIds2.contains(p.getPlaceId()) && !"RESTAURANT".equals(p.getCategory())) {
                             extraCulture.add(p);
@@ -331,25 +370,25 @@ public class ItineraryService {
         if (nonRestPicked.size() < desiredNonRestaurants) {
             try {
                 // 1) MOVIE
-                List<ItineraryResponse.PlaceDto> fbMovie = googlePlacesService.searchPlaces("movie_theater", "영화관", numPlaces);
+                List<ItineraryResponse.PlaceDto> fbMovie = search.search("movie_theater", "영화관", numPlaces);
                 nonRestPicked = fillNonRest(nonRestPicked, finalSelected, fbMovie, desiredNonRestaurants, foodTypePrimary, cultureTypePrimary);
                 // 2) CULTURE: art_gallery, museum
                 if (nonRestPicked.size() < desiredNonRestaurants) {
-                    List<ItineraryResponse.PlaceDto> fbArt = googlePlacesService.searchPlaces("art_gallery", "전시관", numPlaces);
+                    List<ItineraryResponse.PlaceDto> fbArt = search.search("art_gallery", "전시관", numPlaces);
                     nonRestPicked = fillNonRest(nonRestPicked, finalSelected, fbArt, desiredNonRestaurants, foodTypePrimary, cultureTypePrimary);
                 }
                 if (nonRestPicked.size() < desiredNonRestaurants) {
-                    List<ItineraryResponse.PlaceDto> fbMuseum = googlePlacesService.searchPlaces("museum", "전시관", numPlaces);
+                    List<ItineraryResponse.PlaceDto> fbMuseum = search.search("museum", "전시관", numPlaces);
                     nonRestPicked = fillNonRest(nonRestPicked, finalSelected, fbMuseum, desiredNonRestaurants, foodTypePrimary, cultureTypePrimary);
                 }
                 // 3) ATTRACTION (체험)
                 if (nonRestPicked.size() < desiredNonRestaurants) {
-                    List<ItineraryResponse.PlaceDto> fbAttraction = googlePlacesService.searchPlaces("tourist_attraction", "체험", Math.max(numPlaces, 6));
+                    List<ItineraryResponse.PlaceDto> fbAttraction = search.search("tourist_attraction", "체험", Math.max(numPlaces, 6));
                     nonRestPicked = fillNonRest(nonRestPicked, finalSelected, fbAttraction, desiredNonRestaurants, foodTypePrimary, cultureTypePrimary);
                 }
                 // 4) CAFE (기타)
                 if (nonRestPicked.size() < desiredNonRestaurants) {
-                    List<ItineraryResponse.PlaceDto> fbCafe = googlePlacesService.searchPlaces("cafe", "카페", Math.max(numPlaces, 6));
+                    List<ItineraryResponse.PlaceDto> fbCafe = search.search("cafe", "카페", Math.max(numPlaces, 6));
                     nonRestPicked = fillNonRest(nonRestPicked, finalSelected, fbCafe, desiredNonRestaurants, foodTypePrimary, cultureTypePrimary);
                 }
             } catch (Exception ignored) {}
@@ -389,15 +428,23 @@ public class ItineraryService {
             finalSelected = finalSelected.subList(0, numPlaces);
         }
 
-        gptSelectedPlaces = finalSelected;
+        return finalSelected;
+    }
+
+    /**
+     * 확정된 장소로 동선을 만들고 저장용 handle을 붙여 응답 생성
+     */
+    ItineraryResponse buildResponse(ItineraryRequest request, ItineraryPlan plan,
+                                    List<ItineraryResponse.PlaceDto> selectedPlaces) {
+        int numPlaces = plan.numPlaces();
         log.info("Enforced composition -> restaurants: {}, nonRestaurants: {} (N={})",
-                gptSelectedPlaces.stream().filter(p -> "RESTAURANT".equals(p.getCategory())).count(),
-                gptSelectedPlaces.stream().filter(p -> !"RESTAURANT".equals(p.getCategory())).count(),
+                selectedPlaces.stream().filter(p -> "RESTAURANT".equals(p.getCategory())).count(),
+                selectedPlaces.stream().filter(p -> !"RESTAURANT".equals(p.getCategory())).count(),
                 numPlaces);
 
         // 4. Nearest Neighbor 알고리즘으로 최적 동선 생성 (정확히 N개 사용)
         List<ItineraryResponse.RouteStep> optimizedRoute = createOptimizedRouteWithNearestNeighbor(
-            gptSelectedPlaces, transportTypePrimary
+            selectedPlaces, plan.transportTypePrimary()
         );
         
         // 경로도 정확히 N개 보장 (혹시 방어적으로)
@@ -405,10 +452,24 @@ public class ItineraryService {
             optimizedRoute = optimizedRoute.subList(0, numPlaces);
         }
         
-        return ItineraryResponse.builder()
-                .recommendedPlaces(gptSelectedPlaces)
+        ItineraryResponse response = ItineraryResponse.builder()
+                .recommendedPlaces(selectedPlaces)
                 .optimizedRoute(optimizedRoute)
                 .build();
+        // 저장 시 다시 업로드/직렬화하지 않도록 인코딩된 결과를 보관하고 handle만 전달
+        response.setHandle(generatedItineraryStore.put(request, response));
+        return response;
+    }
+
+    // 음식 후보가 적을 때 쓰는 완화 키워드
+    static String[] altFoodKeywords(FoodType ft) {
+        return switch (ft) {
+            case KOREAN -> new String[]{"한식", "밥집", "백반"};
+            case JAPANESE -> new String[]{"일식", "스시", "라멘"};
+            case CHINESE -> new String[]{"중식", "중국집", "짜장면"};
+            case WESTERN -> new String[]{"양식", "파스타", "스테이크"};
+            default -> new String[]{ft.getSearchKeyword()};
+        };
     }
 
     // 비식당 보충 헬퍼 (중복 제거 + 랜덤하게 처리)
@@ -538,6 +599,36 @@ public class ItineraryService {
                 })
                 .orElse(candidates.get(0));
     }
-}
 
+    /**
+     * 해석된 요청 (선호 타입, N, 검색 기준 좌표, GPT에 넘길 음식 타입)
+     */
+    record ItineraryPlan(List<FoodType> foodTypes,
+                         List<CultureType> cultureTypes,
+                         FoodType foodTypePrimary,
+                         CultureType cultureTypePrimary,
+                         TransportType transportTypePrimary,
+                         int numPlaces,
+                         double searchLat,
+                         double searchLng,
+                         int searchRadius,
+                         boolean hasRestaurantSelected,
+                         List<String> foodTypesForGpt) {
+    }
+
+    /**
+     * 수집된 후보 (음식/문화 검색 결과와 축제를 합친 전체)
+     */
+    record Candidates(List<ItineraryResponse.PlaceDto> foodPlaces,
+                      List<ItineraryResponse.PlaceDto> culturePlaces,
+                      List<ItineraryResponse.PlaceDto> allPlaces) {
+    }
 
+    /**
+     * 보정 단계의 추가 검색 (동기 경로: GooglePlacesService.searchPlaces, 리액티브 경로: 미리 받아 둔 결과 조회)
+     */
+    @FunctionalInterface
+    interface PlaceSearch {
+        List<ItineraryResponse.PlaceDto> search(String type, String keyword, int desiredCount);
+    }
+}
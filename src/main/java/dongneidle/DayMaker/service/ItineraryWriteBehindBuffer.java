@@ -0,0 +1,484 @@
+package dongneidle.DayMaker.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dongneidle.DayMaker.config.ReadYourWritesRouter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 저장 코스 write-behind 버퍼 (옵션, itinerary.save.write-behind.enabled)
+ *
+ * 저장 요청(미리 인코딩된 blob)은 로컬 append-only 세그먼트 파일에 한 줄(JSON)로 기록(fsync)하고 바로 반환한다.
+ * interval-ms마다 또는 대기 건수가 batch-size에 도달하면 현재 세그먼트를 닫고,
+ * 닫힌 세그먼트를 한 트랜잭션에서 blob 참조 + JDBC 배치 INSERT로 기록한 뒤 파일을 지운다.
+ * 시작 시 남아 있는 세그먼트는 다시 기록하며, 이미 들어간 id는 건너뛰므로 여러 번 재생해도 안전하다.
+ * 기록 실패는 원인에 따라 나눠 처리한다.
+ * - 일시적 오류(연결 실패, 타임아웃, 락 대기 등): 세그먼트를 그대로 두고 지수 백오프로 재시도
+ * - 영구 오류(제약 위반, 검증 실패): 레코드별로 다시 기록해 실패한 줄만 dead-letter 디렉터리의
+ *   같은 이름 파일에 옮기고 나머지는 기록 (옮긴 줄은 수동 확인 후 재투입)
+ * 기록 전 상세 조회는 메모리의 대기 목록에서 응답한다.
+ */
+@Slf4j
+@Component
+public class ItineraryWriteBehindBuffer {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String DEAD_LETTER_DIR = "dead-letter";
+
+    // itineraries.title VARCHAR(255)
+    public static final int MAX_TITLE_LENGTH = 255;
+    private static final String INSERT_SQL = "INSERT INTO itineraries (id, user_email, title, request_hash, response_hash, "
+            + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final ObjectMapper objectMapper;
+    private final ItineraryBlobStore blobStore;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ReadYourWritesRouter readYourWritesRouter;
+    private final boolean enabled;
+    private final Path directory;
+    private final int batchSize;
+    private final boolean fsync;
+    private final long retryInitialMillis;
+    private final long retryMaxMillis;
+
+    private final ExecutorService flushTrigger = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "itinerary-write-behind");
+        t.setDaemon(true);
+        return t;
+    });
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    // 기록 대기 중인 저장 (id → 레코드)
+    private final Map<Long, PendingSave> pending = new ConcurrentHashMap<>();
+
+    // appendLock으로 보호: 현재 쓰는 세그먼트
+    // (파일 쓰기/fsync, DB 기록을 락 안에서 하므로 synchronized 대신 ReentrantLock: 가상 스레드 pinning 방지)
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private FileChannel activeChannel;
+    private Path activeSegment;
+    private long activeSequence;
+    private int activeCount;
+    private final AtomicLong segmentSequence = new AtomicLong();
+
+    // 세그먼트 기록은 한 번에 하나만
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    // flushLock으로 보호: 일시적 오류 연속 횟수와 다음 재시도 가능 시각
+    private int consecutiveFailures;
+    private long retryAtMillis;
+
+    private final AtomicLong flushedRows = new AtomicLong();
+    private final AtomicLong flushedBatches = new AtomicLong();
+    private final AtomicLong deadLetterRows = new AtomicLong();
+    private final AtomicLong transientFailures = new AtomicLong();
+
+    public ItineraryWriteBehindBuffer(ObjectMapper objectMapper,
+                                      ItineraryBlobStore blobStore,
+                                      JdbcTemplate jdbcTemplate,
+                                      PlatformTransactionManager transactionManager,
+                                      ReadYourWritesRouter readYourWritesRouter,
+                                      @Value("${itinerary.save.write-behind.enabled:false}") boolean enabled,
+                                      @Value("${itinerary.save.write-behind.dir:./data/itinerary-write-behind}") String directory,
+                                      @Value("${itinerary.save.write-behind.batch-size:200}") int batchSize,
+                                      @Value("${itinerary.save.write-behind.fsync:true}") boolean fsync,
+                                      @Value("${itinerary.save.write-behind.retry-initial-ms:1000}") long retryInitialMillis,
+                                      @Value("${itinerary.save.write-behind.retry-max-ms:60000}") long retryMaxMillis) {
+        this.objectMapper = objectMapper;
+        this.blobStore = blobStore;
+        this.jdbcTemplate = jdbcTemplate;
+        // 호출자 트랜잭션과 분리: 세그먼트 파일 삭제는 이 트랜잭션 커밋 이후에만
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readYourWritesRouter = readYourWritesRouter;
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        this.batchSize = Math.max(1, batchSize);
+        this.fsync = fsync;
+        this.retryInitialMillis = Math.max(1, retryInitialMillis);
+        this.retryMaxMillis = Math.max(this.retryInitialMillis, retryMaxMillis);
+    }
+
+    /**
+     * 기록 대기 레코드 (세그먼트 파일 한 줄)
+     */
+    public record PendingSave(long id,
+                              String userEmail,
+                              String title,
+                              LocalDateTime createdAt,
+                              ItineraryBlobStore.PreparedBlob request,
+                              ItineraryBlobStore.PreparedBlob response) {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 남아 있는 세그먼트 재생 (이전 실행이 기록 전에 종료된 경우)
+     * 모드를 끈 상태로 재시작해도 남은 저장은 기록한다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        appendLock.lock();
+        try {
+            // 이후 여는 세그먼트 번호가 이전 실행이 남긴 세그먼트보다 항상 크도록
+            segmentSequence.accumulateAndGet(latestSegmentSequence(), Math::max);
+        } finally {
+            appendLock.unlock();
+        }
+        flushLock.lock();
+        try {
+            writeSegments(closedSegmentBound());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 저장 요청을 세그먼트 파일에 기록 (fsync 후 반환)
+     * @throws IllegalArgumentException DB에 기록할 수 없는 레코드 (제목 길이 초과, 필수 값 누락)
+     */
+    public void append(PendingSave save) throws IOException {
+        validate(save);
+        byte[] line = (objectMapper.writeValueAsString(save) + "\n").getBytes(StandardCharsets.UTF_8);
+        int count;
+        appendLock.lock();
+        try {
+            if (activeChannel == null) {
+                openSegment();
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(line);
+            while (buffer.hasRemaining()) {
+                activeChannel.write(buffer);
+            }
+            if (fsync) {
+                activeChannel.force(false);
+            }
+            pending.put(save.id(), save);
+            count = ++activeCount;
+        } finally {
+            appendLock.unlock();
+        }
+        if (count >= batchSize && flushScheduled.compareAndSet(false, true)) {
+            flushTrigger.execute(() -> {
+                flushScheduled.set(false);
+                flush();
+            });
+        }
+    }
+
+    /**
+     * 기록 전인 저장 조회 (상세 조회용)
+     */
+    public Optional<PendingSave> findPending(long id) {
+        return Optional.ofNullable(pending.get(id));
+    }
+
+    public boolean isPending(long id) {
+        return pending.containsKey(id);
+    }
+
+    @Scheduled(initialDelayString = "${itinerary.save.write-behind.interval-ms:1000}",
+               fixedDelayString = "${itinerary.save.write-behind.interval-ms:1000}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            if (System.currentTimeMillis() < retryAtMillis) {
+                return;
+            }
+            writeSegments(rotate());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("pending", pending.size());
+        stats.put("flushedRows", flushedRows.get());
+        stats.put("flushedBatches", flushedBatches.get());
+        stats.put("deadLetterRows", deadLetterRows.get());
+        stats.put("transientFailures", transientFailures.get());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushTrigger.shutdownNow();
+        if (enabled) {
+            flush();
+        }
+        appendLock.lock();
+        try {
+            closeActive();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    // DB 제약을 미리 확인 (기록 단계에서 영구 실패할 레코드를 받지 않음)
+    private static void validate(PendingSave save) {
+        if (save.userEmail() == null || save.title() == null || save.createdAt() == null
+                || save.request() == null || save.response() == null) {
+            throw new IllegalArgumentException("저장할 코스 정보가 올바르지 않습니다.");
+        }
+        if (save.title().length() > MAX_TITLE_LENGTH) {
+            throw new IllegalArgumentException("제목은 " + MAX_TITLE_LENGTH + "자 이하여야 합니다.");
+        }
+    }
+
+    /**
+     * 번호가 bound 이하인 닫힌 세그먼트를 순서대로 기록하고 지움 (flushLock 안에서 호출)
+     * 일시적 오류가 나면 해당 세그먼트부터 남겨 두고 백오프 후 재시도 (순서 유지를 위해 이후 세그먼트도 미룸)
+     */
+    private void writeSegments(long bound) {
+        for (Path segment : closedSegments(bound)) {
+            try {
+                List<PendingSave> records = readSegment(segment);
+                int deadLettered = writeIsolatingPoison(segment, records);
+                Files.deleteIfExists(segment);
+                records.forEach(r -> {
+                    pending.remove(r.id());
+                    // DB에 들어간 시점부터 다시 복제 지연 동안 primary에서 조회
+                    readYourWritesRouter.recordWrite(r.userEmail());
+                });
+                flushedRows.addAndGet(records.size() - deadLettered);
+                flushedBatches.incrementAndGet();
+                consecutiveFailures = 0;
+                retryAtMillis = 0;
+            } catch (IOException | RuntimeException e) {
+                transientFailures.incrementAndGet();
+                long delay = Math.min(retryMaxMillis, retryInitialMillis << Math.min(consecutiveFailures, 20));
+                consecutiveFailures++;
+                retryAtMillis = System.currentTimeMillis() + delay;
+                log.error("Itinerary write-behind flush failed for {} (attempt {}, retry in {} ms): {}",
+                        segment.getFileName(), consecutiveFailures, delay, e.getMessage());
+                return;
+            }
+        }
+    }
+
+    /**
+     * 세그먼트를 한 트랜잭션으로 기록하고, 영구 오류면 레코드별로 다시 기록해 실패한 줄만 dead-letter로 옮김
+     * 일시적 오류는 그대로 던짐 (먼저 기록된 레코드는 재시도 시 id로 건너뜀)
+     * @return dead-letter로 옮긴 레코드 수
+     */
+    private int writeIsolatingPoison(Path segment, List<PendingSave> records) throws IOException {
+        try {
+            write(records);
+            return 0;
+        } catch (RuntimeException e) {
+            if (!isPermanent(e)) throw e;
+            log.warn("Itinerary write-behind batch {} rejected, retrying per record: {}", segment.getFileName(), e.getMessage());
+        }
+        int deadLettered = 0;
+        for (PendingSave record : records) {
+            try {
+                write(List.of(record));
+            } catch (RuntimeException e) {
+                if (!isPermanent(e)) throw e;
+                moveToDeadLetter(segment, record, e);
+                deadLettered++;
+            }
+        }
+        return deadLettered;
+    }
+
+    // 다시 시도해도 같은 결과인 오류: 제약 위반, 레코드 검증 실패
+    private static boolean isPermanent(RuntimeException e) {
+        return e instanceof DataIntegrityViolationException || e instanceof IllegalArgumentException;
+    }
+
+    // 기록할 수 없는 레코드 한 줄을 dead-letter/<세그먼트 이름>에 덧붙임 (실패하면 IOException → 세그먼트째 재시도)
+    private void moveToDeadLetter(Path segment, PendingSave record, RuntimeException cause) throws IOException {
+        Path deadLetter = directory.resolve(DEAD_LETTER_DIR);
+        Files.createDirectories(deadLetter);
+        byte[] line = (objectMapper.writeValueAsString(record) + "\n").getBytes(StandardCharsets.UTF_8);
+        try (FileChannel channel = FileChannel.open(deadLetter.resolve(segment.getFileName()),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(line);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        pending.remove(record.id());
+        deadLetterRows.incrementAndGet();
+        log.error("Itinerary write-behind save {} from {} moved to {}: {}",
+                record.id(), segment.getFileName(), deadLetter, cause.getMessage());
+    }
+
+    /**
+     * 현재 세그먼트를 닫아 기록 대상으로 넘김 (이후 append는 새 세그먼트로)
+     * @return 기록해도 되는 세그먼트 번호 상한 (이보다 큰 번호는 이후에 열린, 쓰는 중일 수 있는 세그먼트)
+     */
+    private long rotate() {
+        appendLock.lock();
+        try {
+            if (activeChannel != null && activeCount > 0) {
+                closeActive();
+            }
+            return closedSegmentBound();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    // 기록할 세그먼트 번호 상한: 열린 세그먼트가 있으면 그 앞까지, 없으면 지금까지 발급된 번호까지
+    private long closedSegmentBound() {
+        appendLock.lock();
+        try {
+            return activeChannel != null ? activeSequence - 1 : segmentSequence.get();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void openSegment() throws IOException {
+        Files.createDirectories(directory);
+        long sequence = Math.max(segmentSequence.incrementAndGet(), System.currentTimeMillis());
+        segmentSequence.set(sequence);
+        activeSequence = sequence;
+        activeSegment = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX));
+        activeChannel = FileChannel.open(activeSegment,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        activeCount = 0;
+    }
+
+    private void closeActive() {
+        if (activeChannel == null) return;
+        try {
+            activeChannel.close();
+        } catch (IOException e) {
+            log.warn("Failed to close write-behind segment {}: {}", activeSegment, e.getMessage());
+        }
+        activeChannel = null;
+        activeSegment = null;
+        activeCount = 0;
+    }
+
+    // 번호가 bound 이하인 세그먼트 (이름 = 생성 순서)
+    private List<Path> closedSegments(long bound) {
+        return listSegments().stream()
+                .filter(p -> sequenceOf(p) <= bound)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private long latestSegmentSequence() {
+        return listSegments().stream().mapToLong(ItineraryWriteBehindBuffer::sequenceOf).max().orElse(0L);
+    }
+
+    private List<Path> listSegments() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(p -> sequenceOf(p) >= 0)
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // segment-<번호>.log 의 번호, 세그먼트 파일이 아니면 -1
+    private static long sequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        if (!name.startsWith(SEGMENT_PREFIX) || !name.endsWith(SEGMENT_SUFFIX)) return -1;
+        try {
+            return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private List<PendingSave> readSegment(Path segment) throws IOException {
+        List<PendingSave> records = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(segment, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) continue;
+                try {
+                    records.add(objectMapper.readValue(line, PendingSave.class));
+                } catch (IOException e) {
+                    // fsync 전에 종료되어 잘린 마지막 줄
+                    log.warn("Skipping corrupt write-behind record in {}", segment.getFileName());
+                }
+            }
+        }
+        return records;
+    }
+
+    // 한 트랜잭션: 이미 기록된 id 제외 → blob 참조 → itineraries 배치 INSERT
+    // created_at은 저장 요청(append) 시각, updated_at은 DB에 기록된 시각 (증분 동기화는 기록 이후에 보이는 변경 기준)
+    private void write(List<PendingSave> records) {
+        if (records.isEmpty()) return;
+        records.forEach(ItineraryWriteBehindBuffer::validate);
+        transactionTemplate.executeWithoutResult(status -> {
+            Timestamp flushedAt = Timestamp.valueOf(LocalDateTime.now());
+            Set<Long> existing = new HashSet<>(jdbcTemplate.queryForList(
+                    "SELECT id FROM itineraries WHERE id IN (" + records.stream().map(r -> "?")
+                            .collect(Collectors.joining(",")) + ")",
+                    Long.class, records.stream().map(PendingSave::id).toArray()));
+            List<Object[]> rows = new ArrayList<>();
+            for (PendingSave record : records) {
+                if (existing.contains(record.id())) continue;
+                Timestamp createdAt = Timestamp.valueOf(record.createdAt());
+                rows.add(new Object[]{record.id(), record.userEmail(), record.title(),
+                        blobStore.acquire(record.request()), blobStore.acquire(record.response()),
+                        createdAt, flushedAt});
+            }
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+            }
+        });
+    }
+}
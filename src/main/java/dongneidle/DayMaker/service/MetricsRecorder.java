@@ -0,0 +1,128 @@
+package dongneidle.DayMaker.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.net.SocketTimeoutException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 애플리케이션 지표 기록 (Micrometer, /actuator/prometheus로 노출)
+ *
+ * - daymaker.upstream.requests{upstream, outcome}: 외부 API 호출 1회 시간 (호출 한도 대기열 대기 시간 제외)
+ * - daymaker.itinerary.stage{path, stage}: 코스 생성 단계별 시간 (sync / reactive)
+ *
+ * 엔드포인트별 지연(http.server.requests), DB 풀(hikaricp.*)은 Boot가 자동 수집하고,
+ * 검증 캐시/handle 보관소/호출 한도는 각 컴포넌트가 MeterBinder로 직접 등록한다.
+ */
+@Component
+public class MetricsRecorder {
+
+    // upstream 태그 값
+    public static final String PLACES_NEARBY = "places.nearbysearch";
+    public static final String PLACES_DETAILS = "places.v1.details";
+    public static final String PLACES_SEARCH_NEARBY = "places.v1.searchNearby";
+    public static final String PLACES_PARKING_LEGACY = "places.nearbysearch.parking";
+    public static final String OPENAI_CHAT = "openai.chat.completions";
+
+    // outcome 태그 값
+    public static final String SUCCESS = "success";
+    public static final String EMPTY = "empty";           // 정상 응답이지만 결과 없음
+    public static final String API_ERROR = "api_error";   // HTTP는 성공, API status가 오류
+    public static final String ERROR = "error";           // 예외 (HTTP 오류, 연결 실패 등)
+    public static final String TIMEOUT = "timeout";
+    public static final String CANCELLED = "cancelled";
+
+    // path 태그 값
+    public static final String SYNC = "sync";
+    public static final String REACTIVE = "reactive";
+
+    private static final String UPSTREAM_TIMER = "daymaker.upstream.requests";
+    private static final String STAGE_TIMER = "daymaker.itinerary.stage";
+
+    private final MeterRegistry registry;
+
+    // 태그 조합별 Timer (호출마다 builder/registry 조회를 하지 않음)
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public MetricsRecorder(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * 동기 upstream 호출 시간 기록, 예외는 ERROR(또는 TIMEOUT)로 기록 후 그대로 전달
+     */
+    public <T> T timeUpstream(String upstream, Supplier<T> call, Function<? super T, String> outcome) {
+        long started = System.nanoTime();
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            recordUpstream(upstream, errorOutcome(e), System.nanoTime() - started);
+            throw e;
+        }
+        recordUpstream(upstream, outcome.apply(result), System.nanoTime() - started);
+        return result;
+    }
+
+    /**
+     * 리액티브 upstream 호출 시간 기록 (구독 시점부터 완료/오류/취소 중 처음 한 번만 기록)
+     * 값 없이 완료되면 outcome 함수에 null 전달
+     */
+    public <T> Mono<T> timeUpstream(String upstream, Mono<T> call, Function<? super T, String> outcome) {
+        return Mono.defer(() -> {
+            long started = System.nanoTime();
+            AtomicBoolean recorded = new AtomicBoolean();
+            Consumer<String> record = result -> {
+                if (recorded.compareAndSet(false, true)) {
+                    recordUpstream(upstream, result, System.nanoTime() - started);
+                }
+            };
+            return call.doOnSuccess(value -> record.accept(outcome.apply(value)))
+                    .doOnError(e -> record.accept(errorOutcome(e)))
+                    .doOnCancel(() -> record.accept(CANCELLED));
+        });
+    }
+
+    public void recordUpstream(String upstream, String outcome, long nanos) {
+        timer(UPSTREAM_TIMER, "외부 API 호출 시간", "upstream", upstream, "outcome", outcome)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordStage(String path, String stage, long nanos) {
+        timer(STAGE_TIMER, "코스 생성 단계별 시간", "path", path, "stage", stage)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 예외를 outcome 태그로 변환 (원인 체인에 타임아웃이 있으면 TIMEOUT)
+     */
+    public static String errorOutcome(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof TimeoutException || t instanceof SocketTimeoutException) {
+                return TIMEOUT;
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return ERROR;
+    }
+
+    private Timer timer(String name, String description, String key1, String value1, String key2, String value2) {
+        return timers.computeIfAbsent(name + '|' + value1 + '|' + value2, key -> Timer.builder(name)
+                .description(description)
+                .tag(key1, value1)
+                .tag(key2, value2)
+                .register(registry));
+    }
+}
@@ -0,0 +1,356 @@
+package dongneidle.DayMaker.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.theokanning.openai.client.OpenAiApi;
+import com.theokanning.openai.completion.chat.ChatCompletionRequest;
+import com.theokanning.openai.completion.chat.ChatCompletionResult;
+import com.theokanning.openai.service.OpenAiService;
+import dongneidle.DayMaker.enums.GptCallSite;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.OkHttpClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+import retrofit2.Retrofit;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OpenAI 호출 전담 클라이언트
+ *
+ * - 애플리케이션 시작 시 OpenAiService를 한 번만 생성 (동시 최초 요청에서도 하나만 존재)
+ * - 세마포어로 동시 호출 수 제한, 초과분은 대기열에 보관 (대기 중인 스레드 없음)
+ * - 대기열이 가득 차면 즉시 RejectedExecutionException으로 실패 → 호출부에서 로컬 fallback
+ * - 대기 시간/처리 중 호출 수 등 통계 제공, 호출마다 GptCallLedger에 토큰/지연 기록
+ * - 호출 시간은 daymaker.upstream.requests, 한도 상태는 daymaker.limiter.* 지표로도 노출
+ * - 리액티브 경로(createChatCompletionReactive)는 SDK 대신 WebClient로 호출해 스레드를 점유하지 않음
+ *   (같은 세마포어/대기열 사용, 구독 취소 시 대기열에서 빼거나 진행 중인 HTTP 호출 취소)
+ */
+@Slf4j
+@Component
+public class OpenAiClient implements MeterBinder {
+
+    // 응답 헤더 수신 시각 (SDK 호출은 호출 스레드에서 동기로 실행되므로 스레드 단위로 기록)
+    private static final ThreadLocal<Long> FIRST_BYTE_NANOS = new ThreadLocal<>();
+
+    private static final String OPENAI_BASE_URL = "https://api.openai.com/v1";
+
+    private final OpenAiService openAiService;
+    private final WebClient webClient;
+    private final Duration timeout;
+    private final AsyncTaskExecutor gptExecutor;
+    private final GptCallLedger callLedger;
+    private final MetricsRecorder metricsRecorder;
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final Semaphore permits;
+
+    private final Queue<PendingCall> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong cancelled = new AtomicLong();
+    private final AtomicLong totalQueueNanos = new AtomicLong();
+    private final AtomicLong maxQueueNanos = new AtomicLong();
+
+    public OpenAiClient(
+            @Value("${openai.api.key:}") String openaiApiKey,
+            @Value("${openai.api.timeout-seconds:30}") long timeoutSeconds,
+            @Value("${openai.client.max-concurrent:4}") int maxConcurrent,
+            @Value("${openai.client.max-queued:50}") int maxQueued,
+            @Qualifier("gptExecutor") AsyncTaskExecutor gptExecutor,
+            GptCallLedger callLedger,
+            MetricsRecorder metricsRecorder,
+            WebClient.Builder webClientBuilder) {
+        boolean configured = openaiApiKey != null && !openaiApiKey.isEmpty();
+        this.openAiService = configured ? buildService(openaiApiKey, timeoutSeconds) : null;
+        this.webClient = configured ? buildWebClient(webClientBuilder, openaiApiKey) : null;
+        this.timeout = Duration.ofSeconds(timeoutSeconds);
+        this.gptExecutor = gptExecutor;
+        this.callLedger = callLedger;
+        this.metricsRecorder = metricsRecorder;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = maxQueued;
+        this.permits = new Semaphore(maxConcurrent);
+        log.info("OpenAI client initialized (enabled: {}, maxConcurrent: {}, maxQueued: {})",
+                openAiService != null, maxConcurrent, maxQueued);
+    }
+
+    /**
+     * API 키가 설정되어 있는지 여부
+     */
+    public boolean isEnabled() {
+        return openAiService != null;
+    }
+
+    /**
+     * Chat Completion 비동기 호출
+     * 동시 호출 한도를 넘으면 대기열에 넣고, 대기열도 가득 차면 즉시 실패한 future 반환
+     */
+    public CompletableFuture<ChatCompletionResult> createChatCompletionAsync(ChatCompletionRequest request,
+                                                                             GptCallSite callSite) {
+        return submit(request, callSite, false);
+    }
+
+    /**
+     * Chat Completion non-blocking 호출 (WebClient, 응답 대기 중 스레드 점유 없음)
+     * 한도/대기열/장부 기록은 createChatCompletionAsync와 같고, 구독 취소 시 호출도 취소
+     */
+    public Mono<ChatCompletionResult> createChatCompletionReactive(ChatCompletionRequest request,
+                                                                   GptCallSite callSite) {
+        return Mono.fromFuture(() -> submit(request, callSite, true));
+    }
+
+    private CompletableFuture<ChatCompletionResult> submit(ChatCompletionRequest request,
+                                                           GptCallSite callSite,
+                                                           boolean nonBlocking) {
+        CompletableFuture<ChatCompletionResult> future = new CompletableFuture<>();
+        if (openAiService == null) {
+            future.completeExceptionally(new IllegalStateException("OpenAI API key not configured"));
+            return future;
+        }
+        PendingCall call = new PendingCall(request, callSite, future, System.nanoTime(),
+                nonBlocking, Disposables.swap());
+        if (nonBlocking) {
+            // Mono 구독 취소 → future.cancel → 대기 중이면 대기열에서 제거, 진행 중이면 HTTP 호출 취소
+            future.whenComplete((result, error) -> {
+                if (future.isCancelled()) {
+                    cancel(call);
+                }
+            });
+        }
+        if (permits.tryAcquire()) {
+            start(call);
+            return future;
+        }
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            rejected.incrementAndGet();
+            callLedger.record(callSite, "rejected", 0, 0, 0, 0, 0);
+            log.warn("OpenAI queue full ({} queued, {} in flight), rejecting call", maxQueued, inFlight.get());
+            future.completeExceptionally(new RejectedExecutionException("OpenAI call queue is full"));
+            return future;
+        }
+        pending.add(call);
+        // 대기열에 넣는 사이 반납된 permit이 있을 수 있으므로 한 번 더 확인
+        drain();
+        return future;
+    }
+
+    /**
+     * 호출 통계 (대기 시간, 처리 중/대기 중 호출 수, 거절 수)
+     */
+    public Map<String, Object> getStats() {
+        long done = completed.get() + failed.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", isEnabled());
+        stats.put("maxConcurrent", maxConcurrent);
+        stats.put("maxQueued", maxQueued);
+        stats.put("inFlight", inFlight.get());
+        stats.put("queued", queued.get());
+        stats.put("completed", completed.get());
+        stats.put("failed", failed.get());
+        stats.put("rejected", rejected.get());
+        stats.put("cancelled", cancelled.get());
+        stats.put("avgQueueMs", done == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalQueueNanos.get() / done));
+        stats.put("maxQueueMs", TimeUnit.NANOSECONDS.toMillis(maxQueueNanos.get()));
+        return stats;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("daymaker.limiter.active", inFlight, AtomicInteger::get)
+                .description("처리 중인 호출 수").tag("limiter", "OpenAI").register(registry);
+        Gauge.builder("daymaker.limiter.queued", queued, AtomicInteger::get)
+                .description("대기열에 있는 호출 수").tag("limiter", "OpenAI").register(registry);
+        FunctionCounter.builder("daymaker.limiter.rejected", rejected, AtomicLong::get)
+                .description("대기열이 가득 차 거절된 호출 수").tag("limiter", "OpenAI").register(registry);
+    }
+
+    // 응답 헤더 수신 시각을 기록하는 OkHttp 리스너를 붙여 SDK 클라이언트 생성
+    private static OpenAiService buildService(String openaiApiKey, long timeoutSeconds) {
+        ObjectMapper mapper = OpenAiService.defaultObjectMapper();
+        OkHttpClient client = OpenAiService.defaultClient(openaiApiKey, Duration.ofSeconds(timeoutSeconds))
+                .newBuilder()
+                .eventListener(new EventListener() {
+                    @Override
+                    public void responseHeadersStart(Call call) {
+                        FIRST_BYTE_NANOS.set(System.nanoTime());
+                    }
+                })
+                .build();
+        Retrofit retrofit = OpenAiService.defaultRetrofit(client, mapper);
+        return new OpenAiService(retrofit.create(OpenAiApi.class));
+    }
+
+    // SDK와 같은 ObjectMapper(snake_case 등)로 요청/응답을 직렬화하는 non-blocking 클라이언트
+    private static WebClient buildWebClient(WebClient.Builder builder, String openaiApiKey) {
+        ObjectMapper mapper = OpenAiService.defaultObjectMapper();
+        return builder.clone()
+                .baseUrl(OPENAI_BASE_URL)
+                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + openaiApiKey)
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(mapper, MediaType.APPLICATION_JSON));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(mapper, MediaType.APPLICATION_JSON));
+                })
+                .build();
+    }
+
+    // permit을 이미 확보한 상태에서 호출
+    private void start(PendingCall call) {
+        long startedAt = System.nanoTime();
+        long queueNanos = startedAt - call.enqueuedAt();
+        totalQueueNanos.addAndGet(queueNanos);
+        maxQueueNanos.accumulateAndGet(queueNanos, Math::max);
+        inFlight.incrementAndGet();
+        if (call.nonBlocking()) {
+            startNonBlocking(call, startedAt, queueNanos);
+            return;
+        }
+        try {
+            CompletableFuture
+                    .supplyAsync(() -> {
+                        FIRST_BYTE_NANOS.remove();
+                        try {
+                            return new TimedResult(openAiService.createChatCompletion(call.request()),
+                                    FIRST_BYTE_NANOS.get());
+                        } finally {
+                            FIRST_BYTE_NANOS.remove();
+                        }
+                    }, gptExecutor)
+                    .whenComplete((timed, error) -> finish(call, startedAt, queueNanos, timed, error));
+        } catch (RuntimeException e) {
+            finish(call, startedAt, queueNanos, null, e);
+        }
+    }
+
+    // 응답 헤더 수신 시각을 첫 바이트로 기록, 완료/실패/취소 모두 finish에서 permit 반납
+    private void startNonBlocking(PendingCall call, long startedAt, long queueNanos) {
+        Disposable subscription = webClient.post()
+                .uri("/chat/completions")
+                .bodyValue(call.request())
+                .exchangeToMono(response -> {
+                    long firstByteNanos = System.nanoTime();
+                    if (response.statusCode().isError()) {
+                        return response.<TimedResult>createError();
+                    }
+                    return response.bodyToMono(ChatCompletionResult.class)
+                            .map(result -> new TimedResult(result, firstByteNanos));
+                })
+                .timeout(timeout)
+                .doOnCancel(() -> finish(call, startedAt, queueNanos, null,
+                        new CancellationException("OpenAI call cancelled")))
+                .subscribe(timed -> finish(call, startedAt, queueNanos, timed, null),
+                        error -> finish(call, startedAt, queueNanos, null, error));
+        call.upstream().update(subscription);
+    }
+
+    // 대기 중이던 호출은 대기열에서 제거, 진행 중인 호출은 구독 해제 (doOnCancel → finish)
+    private void cancel(PendingCall call) {
+        if (pending.remove(call)) {
+            queued.decrementAndGet();
+            cancelled.incrementAndGet();
+            callLedger.record(call.callSite(), "cancelled", 0, 0,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - call.enqueuedAt()), 0, 0);
+            return;
+        }
+        call.upstream().dispose();
+    }
+
+    private void finish(PendingCall call, long startedAt, long queueNanos, TimedResult timed, Throwable error) {
+        long now = System.nanoTime();
+        inFlight.decrementAndGet();
+        permits.release();
+        recordCall(call, startedAt, now, queueNanos, timed, error);
+        ChatCompletionResult result = timed != null ? timed.result() : null;
+        if (error instanceof CancellationException) {
+            cancelled.incrementAndGet();
+        } else if (error != null) {
+            failed.incrementAndGet();
+            call.future().completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error);
+        } else {
+            completed.incrementAndGet();
+            call.future().complete(result);
+        }
+        drain();
+    }
+
+    private void drain() {
+        while (!pending.isEmpty() && permits.tryAcquire()) {
+            PendingCall next = pending.poll();
+            if (next == null) {
+                permits.release();
+                return;
+            }
+            queued.decrementAndGet();
+            start(next);
+        }
+    }
+
+    private void recordCall(PendingCall call, long startedAt, long finishedAt, long queueNanos,
+                            TimedResult timed, Throwable error) {
+        long promptTokens = 0;
+        long completionTokens = 0;
+        long totalMs = TimeUnit.NANOSECONDS.toMillis(finishedAt - startedAt);
+        long firstByteMs = totalMs;
+        if (timed != null) {
+            if (timed.result().getUsage() != null) {
+                promptTokens = timed.result().getUsage().getPromptTokens();
+                completionTokens = timed.result().getUsage().getCompletionTokens();
+            }
+            if (timed.firstByteNanos() != null) {
+                firstByteMs = TimeUnit.NANOSECONDS.toMillis(timed.firstByteNanos() - startedAt);
+            }
+        }
+        String outcome = error == null ? "success"
+                : error instanceof CancellationException ? "cancelled" : "failure";
+        callLedger.record(call.callSite(), outcome,
+                promptTokens, completionTokens, TimeUnit.NANOSECONDS.toMillis(queueNanos), firstByteMs, totalMs);
+        metricsRecorder.recordUpstream(MetricsRecorder.OPENAI_CHAT,
+                error == null ? MetricsRecorder.SUCCESS
+                        : error instanceof CancellationException ? MetricsRecorder.CANCELLED
+                        : MetricsRecorder.errorOutcome(error),
+                finishedAt - startedAt);
+    }
+
+    private record PendingCall(ChatCompletionRequest request,
+                               GptCallSite callSite,
+                               CompletableFuture<ChatCompletionResult> future,
+                               long enqueuedAt,
+                               boolean nonBlocking,
+                               Disposable.Swap upstream) {
+    }
+
+    private record TimedResult(ChatCompletionResult result, Long firstByteNanos) {
+    }
+}
@@ -0,0 +1,87 @@
+package dongneidle.DayMaker.service;
+
+import dongneidle.DayMaker.security.AuthThrottledException;
+import dongneidle.DayMaker.util.BucketHistogram;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시/검증을 전용 스레드 풀(passwordHashExecutor)에서 실행
+ *
+ * BCrypt 한 번이 CPU ~100ms라 요청 스레드에서 돌리면 로그인 폭주가 코스 생성 등 다른 요청까지 굶긴다.
+ * 풀 크기와 대기열을 제한하고, 대기열이 가득 차면 기다리지 않고 바로 AuthThrottledException(429)으로 거절한다.
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+    private final long retryAfterSeconds;
+
+    private final BucketHistogram hashMillis = BucketHistogram.forMillis();
+    private final BucketHistogram queueWaitMillis = BucketHistogram.forMillis();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public PasswordHashingService(
+            PasswordEncoder passwordEncoder,
+            @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor executor,
+            @Value("${security.password.executor.retry-after-seconds:2}") long retryAfterSeconds) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 해시 시간/대기열 통계
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("poolSize", executor.getMaxPoolSize());
+        stats.put("activeThreads", executor.getActiveCount());
+        stats.put("queueDepth", executor.getQueueSize());
+        stats.put("queueCapacity", executor.getQueueCapacity());
+        stats.put("rejected", rejected.get());
+        stats.put("hashMs", hashMillis.snapshot());
+        stats.put("queueWaitMs", queueWaitMillis.snapshot());
+        return stats;
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> work) {
+        long submitted = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                long started = System.nanoTime();
+                queueWaitMillis.record((started - submitted) / 1_000_000);
+                try {
+                    return work.get();
+                } finally {
+                    hashMillis.record((System.nanoTime() - started) / 1_000_000);
+                }
+            }, executor);
+        } catch (TaskRejectedException e) {
+            rejected.incrementAndGet();
+            log.warn("비밀번호 해시 대기열 포화: active={}, queued={}", executor.getActiveCount(), executor.getQueueSize());
+            throw new AuthThrottledException("요청이 많아 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package dongneidle.DayMaker.service;
+
+import dongneidle.DayMaker.DTO.ItineraryRequest;
+import dongneidle.DayMaker.DTO.ItineraryResponse;
+import dongneidle.DayMaker.enums.CultureType;
+import dongneidle.DayMaker.enums.FoodType;
+import dongneidle.DayMaker.enums.GptCallSite;
+import dongneidle.DayMaker.service.ItineraryService.Candidates;
+import dongneidle.DayMaker.service.ItineraryService.ItineraryPlan;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 리액티브(non-blocking) 코스 생성
+ *
+ * ItineraryService.createItinerary와 같은 결과를 만들지만 Google Places/OpenAI 응답을 기다리는 스레드가 없다.
+ * - 음식/문화 후보 검색을 Flux로 동시에 실행해 합침 (요청당 동시 검색 수: itinerary.reactive.search-concurrency)
+ * - 인스턴스 전체 동시 upstream 호출은 GooglePlacesService 호출 한도가 제한, 대기열이 차면 RejectedExecutionException → 503
+ * - 구독이 취소되면(클라이언트 연결 종료) 진행 중인 Places/GPT 호출도 취소
+ * - 입력 해석, 구성 보정, 동선 생성은 ItineraryService 로직을 그대로 사용
+ * - 단계별 시간은 동기 경로와 같은 daymaker.itinerary.stage 지표에 path=reactive로 기록
+ */
+@Slf4j
+@Service
+public class ReactiveItineraryService {
+
+    // 구성 보정 단계 추가 검색 반복 한도 (보통 1~2회에 끝남)
+    private static final int MAX_FALLBACK_ROUNDS = 3;
+
+    private final ItineraryService itineraryService;
+    private final GooglePlacesService googlePlacesService;
+    private final FestivalService festivalService;
+    private final GptService gptService;
+    private final MetricsRecorder metricsRecorder;
+    private final int searchConcurrency;
+
+    public ReactiveItineraryService(ItineraryService itineraryService,
+                                    GooglePlacesService googlePlacesService,
+                                    FestivalService festivalService,
+                                    GptService gptService,
+                                    MetricsRecorder metricsRecorder,
+                                    @Value("${itinerary.reactive.search-concurrency:8}") int searchConcurrency) {
+        this.itineraryService = itineraryService;
+        this.googlePlacesService = googlePlacesService;
+        this.festivalService = festivalService;
+        this.gptService = gptService;
+        this.metricsRecorder = metricsRecorder;
+        this.searchConcurrency = Math.max(1, searchConcurrency);
+    }
+
+    public Mono<ItineraryResponse> createItinerary(ItineraryRequest request) {
+        return Mono.defer(() -> {
+            log.info("Creating itinerary (reactive) for request: {}", request);
+            long planStarted = System.nanoTime();
+            ItineraryPlan plan = itineraryService.plan(request);
+            metricsRecorder.recordStage(MetricsRecorder.REACTIVE, "plan", System.nanoTime() - planStarted);
+            return timed("search", collectCandidates(request, plan))
+                    .flatMap(candidates -> timed("gpt_selection", gptService.selectOptimalPlacesReactive(
+                                    candidates.allPlaces(), request.getPeopleCount(), request.getTransport(),
+                                    plan.numPlaces(), plan.foodTypesForGpt(), GptCallSite.ITINERARY))
+                            .flatMap(gptSelected -> timed("composition", enforceComposition(
+                                    plan, candidates, gptSelected, new ConcurrentHashMap<>(), 1))))
+                    // 응답 조립은 handle 준비(정규 JSON, SHA-256, Smile+Deflate)까지 포함하므로 이벤트 루프 밖에서 실행
+                    .publishOn(Schedulers.boundedElastic())
+                    .map(selected -> {
+                        long responseStarted = System.nanoTime();
+                        ItineraryResponse response = itineraryService.buildResponse(request, plan, selected);
+                        metricsRecorder.recordStage(MetricsRecorder.REACTIVE, "response", System.nanoTime() - responseStarted);
+                        return response;
+                    });
+        });
+    }
+
+    // 구독 시점부터 값이 나올 때까지를 단계 시간으로 기록 (오류/취소는 기록하지 않음)
+    private <T> Mono<T> timed(String stage, Mono<T> source) {
+        return Mono.defer(() -> {
+            long started = System.nanoTime();
+            return source.doOnNext(value -> metricsRecorder.recordStage(
+                    MetricsRecorder.REACTIVE, stage, System.nanoTime() - started));
+        });
+    }
+
+    // 음식/문화 검색을 동시에 실행하고 축제(인메모리 인덱스)를 더함
+    private Mono<Candidates> collectCandidates(ItineraryRequest request, ItineraryPlan plan) {
+        Mono<List<ItineraryResponse.PlaceDto>> culture = plan.cultureTypePrimary() == CultureType.FESTIVAL
+                ? Mono.just(List.of())
+                : searchCulturePlaces(plan);
+        return Mono.zip(searchFoodPlaces(plan), culture)
+                .map(found -> {
+                    List<ItineraryResponse.PlaceDto> foodPlaces = found.getT1();
+                    List<ItineraryResponse.PlaceDto> culturePlaces = found.getT2();
+                    log.info("Found {} food places, {} culture places", foodPlaces.size(), culturePlaces.size());
+
+                    List<ItineraryResponse.PlaceDto> allPlaces = new ArrayList<>(foodPlaces);
+                    allPlaces.addAll(culturePlaces);
+                    List<ItineraryResponse.PlaceDto> nearbyFestivals = festivalService.getNearbyFestivalsAsPlaces(
+                            request.getDate(), plan.searchLat(), plan.searchLng(), 2.0);
+                    allPlaces.addAll(nearbyFestivals);
+                    log.info("Total places collected: {} (festivals: {})", allPlaces.size(), nearbyFestivals.size());
+                    return new Candidates(foodPlaces, culturePlaces, allPlaces);
+                });
+    }
+
+    /**
+     * 음식 타입별 역 기준 검색을 동시에 실행 (결과 순서는 타입 순서 유지)
+     * 합친 후보가 3개 미만이면 완화 키워드로 차례로 추가 탐색하고, 충분해지면 남은 검색은 구독하지 않음
+     */
+    private Mono<List<ItineraryResponse.PlaceDto>> searchFoodPlaces(ItineraryPlan plan) {
+        List<FoodType> foodTypes = plan.foodTypes().isEmpty() ? List.of(plan.foodTypePrimary()) : plan.foodTypes();
+        int numPlaces = plan.numPlaces();
+        return Flux.fromIterable(foodTypes)
+                .flatMapSequential(ft -> googlePlacesService.searchPlacesNearLocationReactive(
+                        ft.getGoogleType(), ft.getSearchKeyword(), plan.searchLat(), plan.searchLng(),
+                        plan.searchRadius(), numPlaces), searchConcurrency)
+                .collectList()
+                .flatMap(parts -> {
+                    Set<String> seenIds = new HashSet<>();
+                    List<ItineraryResponse.PlaceDto> foodPlaces = new ArrayList<>();
+                    parts.forEach(part -> addUnique(part, seenIds, foodPlaces));
+                    if (foodPlaces.size() >= 3) {
+                        return Mono.just(foodPlaces);
+                    }
+                    return Flux.fromIterable(foodTypes)
+                            .concatMap(ft -> Flux.fromArray(ItineraryService.altFoodKeywords(ft))
+                                    .concatMap(keyword -> googlePlacesService.searchPlacesReactive(
+                                            ft.getGoogleType(), keyword, Math.max(numPlaces * 2, 12))))
+                            .doOnNext(more -> addUnique(more, seenIds, foodPlaces))
+                            .takeUntil(more -> foodPlaces.size() >= numPlaces * 2)
+                            .then(Mono.fromSupplier(() -> foodPlaces));
+                });
+    }
+
+    // 문화 타입별(다중 타입은 분할) 역 기준 검색을 동시에 실행
+    private Mono<List<ItineraryResponse.PlaceDto>> searchCulturePlaces(ItineraryPlan plan) {
+        List<CultureType> cultureTypes = plan.cultureTypes().isEmpty()
+                ? List.of(plan.cultureTypePrimary()) : plan.cultureTypes();
+        return Flux.fromIterable(cultureTypes)
+                .concatMap(ct -> Flux.fromArray(ct.getGoogleType().split("\\|"))
+                        .map(type -> new SearchKey(type, ct.getSearchKeyword(), plan.numPlaces())))
+                .flatMapSequential(key -> googlePlacesService.searchPlacesNearLocationReactive(
+                        key.type(), key.keyword(), plan.searchLat(), plan.searchLng(),
+                        plan.searchRadius(), key.desiredCount()), searchConcurrency)
+                .collectList()
+                .map(parts -> {
+                    Set<String> seenIds = new HashSet<>();
+                    List<ItineraryResponse.PlaceDto> culturePlaces = new ArrayList<>();
+                    parts.forEach(part -> addUnique(part, seenIds, culturePlaces));
+                    return culturePlaces;
+                });
+    }
+
+    /**
+     * ItineraryService의 구성 보정을 그대로 실행하되, 보정 중 필요한 추가 검색은 이미 받아 둔 결과로만 답한다.
+     * 받지 않은 검색이 있었으면 그 검색들을 동시에 실행해 채운 뒤 보정을 다시 실행 (보정 로직은 부수 효과 없음)
+     */
+    private Mono<List<ItineraryResponse.PlaceDto>> enforceComposition(ItineraryPlan plan,
+                                                                      Candidates candidates,
+                                                                      List<ItineraryResponse.PlaceDto> gptSelected,
+                                                                      Map<SearchKey, List<ItineraryResponse.PlaceDto>> fetched,
+                                                                      int round) {
+        Set<SearchKey> missing = new LinkedHashSet<>();
+        List<ItineraryResponse.PlaceDto> selected = itineraryService.enforceComposition(
+                plan, candidates, gptSelected, (type, keyword, desiredCount) -> {
+                    SearchKey key = new SearchKey(type, keyword, desiredCount);
+                    List<ItineraryResponse.PlaceDto> places = fetched.get(key);
+                    if (places == null) {
+                        missing.add(key);
+                        return List.of();
+                    }
+                    return places;
+                });
+        if (missing.isEmpty() || round >= MAX_FALLBACK_ROUNDS) {
+            return Mono.just(selected);
+        }
+        log.info("Composition fallback round {}: fetching {} searches", round, missing.size());
+        return Flux.fromIterable(missing)
+                .flatMap(key -> googlePlacesService.searchPlacesReactive(key.type(), key.keyword(), key.desiredCount())
+                        .doOnNext(places -> fetched.put(key, places)), searchConcurrency)
+                .then(Mono.defer(() -> enforceComposition(plan, candidates, gptSelected, fetched, round + 1)));
+    }
+
+    private static void addUnique(List<ItineraryResponse.PlaceDto> places,
+                                  Set<String> seenIds,
+                                  List<ItineraryResponse.PlaceDto> into) {
+        for (ItineraryResponse.PlaceDto p : places) {
+            if (p.getPlaceId() != null && seenIds.add(p.getPlaceId())) {
+                into.add(p);
+            }
+        }
+    }
+
+    private record SearchKey(String type, String keyword, int desiredCount) {
+    }
+}
@@ -1,13 +1,20 @@
 package dongneidle.DayMaker.service;
 
+import dongneidle.DayMaker.DTO.StationCourseResult;
 import dongneidle.DayMaker.DTO.StationRequest;
 import dongneidle.DayMaker.DTO.ItineraryResponse;
 import dongneidle.DayMaker.entity.Station;
-import dongneidle.DayMaker.repository.StationRepository;
+import dongneidle.DayMaker.entity.StationCourse;
+import dongneidle.DayMaker.enums.GptCallSite;
+import dongneidle.DayMaker.repository.StationCourseRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.ArrayList;
@@ -19,47 +26,131 @@ import java.util.HashMap;
 @Slf4j
 public class StationBasedCourseService {
     
-    private final StationRepository stationRepository;
+    private static final String COURSE_FAILED_MESSAGE = "코스 추천 생성에 실패했습니다.";
+    
+    private final StationRegistry stationRegistry;
+    private final StationCourseRepository stationCourseRepository;
     private final GooglePlacesService googlePlacesService;
     private final GptService gptService;
     
+    /**
+     * 사전 계산된 코스를 그대로 제공할 최대 경과 시간 (초과 시 실시간 계산)
+     */
+    @Value("${station.course.max-age-hours:48}")
+    private long courseMaxAgeHours;
+    
     /**
      * 사용 가능한 모든 역 목록 조회
      */
     public List<Station> getAvailableStations() {
-        return stationRepository.findAllByOrderByName();
+        return stationRegistry.getAll();
     }
     
     /**
      * 선택된 역 정보 조회
      */
     public Optional<Station> getStationByName(String stationName) {
-        return stationRepository.findByName(stationName);
+        return stationRegistry.findByName(stationName);
     }
     
     /**
-     * 선택된 역을 기준으로 코스 추천
+     * 역 기반 코스 조회
+     * 사전 계산 테이블에서 (역, 문화 타입, 음식 타입 조합)으로 한 번에 조회하고,
+     * 없거나 너무 오래된 경우에만 실시간 계산 후 테이블에 저장
+     * (인원 수는 장소 선택 프롬프트에 쓰이지 않으므로 키에 포함하지 않음)
      */
-    public String recommendCourseFromStation(StationRequest request) {
-        log.info("역 기반 코스 추천 시작: {}", request.getSelectedStation());
+    public StationCourseResult getCourse(StationRequest request) {
+        String stationName = request.getSelectedStation().trim();
+        String cultureKey = toCultureKey(request.getCultureType());
+        String foodKey = toFoodKey(request.getFoodType());
         
-        // 1. 선택된 역 정보 조회
-        Optional<Station> stationOpt = stationRepository.findByName(request.getSelectedStation());
-        if (stationOpt.isEmpty()) {
-            return "선택된 역을 찾을 수 없습니다: " + request.getSelectedStation();
+        Optional<StationCourse> materialized = stationCourseRepository
+                .findByStationNameAndCultureTypeAndFoodKey(stationName, cultureKey, foodKey);
+        if (materialized.isPresent()
+                && materialized.get().getComputedAt().isAfter(LocalDateTime.now().minusHours(courseMaxAgeHours))) {
+            log.info("사전 계산 코스 사용: {} / {} / {} (계산 시각: {})",
+                    stationName, cultureKey, foodKey, materialized.get().getComputedAt());
+            return StationCourseResult.builder()
+                    .course(materialized.get().getCourse())
+                    .computedAt(materialized.get().getComputedAt())
+                    .materialized(true)
+                    .build();
         }
         
-        Station station = stationOpt.get();
-        log.info("선택된 역: {} (위도: {}, 경도: {})", 
-                station.getName(), station.getLatitude(), station.getLongitude());
+        log.info("사전 계산 코스 없음, 실시간 계산: {} / {} / {}", stationName, cultureKey, foodKey);
+        Optional<Station> stationOpt = stationRegistry.findByName(stationName);
+        if (stationOpt.isEmpty()) {
+            return StationCourseResult.builder()
+                    .course("선택된 역을 찾을 수 없습니다: " + stationName)
+                    .computedAt(LocalDateTime.now())
+                    .materialized(false)
+                    .build();
+        }
+        try {
+            StationCourse saved = materialize(stationOpt.get(), cultureKey, foodKey);
+            return StationCourseResult.builder()
+                    .course(saved.getCourse())
+                    .computedAt(saved.getComputedAt())
+                    .materialized(false)
+                    .build();
+        } catch (Exception e) {
+            return StationCourseResult.builder()
+                    .course(COURSE_FAILED_MESSAGE)
+                    .computedAt(LocalDateTime.now())
+                    .materialized(false)
+                    .build();
+        }
+    }
+    
+    /**
+     * 코스를 계산해 사전 계산 테이블에 저장 (실시간 미스/백그라운드 갱신 공용)
+     * 계산 실패 시 예외를 던지며 기존 행은 그대로 유지
+     */
+    public StationCourse materialize(Station station, String cultureKey, String foodKey) {
+        StationRequest request = new StationRequest();
+        request.setSelectedStation(station.getName());
+        request.setCultureType(cultureKey.isEmpty() ? null : cultureKey);
+        request.setFoodType(foodKey.isEmpty() ? List.of() : Arrays.asList(foodKey.split(",")));
         
-        // 2. 역 근처 장소 검색 (Google Places API 사용)
         String nearbyPlaces = searchNearbyPlaces(station);
+        String course = generateCourseWithGPT(request, station, nearbyPlaces);
         
-        // 3. GPT를 사용하여 코스 추천
-        String courseRecommendation = generateCourseWithGPT(request, station, nearbyPlaces);
-        
-        return courseRecommendation;
+        StationCourse entity = stationCourseRepository
+                .findByStationNameAndCultureTypeAndFoodKey(station.getName(), cultureKey, foodKey)
+                .orElseGet(() -> StationCourse.builder()
+                        .stationName(station.getName())
+                        .cultureType(cultureKey)
+                        .foodKey(foodKey)
+                        .build());
+        entity.setCourse(course);
+        entity.setComputedAt(LocalDateTime.now());
+        try {
+            return stationCourseRepository.save(entity);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 조합을 다른 요청이 먼저 저장한 경우: 계산 결과만 반환
+            log.info("사전 계산 코스 동시 저장 경합: {} / {} / {}", station.getName(), cultureKey, foodKey);
+            return entity;
+        }
+    }
+    
+    /**
+     * 문화 타입 키 정규화 (없으면 빈 문자열)
+     */
+    public static String toCultureKey(String cultureType) {
+        return cultureType == null ? "" : cultureType.trim();
+    }
+    
+    /**
+     * 음식 타입 목록을 순서와 무관한 키로 정규화 (예: [한식, 카페] → "카페,한식")
+     */
+    public static String toFoodKey(List<String> foodTypes) {
+        if (foodTypes == null) return "";
+        return foodTypes.stream()
+                .filter(f -> f != null && !f.isBlank())
+                .map(String::trim)
+                .distinct()
+                .sorted()
+                .collect(java.util.stream.Collectors.joining(","));
     }
     
     /**
@@ -602,7 +693,8 @@ public class StationBasedCourseService {
                     request.getPeopleCount(),
                     "도보",
                     4,
-                    request.getFoodType()
+                    request.getFoodType(),
+                    GptCallSite.STATION_COURSE
                 );
             }
             
@@ -611,7 +703,7 @@ public class StationBasedCourseService {
             
         } catch (Exception e) {
             log.error("GPT 코스 추천 생성 중 오류 발생", e);
-            return "코스 추천 생성에 실패했습니다.";
+            throw new IllegalStateException(COURSE_FAILED_MESSAGE, e);
         }
     }
     
@@ -664,7 +756,8 @@ public class StationBasedCourseService {
                 request.getPeopleCount(),
                 "도보",
                 4,
-                request.getFoodType()
+                request.getFoodType(),
+                GptCallSite.STATION_COURSE
             );
         } else {
             // 필터링된 장소가 부족하면 전체에서 선택하되 해당 타입 우선
@@ -716,7 +809,8 @@ public class StationBasedCourseService {
                 request.getPeopleCount(),
                 "도보",
                 4,
-                request.getFoodType()
+                request.getFoodType(),
+                GptCallSite.STATION_COURSE
             );
         }
     }
@@ -0,0 +1,102 @@
+package dongneidle.DayMaker.service;
+
+import dongneidle.DayMaker.entity.Station;
+import dongneidle.DayMaker.entity.StationCourse;
+import dongneidle.DayMaker.repository.StationCourseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 역 기반 추천 코스 백그라운드 사전 계산
+ *
+ * 주기적으로 (역, 문화 타입, 음식 타입 조합)별 코스를 계산해 station_courses 테이블에 저장한다.
+ * - 오래된 행 갱신: 실시간 미스로 저장된 조합도 포함
+ * - seed 옵션: 7개 역 × 문화 타입 × 단일 음식 타입 조합을 미리 채움
+ * Google/OpenAI 호출이 많으므로 기본값은 꺼져 있음 (station.course.materialize.enabled)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StationCourseMaterializer {
+
+    private static final List<String> CULTURE_TYPES = List.of("공연/전시", "자연/공원", "체험", "지역축제", "기타");
+    private static final List<String> FOOD_TYPES = List.of("한식", "중식", "양식", "일식", "기타", "카페");
+
+    private final StationBasedCourseService stationBasedCourseService;
+    private final StationRegistry stationRegistry;
+    private final StationCourseRepository stationCourseRepository;
+
+    @Value("${station.course.materialize.enabled:false}")
+    private boolean enabled;
+
+    @Value("${station.course.materialize.seed:true}")
+    private boolean seed;
+
+    // 이 시간보다 오래된 행만 다시 계산
+    @Value("${station.course.materialize.refresh-after-hours:6}")
+    private long refreshAfterHours;
+
+    @Scheduled(initialDelayString = "${station.course.materialize.initial-delay-ms:60000}",
+               fixedDelayString = "${station.course.materialize.interval-ms:3600000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        int refreshed = 0;
+        int failed = 0;
+
+        Map<String, Station> stations = stationRegistry.getAll().stream()
+                .collect(Collectors.toMap(Station::getName, Function.identity()));
+
+        // 1. 오래된 행 갱신
+        List<StationCourse> stale = stationCourseRepository
+                .findByComputedAtBeforeOrderByComputedAtAsc(LocalDateTime.now().minusHours(refreshAfterHours));
+        for (StationCourse row : stale) {
+            Station station = stations.get(row.getStationName());
+            if (station == null) continue;
+            if (materialize(station, row.getCultureType(), row.getFoodKey())) refreshed++;
+            else failed++;
+        }
+
+        // 2. 기본 조합 중 아직 없는 것 채우기
+        if (seed) {
+            Set<String> existing = new HashSet<>();
+            stationCourseRepository.findAll().forEach(c ->
+                    existing.add(c.getStationName() + "|" + c.getCultureType() + "|" + c.getFoodKey()));
+            for (Station station : stations.values()) {
+                for (String culture : CULTURE_TYPES) {
+                    for (String food : FOOD_TYPES) {
+                        if (existing.contains(station.getName() + "|" + culture + "|" + food)) continue;
+                        if (materialize(station, culture, food)) refreshed++;
+                        else failed++;
+                    }
+                }
+            }
+        }
+
+        log.info("역 코스 사전 계산 완료: 갱신 {}건, 실패 {}건 ({}ms)",
+                refreshed, failed, System.currentTimeMillis() - startedAt);
+    }
+
+    private boolean materialize(Station station, String cultureKey, String foodKey) {
+        try {
+            stationBasedCourseService.materialize(station, cultureKey, foodKey);
+            return true;
+        } catch (Exception e) {
+            log.warn("역 코스 사전 계산 실패: {} / {} / {} - {}", station.getName(), cultureKey, foodKey, e.getMessage());
+            return false;
+        }
+    }
+}
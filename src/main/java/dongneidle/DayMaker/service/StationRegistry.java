@@ -0,0 +1,117 @@
+package dongneidle.DayMaker.service;
+
+import dongneidle.DayMaker.entity.Station;
+import dongneidle.DayMaker.repository.StationRepository;
+import dongneidle.DayMaker.util.GeoKdTree;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 역 정보 인메모리 레지스트리
+ *
+ * 시작 시 stations 테이블을 한 번 읽어 불변 스냅샷(이름 → 역, 이름순 목록, k-d 트리)을 만든다.
+ * 역이 JPA로 변경되면(StationChangeListener) 커밋 후 스냅샷을 다시 만들고,
+ * SQL로 직접 바뀌는 경우를 위해 주기적으로도 다시 읽는다.
+ * 방금 커밋된 변경을 놓치지 않도록 다시 읽기는 읽기/쓰기 트랜잭션(primary)에서 한다.
+ * 조회는 DB를 거치지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StationRegistry {
+
+    private final StationRepository stationRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 역 변경 알림 (StationChangeListener에서 발행)
+     */
+    public record StationsChangedEvent() {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStationsChanged(StationsChangedEvent event) {
+        reload();
+    }
+
+    @Scheduled(initialDelayString = "${station.registry.reload-interval-ms:600000}",
+               fixedDelayString = "${station.registry.reload-interval-ms:600000}")
+    public void reload() {
+        // 리포지토리 기본값(readOnly)은 replica로 가므로 지연된 복제본을 읽지 않도록 primary에서 조회
+        List<Station> loaded = transactionTemplate.execute(status -> stationRepository.findAllByOrderByName().stream()
+                .map(StationRegistry::copyOf)
+                .toList());
+        Map<String, Station> byName = new LinkedHashMap<>();
+        for (Station station : loaded) {
+            byName.put(station.getName(), station);
+        }
+        GeoKdTree<Station> tree = GeoKdTree.build(loaded, Station::getLatitude, Station::getLongitude);
+        snapshot = new Snapshot(Map.copyOf(byName), loaded, tree);
+        log.info("Station registry loaded: {} stations", loaded.size());
+    }
+
+    /**
+     * 이름순 전체 역 목록
+     */
+    public List<Station> getAll() {
+        return current().ordered();
+    }
+
+    /**
+     * 역명으로 조회 (O(1))
+     */
+    public Optional<Station> findByName(String name) {
+        if (name == null) return Optional.empty();
+        return Optional.ofNullable(current().byName().get(name.trim()));
+    }
+
+    /**
+     * 좌표에서 가까운 역 k개 (가까운 순)
+     */
+    public List<GeoKdTree.Neighbor<Station>> findNearest(double latitude, double longitude, int k) {
+        return current().tree().nearest(latitude, longitude, k);
+    }
+
+    private Snapshot current() {
+        Snapshot s = snapshot;
+        if (s == null) {
+            // 시작 이벤트 이전 호출 대비
+            reload();
+            s = snapshot;
+        }
+        return s;
+    }
+
+    // 관리 대상 엔티티를 외부에 노출하지 않도록 복사본 사용
+    private static Station copyOf(Station station) {
+        return Station.builder()
+                .id(station.getId())
+                .name(station.getName())
+                .latitude(station.getLatitude())
+                .longitude(station.getLongitude())
+                .line(station.getLine())
+                .description(station.getDescription())
+                .build();
+    }
+
+    private record Snapshot(Map<String, Station> byName, List<Station> ordered, GeoKdTree<Station> tree) {
+    }
+}
@@ -0,0 +1,159 @@
+package dongneidle.DayMaker.service;
+
+import dongneidle.DayMaker.entity.RevokedToken;
+import dongneidle.DayMaker.repository.RevokedTokenRepository;
+import dongneidle.DayMaker.util.BloomFilter;
+import dongneidle.DayMaker.util.JwtTokenProvider.VerifiedToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JWT 폐기(로그아웃) 확인
+ *
+ * revoked_tokens 테이블(jti)을 주기적으로 Bloom filter로 재구성해 두고, 요청마다 jti를 filter에만 조회한다.
+ * 대부분의 토큰은 Bloom 음성이라 DB 조회/할당 없이 통과하고, 양성(실제 폐기 또는 오탐)일 때만 DB로 확인한다.
+ * - 이 인스턴스에서 폐기한 토큰은 즉시 filter에 추가
+ * - 다른 인스턴스에서 폐기한 토큰은 다음 재구성(rebuild-interval-ms)부터 반영
+ * jti 도입 이전에 발급된 토큰(jti 없음)은 폐기할 수 없으며 만료까지 유효하다.
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+
+    // 이 인스턴스에서 폐기했지만 아직 재구성 시 DB 목록에 포함되지 않은 jti (재구성 중 폐기가 누락되지 않도록)
+    private final Set<String> locallyRevoked = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong bloomNegatives = new AtomicLong();
+    private final AtomicLong bloomPositives = new AtomicLong();
+    private final AtomicLong confirmedRevoked = new AtomicLong();
+    private final AtomicLong rebuilds = new AtomicLong();
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${security.jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        // 확인 조회는 읽기 전용이 아닌 트랜잭션으로 실행해 replica 지연과 무관하게 primary에서 읽음
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = BloomFilter.create(1024, falsePositiveRate);
+    }
+
+    /**
+     * 폐기된 토큰이면 true
+     */
+    public boolean isRevoked(VerifiedToken token) {
+        String jti = token.jti();
+        if (jti == null) {
+            return false;
+        }
+        if (!filter.mightContain(jti)) {
+            bloomNegatives.incrementAndGet();
+            return false;
+        }
+        bloomPositives.incrementAndGet();
+        Boolean revoked = transactionTemplate.execute(status -> revokedTokenRepository.existsById(jti));
+        if (Boolean.TRUE.equals(revoked)) {
+            confirmedRevoked.incrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 토큰 폐기 (로그아웃), 이미 폐기된 토큰이면 무시
+     * @return jti가 없어 폐기할 수 없는 토큰이면 false
+     */
+    public boolean revoke(VerifiedToken token) {
+        if (token.jti() == null) {
+            return false;
+        }
+        RevokedToken revoked = RevokedToken.builder()
+                .jti(token.jti())
+                .userEmail(token.email())
+                .expiresAt(LocalDateTime.ofInstant(Instant.ofEpochSecond(token.exp()), ZONE))
+                .revokedAt(LocalDateTime.now())
+                .build();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!revokedTokenRepository.existsById(revoked.getJti())) {
+                    revokedTokenRepository.save(revoked);
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.debug("이미 폐기된 토큰: {}", token.jti());
+        }
+        locallyRevoked.add(token.jti());
+        filter.add(token.jti());
+        return true;
+    }
+
+    /**
+     * 만료된 폐기 행 정리 후 Bloom filter 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${security.jwt.revocation.rebuild-interval-ms:60000}",
+            fixedDelayString = "${security.jwt.revocation.rebuild-interval-ms:60000}")
+    public void rebuild() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            Integer deleted = transactionTemplate.execute(status -> revokedTokenRepository.deleteExpired(now));
+            List<String> active = transactionTemplate.execute(status -> revokedTokenRepository.findActiveJtis(now));
+
+            BloomFilter next = BloomFilter.create(Math.max(1024, active.size() * 2), falsePositiveRate);
+            active.forEach(next::add);
+            filter = next;
+            // DB 조회 이후 교체 전까지 폐기된 jti는 이전 filter에만 들어갔을 수 있으므로 새 filter에도 추가
+            locallyRevoked.forEach(next::add);
+            active.forEach(locallyRevoked::remove);
+            rebuilds.incrementAndGet();
+            if (deleted != null && deleted > 0) {
+                log.info("Revoked token filter rebuilt: {} active, {} expired rows removed", active.size(), deleted);
+            }
+        } catch (Exception e) {
+            log.warn("폐기 토큰 filter 재구성 실패 (기존 filter 유지): {}", e.getMessage());
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        BloomFilter current = filter;
+        long negatives = bloomNegatives.get();
+        long positives = bloomPositives.get();
+        long confirmed = confirmedRevoked.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("filterEntries", current.getInsertions());
+        stats.put("filterBits", current.getBitCount());
+        stats.put("filterHashes", current.getHashCount());
+        stats.put("targetFalsePositiveRate", falsePositiveRate);
+        stats.put("bloomNegatives", negatives);
+        stats.put("bloomPositives", positives);
+        stats.put("confirmedRevoked", confirmed);
+        stats.put("falsePositives", positives - confirmed);
+        stats.put("rebuilds", rebuilds.get());
+        return stats;
+    }
+}
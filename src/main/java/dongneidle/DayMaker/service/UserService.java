@@ -6,16 +6,24 @@ import dongneidle.DayMaker.DTO.UserRegisterRequest;
 import dongneidle.DayMaker.DTO.UserProfileResponse;
 import dongneidle.DayMaker.entity.User;
 import dongneidle.DayMaker.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import dongneidle.DayMaker.security.LoginAttemptThrottler;
+import jakarta.persistence.EntityManager;
 import lombok.extern.slf4j.Slf4j;
 import dongneidle.DayMaker.util.JwtTokenProvider;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class UserService {
+    private static final String DUPLICATE_EMAIL_MESSAGE = "이미 존재하는 이메일입니다.";
+
     /*
      * 회원가입 처리
      * - 필수 입력값 체크(email, password, nickname)
@@ -27,12 +35,33 @@ public class UserService {
         -비밀번호 : 8자 이상 20자 미만이며 대소문자, 숫자, 특수문자를 각각 1개 이상 포함할것
      */
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;// Bean 주입
+    private final PasswordHashingService passwordHashingService;// BCrypt는 전용 풀에서 실행
+    private final LoginAttemptThrottler loginAttemptThrottler;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final AsyncTaskExecutor authExecutor;// 해시 이후 DB 저장/토큰 발급은 pwhash- 풀 밖에서 실행
+
+    public UserService(UserRepository userRepository,
+                       PasswordHashingService passwordHashingService,
+                       LoginAttemptThrottler loginAttemptThrottler,
+                       JwtTokenProvider jwtTokenProvider,
+                       PlatformTransactionManager transactionManager,
+                       EntityManager entityManager,
+                       @Qualifier("authExecutor") AsyncTaskExecutor authExecutor) {
+        this.userRepository = userRepository;
+        this.passwordHashingService = passwordHashingService;
+        this.loginAttemptThrottler = loginAttemptThrottler;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManager = entityManager;
+        this.authExecutor = authExecutor;
+    }
 
-    // 회원가입
-    public String register(UserRegisterRequest request) {
+    // 회원가입 (시도 제한/해시 대기열 포화 시 AuthThrottledException)
+    public CompletableFuture<String> register(UserRegisterRequest request, String clientIp) {
         log.info("회원가입 시작: email={}", request.getEmail());
+        loginAttemptThrottler.acquire(null, clientIp);
         
         String normalizedEmail = normalizeEmail(request.getEmail());
         String rawPassword = request.getPassword();
@@ -43,59 +72,72 @@ public class UserService {
         // 이메일 형식 체크
         if (!isValidEmail(normalizedEmail)) {
             log.warn("이메일 형식 오류: {}", normalizedEmail);
-            return "이메일 형식이 올바르지 않습니다.";
+            return CompletableFuture.completedFuture("이메일 형식이 올바르지 않습니다.");
         }
 
         // 비밀번호 형식 체크
         if (!isValidPassword(rawPassword)) {
             log.warn("비밀번호 형식 오류");
-            return "비밀번호: 8자 이상 20자 미만이며 대소문자, 숫자, 특수문자를 각각 1개 이상 포함해야 합니다.";
+            return CompletableFuture.completedFuture("비밀번호: 8자 이상 20자 미만이며 대소문자, 숫자, 특수문자를 각각 1개 이상 포함해야 합니다.");
         }
 
         // 닉네임 길이 체크 (영한문 상관없이 3~10자)
         if (!isValidNickname(trimmedNickname)) {
             log.warn("닉네임 길이 오류: {}", trimmedNickname);
-            return "닉네임: 3자 이상, 10자 미만이어야 합니다.";
+            return CompletableFuture.completedFuture("닉네임: 3자 이상, 10자 미만이어야 합니다.");
         }
 
-        // 이메일 중복 체크
+        // 이메일 중복 체크 (해시 비용을 아끼기 위한 사전 확인, 최종 판정은 insert 시 PK 충돌)
         if (userRepository.existsById(normalizedEmail)) {
             log.warn("이미 존재하는 이메일: {}", normalizedEmail);
-            return "이미 존재하는 이메일입니다.";
+            return CompletableFuture.completedFuture(DUPLICATE_EMAIL_MESSAGE);
         }
 
-        try {
+        return passwordHashingService.encode(rawPassword).thenApplyAsync(encodedPassword -> {
             User user = User.builder()
                     .email(normalizedEmail)
-                    .password(passwordEncoder.encode(rawPassword))
+                    .password(encodedPassword)
                     .nickname(trimmedNickname)
                     .build();
-
-            userRepository.save(user);
+            try {
+                // save()는 같은 id가 있으면 merge로 기존 비밀번호를 덮어쓰므로 persist(insert만)
+                transactionTemplate.executeWithoutResult(status -> entityManager.persist(user));
+            } catch (DataIntegrityViolationException e) {
+                // 사전 확인 이후 같은 이메일이 먼저 가입된 경우
+                log.warn("이미 존재하는 이메일(동시 가입): {}", normalizedEmail);
+                return DUPLICATE_EMAIL_MESSAGE;
+            } catch (Exception e) {
+                log.error("회원가입 저장 중 오류 발생", e);
+                throw e;
+            }
             log.info("회원가입 완료: {}", normalizedEmail);
             return "회원가입 완료";
-        } catch (Exception e) {
-            log.error("회원가입 저장 중 오류 발생", e);
-            throw e;
-        }
+        }, authExecutor);
     }
 
-    // 로그인
-    public AuthResponse login(UserLoginRequest request) {
+    // 로그인 (시도 제한/해시 대기열 포화 시 AuthThrottledException)
+    public CompletableFuture<AuthResponse> login(UserLoginRequest request, String clientIp) {
         String normalizedEmail = normalizeEmail(request.getEmail());
         String rawPassword = request.getPassword();
 
         if (normalizedEmail == null || normalizedEmail.isBlank() || rawPassword == null || rawPassword.isBlank()) {
-            return AuthResponse.builder().success(false).message("이메일 또는 비밀번호가 올바르지 않습니다.").build();
+            return CompletableFuture.completedFuture(loginFailed());
         }
+        loginAttemptThrottler.acquire(normalizedEmail, clientIp);
 
         User user = userRepository.findById(normalizedEmail).orElse(null);
         if (user == null) {
-            return AuthResponse.builder().success(false).message("이메일 또는 비밀번호가 올바르지 않습니다.").build();
-        }
-        if (!passwordEncoder.matches(rawPassword, user.getPassword())) {
-            return AuthResponse.builder().success(false).message("이메일 또는 비밀번호가 올바르지 않습니다.").build();
+            return CompletableFuture.completedFuture(loginFailed());
         }
+        return passwordHashingService.matches(rawPassword, user.getPassword())
+                .thenApplyAsync(matched -> matched ? loginSucceeded(user) : loginFailed(), authExecutor);
+    }
+
+    private AuthResponse loginFailed() {
+        return AuthResponse.builder().success(false).message("이메일 또는 비밀번호가 올바르지 않습니다.").build();
+    }
+
+    private AuthResponse loginSucceeded(User user) {
         String token = jwtTokenProvider.createToken(user.getEmail());
         return AuthResponse.builder()
                 .success(true)
@@ -0,0 +1,95 @@
+package dongneidle.DayMaker.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고정 버킷 히스토그램 (락 없이 기록, 스냅샷 시 근사 백분위 계산)
+ * 버킷 경계는 상한값(이하 포함) 기준이며, 마지막 버킷 이후 값은 overflow 버킷에 기록
+ */
+public class BucketHistogram {
+
+    private final long[] upperBounds;
+    private final LongAdder[] buckets;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    public BucketHistogram(long... upperBounds) {
+        this.upperBounds = upperBounds.clone();
+        this.buckets = new LongAdder[upperBounds.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 지연 시간(ms)용 기본 버킷: 10ms ~ 60s
+     */
+    public static BucketHistogram forMillis() {
+        return new BucketHistogram(10, 25, 50, 100, 250, 500, 1000, 2000, 3000, 5000, 10000, 30000, 60000);
+    }
+
+    /**
+     * 토큰 수용 기본 버킷: 16 ~ 8192
+     */
+    public static BucketHistogram forTokens() {
+        return new BucketHistogram(16, 32, 64, 128, 256, 512, 1024, 2048, 4096, 8192);
+    }
+
+    public void record(long value) {
+        int i = 0;
+        while (i < upperBounds.length && value > upperBounds[i]) {
+            i++;
+        }
+        buckets[i].increment();
+        count.increment();
+        sum.add(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * 근사 백분위 (해당 백분위가 속한 버킷의 상한값)
+     */
+    public long percentile(double p) {
+        long total = count.sum();
+        if (total == 0) return 0;
+        long rank = (long) Math.ceil(total * p);
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i].sum();
+            if (seen >= rank) {
+                return i < upperBounds.length ? upperBounds[i] : max.get();
+            }
+        }
+        return max.get();
+    }
+
+    public Map<String, Object> snapshot() {
+        long total = count.sum();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("count", total);
+        result.put("avg", total == 0 ? 0 : sum.sum() / total);
+        result.put("p50", percentile(0.50));
+        result.put("p90", percentile(0.90));
+        result.put("p99", percentile(0.99));
+        result.put("max", max.get());
+        Map<String, Long> bucketCounts = new LinkedHashMap<>();
+        for (int i = 0; i < buckets.length; i++) {
+            String label = i < upperBounds.length ? "le_" + upperBounds[i] : "inf";
+            bucketCounts.put(label, buckets[i].sum());
+        }
+        result.put("buckets", bucketCounts);
+        return result;
+    }
+}
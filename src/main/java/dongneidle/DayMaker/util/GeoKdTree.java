@@ -0,0 +1,125 @@
+package dongneidle.DayMaker.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 위경도 좌표용 불변 2차원 k-d 트리
+ *
+ * 기준 위도에서의 등거리 원통 투영(x = 경도·cos(기준위도), y = 위도)으로 축을 나누고,
+ * 최근접 k개 탐색 후 실제 거리는 하버사인으로 계산한다. (시·도 규모 범위에서는 순서 오차 없음)
+ */
+public class GeoKdTree<T> {
+
+    private final Node<T> root;
+    private final double cosRefLat;
+    private final int size;
+
+    private GeoKdTree(Node<T> root, double cosRefLat, int size) {
+        this.root = root;
+        this.cosRefLat = cosRefLat;
+        this.size = size;
+    }
+
+    public static <T> GeoKdTree<T> build(List<T> items, ToDoubleFunction<T> latitude, ToDoubleFunction<T> longitude) {
+        double refLat = items.stream().mapToDouble(latitude).average().orElse(0.0);
+        double cosRefLat = Math.cos(Math.toRadians(refLat));
+        List<Node<T>> nodes = new ArrayList<>(items.size());
+        for (T item : items) {
+            double lat = latitude.applyAsDouble(item);
+            double lng = longitude.applyAsDouble(item);
+            nodes.add(new Node<>(item, lat, lng, lng * cosRefLat, lat));
+        }
+        return new GeoKdTree<>(buildNode(nodes, 0, nodes.size(), 0), cosRefLat, nodes.size());
+    }
+
+    private static <T> Node<T> buildNode(List<Node<T>> nodes, int from, int to, int depth) {
+        if (from >= to) return null;
+        int axis = depth % 2;
+        nodes.subList(from, to).sort(Comparator.comparingDouble(n -> n.coord(axis)));
+        int mid = (from + to) >>> 1;
+        Node<T> node = nodes.get(mid);
+        node.axis = axis;
+        node.left = buildNode(nodes, from, mid, depth + 1);
+        node.right = buildNode(nodes, mid + 1, to, depth + 1);
+        return node;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 가까운 순으로 최대 k개 반환
+     */
+    public List<Neighbor<T>> nearest(double latitude, double longitude, int k) {
+        if (root == null || k <= 0) return List.of();
+        double qx = longitude * cosRefLat;
+        double qy = latitude;
+        // 최대 힙: 현재까지 찾은 k개 중 가장 먼 후보가 맨 앞
+        PriorityQueue<Candidate<T>> best = new PriorityQueue<>(k, (a, b) -> Double.compare(b.dist2, a.dist2));
+        search(root, qx, qy, k, best);
+
+        List<Candidate<T>> sorted = new ArrayList<>(best);
+        sorted.sort(Comparator.comparingDouble(c -> c.dist2));
+        List<Neighbor<T>> result = new ArrayList<>(sorted.size());
+        for (Candidate<T> c : sorted) {
+            double km = DistanceCalculator.calculateDistance(latitude, longitude, c.node.lat, c.node.lng);
+            result.add(new Neighbor<>(c.node.item, km));
+        }
+        return result;
+    }
+
+    private void search(Node<T> node, double qx, double qy, int k, PriorityQueue<Candidate<T>> best) {
+        if (node == null) return;
+        double dx = node.x - qx;
+        double dy = node.y - qy;
+        double dist2 = dx * dx + dy * dy;
+        if (best.size() < k) {
+            best.add(new Candidate<>(node, dist2));
+        } else if (dist2 < best.peek().dist2) {
+            best.poll();
+            best.add(new Candidate<>(node, dist2));
+        }
+        double diff = (node.axis == 0 ? qx : qy) - node.coord(node.axis);
+        Node<T> near = diff < 0 ? node.left : node.right;
+        Node<T> far = diff < 0 ? node.right : node.left;
+        search(near, qx, qy, k, best);
+        // 분할면까지의 거리가 현재 k번째 후보보다 가까울 때만 반대편 탐색
+        if (best.size() < k || diff * diff < best.peek().dist2) {
+            search(far, qx, qy, k, best);
+        }
+    }
+
+    public record Neighbor<T>(T item, double distanceKm) {
+    }
+
+    private record Candidate<T>(Node<T> node, double dist2) {
+    }
+
+    private static final class Node<T> {
+        private final T item;
+        private final double lat;
+        private final double lng;
+        private final double x;
+        private final double y;
+        private int axis;
+        private Node<T> left;
+        private Node<T> right;
+
+        private Node(T item, double lat, double lng, double x, double y) {
+            this.item = item;
+            this.lat = lat;
+            this.lng = lng;
+            this.x = x;
+            this.y = y;
+        }
+
+        private double coord(int axis) {
+            return axis == 0 ? x : y;
+        }
+    }
+}
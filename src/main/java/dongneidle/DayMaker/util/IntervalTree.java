@@ -0,0 +1,80 @@
+package dongneidle.DayMaker.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * 불변 구간 트리 (닫힌 구간 [start, end], long 좌표)
+ *
+ * 시작값 기준으로 정렬한 배열을 암묵적 균형 이진 트리로 보고,
+ * 각 서브트리의 최대 종료값을 저장해 겹치지 않는 서브트리는 건너뛴다.
+ * 겹침 질의는 O(log n + 결과 수)
+ */
+public class IntervalTree<T> {
+
+    private final List<T> items;
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnd; // [lo, hi) 범위의 중간 인덱스에 해당 서브트리 최대 종료값
+
+    private IntervalTree(List<T> items, long[] starts, long[] ends) {
+        this.items = items;
+        this.starts = starts;
+        this.ends = ends;
+        this.maxEnd = new long[items.size()];
+        computeMaxEnd(0, items.size());
+    }
+
+    public static <T> IntervalTree<T> build(List<T> source, ToLongFunction<T> start, ToLongFunction<T> end) {
+        List<T> sorted = new ArrayList<>(source);
+        sorted.sort(Comparator.comparingLong(start));
+        long[] starts = new long[sorted.size()];
+        long[] ends = new long[sorted.size()];
+        for (int i = 0; i < sorted.size(); i++) {
+            starts[i] = start.applyAsLong(sorted.get(i));
+            ends[i] = end.applyAsLong(sorted.get(i));
+        }
+        return new IntervalTree<>(List.copyOf(sorted), starts, ends);
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * [from, to]와 겹치는 구간의 항목을 result에 추가
+     */
+    public void findOverlapping(long from, long to, List<T> result) {
+        search(0, items.size(), from, to, result);
+    }
+
+    public List<T> findOverlapping(long from, long to) {
+        List<T> result = new ArrayList<>();
+        findOverlapping(from, to, result);
+        return result;
+    }
+
+    private long computeMaxEnd(int lo, int hi) {
+        if (lo >= hi) return Long.MIN_VALUE;
+        int mid = (lo + hi) >>> 1;
+        long max = Math.max(ends[mid], Math.max(computeMaxEnd(lo, mid), computeMaxEnd(mid + 1, hi)));
+        maxEnd[mid] = max;
+        return max;
+    }
+
+    private void search(int lo, int hi, long from, long to, List<T> result) {
+        if (lo >= hi) return;
+        int mid = (lo + hi) >>> 1;
+        // 이 서브트리의 모든 구간이 질의 시작 전에 끝남
+        if (maxEnd[mid] < from) return;
+        search(lo, mid, from, to, result);
+        // 시작값 정렬이므로 mid가 질의 끝 이후에 시작하면 오른쪽도 모두 제외
+        if (starts[mid] > to) return;
+        if (ends[mid] >= from) {
+            result.add(items.get(mid));
+        }
+        search(mid + 1, hi, from, to, result);
+    }
+}
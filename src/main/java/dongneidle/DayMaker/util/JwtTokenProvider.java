@@ -2,30 +2,87 @@ package dongneidle.DayMaker.util;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * HS256 JWT 발급/검증
+ *
+ * 검증은 인증이 필요한 모든 요청에서 호출되므로 요청당 할당을 최소화한다.
+ * - 초기화된 Mac과 작업 버퍼를 작은 풀에서 빌려 재사용 (split/Base64 문자열 생성 없음)
+ *   가상 스레드는 요청마다 새로 만들어지므로 ThreadLocal로는 재사용되지 않음
+ * - 서명은 디코딩한 raw 바이트끼리 상수 시간 비교
+ * - payload는 sub/exp/jti만 읽는 최소 파서 (중첩/escape 등 예외적인 형태만 Jackson으로 fallback)
+ * - 검증된 토큰은 만료 시각까지 캐시 (hit/miss는 cache.gets{cache=jwt.verified} 지표로도 노출)
+ */
 @Component
-public class JwtTokenProvider {
+public class JwtTokenProvider implements MeterBinder {
 
-	@Value("${security.jwt.secret:change-me-secret}")
-	private String secret;
+	private static final String ALGORITHM = "HmacSHA256";
+	private static final int SIGNATURE_LENGTH = 32;
+	private static final int MAX_TOKEN_LENGTH = 4096;
+	private static final long PURGE_MIN_INTERVAL_MS = 1000;
 
-	@Value("${security.jwt.issuer:daymaker}")
-	private String issuer;
+	private final String issuer;
+	private final long expirationSeconds;
+	private final SecretKeySpec secretKey;
+	private final int verifiedCacheMaxEntries;
 
-	@Value("${security.jwt.expiration-seconds:86400}")
-	private long expirationSeconds;
+	// 공용 ObjectMapper에서 만든 reader/writer 재사용 (Map 타입 조회를 호출마다 하지 않음)
+	private final ObjectWriter claimsWriter;
+	private final ObjectReader claimsReader;
 
-	private final ObjectMapper objectMapper = new ObjectMapper();
+	// 검증은 CPU 작업이라 동시에 쓰는 상태 수는 코어 수 정도. 비어 있으면 새로 만들고, 가득 차면 반납 시 버림
+	private final ArrayBlockingQueue<VerifierState> verifierStates =
+			new ArrayBlockingQueue<>(Math.max(2, Runtime.getRuntime().availableProcessors() * 2));
+
+	// 서명까지 검증된 토큰 -> (email, exp, jti). 토큰 문자열 전체가 키이므로 서명이 다르면 hit 되지 않음
+	private final ConcurrentHashMap<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+
+	// 캐시가 가득 찬 상태의 miss에서 만료 정리(O(n))를 최대 PURGE_MIN_INTERVAL_MS마다 한 번만 실행
+	private final AtomicLong lastPurgeMillis = new AtomicLong();
+
+	private final AtomicLong cacheHits = new AtomicLong();
+	private final AtomicLong cacheMisses = new AtomicLong();
+	private final AtomicLong rejected = new AtomicLong();
+	private final AtomicLong fallbackParses = new AtomicLong();
+
+	public JwtTokenProvider(
+			@Value("${security.jwt.secret:change-me-secret}") String secret,
+			@Value("${security.jwt.issuer:daymaker}") String issuer,
+			@Value("${security.jwt.expiration-seconds:86400}") long expirationSeconds,
+			@Value("${security.jwt.verified-cache.max-entries:10000}") int verifiedCacheMaxEntries,
+			ObjectMapper objectMapper) {
+		this.issuer = issuer;
+		this.expirationSeconds = expirationSeconds;
+		this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+		this.verifiedCacheMaxEntries = Math.max(0, verifiedCacheMaxEntries);
+		this.claimsWriter = objectMapper.writerFor(Map.class);
+		this.claimsReader = objectMapper.readerFor(Map.class);
+	}
 
 	public String createToken(String userEmail) {
 		try {
@@ -39,52 +96,191 @@ public class JwtTokenProvider {
 			payload.put("sub", userEmail);
 			payload.put("iat", now);
 			payload.put("exp", now + expirationSeconds);
+			payload.put("jti", UUID.randomUUID().toString()); // 폐기(로그아웃) 식별자
 
-			String headerJson = objectMapper.writeValueAsString(header);
-			String payloadJson = objectMapper.writeValueAsString(payload);
-
-			String headerB64 = base64UrlEncode(headerJson.getBytes(StandardCharsets.UTF_8));
-			String payloadB64 = base64UrlEncode(payloadJson.getBytes(StandardCharsets.UTF_8));
+			String headerB64 = base64UrlEncode(claimsWriter.writeValueAsBytes(header));
+			String payloadB64 = base64UrlEncode(claimsWriter.writeValueAsBytes(payload));
 			String unsigned = headerB64 + "." + payloadB64;
-			String signature = sign(unsigned, secret);
+			String signature = sign(unsigned);
 			return unsigned + "." + signature;
 		} catch (JsonProcessingException e) {
 			throw new RuntimeException("토큰 생성 실패", e);
 		}
 	}
 
+	/**
+	 * 서명/만료 검증 후 sub(이메일) 반환, 유효하지 않으면 null (폐기 여부는 보지 않음)
+	 */
 	public String validateAndGetEmail(String token) {
+		VerifiedToken verified = verify(token);
+		return verified != null ? verified.email() : null;
+	}
+
+	/**
+	 * 서명/만료 검증 결과 (email, exp, jti), 유효하지 않으면 null
+	 * 캐시 hit 시에는 캐시된 인스턴스를 그대로 반환 (할당 없음). 폐기 여부는 TokenRevocationService에서 확인
+	 */
+	public VerifiedToken verify(String token) {
+		if (token == null) return null;
+		long now = System.currentTimeMillis() / 1000;
+
+		VerifiedToken cached = verifiedTokens.get(token);
+		if (cached != null) {
+			if (cached.exp() >= now) {
+				cacheHits.incrementAndGet();
+				return cached;
+			}
+			verifiedTokens.remove(token, cached);
+			rejected.incrementAndGet();
+			return null;
+		}
+		cacheMisses.incrementAndGet();
+
+		VerifiedToken verified;
+		VerifierState state = acquireState();
+		try {
+			if (!verifySignature(token, state) || state.exp < now || state.sub == null) {
+				rejected.incrementAndGet();
+				return null;
+			}
+			verified = new VerifiedToken(state.sub, state.exp, state.jti);
+		} finally {
+			verifierStates.offer(state);
+		}
+		remember(token, verified);
+		return verified;
+	}
+
+	/**
+	 * 검증 캐시 통계
+	 */
+	public Map<String, Object> getStats() {
+		long hits = cacheHits.get();
+		long misses = cacheMisses.get();
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("cachedTokens", verifiedTokens.size());
+		stats.put("maxCachedTokens", verifiedCacheMaxEntries);
+		stats.put("cacheHits", hits);
+		stats.put("cacheMisses", misses);
+		stats.put("hitRatio", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+		stats.put("rejected", rejected.get());
+		stats.put("fallbackParses", fallbackParses.get());
+		return stats;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder("cache.gets", cacheHits, AtomicLong::get)
+				.description("검증 캐시 조회").tags("cache", "jwt.verified", "result", "hit").register(registry);
+		FunctionCounter.builder("cache.gets", cacheMisses, AtomicLong::get)
+				.description("검증 캐시 조회").tags("cache", "jwt.verified", "result", "miss").register(registry);
+		Gauge.builder("cache.size", verifiedTokens, Map::size)
+				.description("검증 캐시 크기").tag("cache", "jwt.verified").register(registry);
+	}
+
+	/**
+	 * 만료된 토큰을 검증 캐시에서 제거
+	 */
+	@Scheduled(fixedDelayString = "${security.jwt.verified-cache.purge-interval-ms:60000}")
+	public void purgeExpired() {
+		long nowMillis = System.currentTimeMillis();
+		lastPurgeMillis.set(nowMillis);
+		long now = nowMillis / 1000;
+		verifiedTokens.values().removeIf(v -> v.exp() < now);
+	}
+
+	private void remember(String token, VerifiedToken verified) {
+		if (verifiedCacheMaxEntries == 0) return;
+		if (verifiedTokens.size() >= verifiedCacheMaxEntries) {
+			// 가득 찬 동안 miss마다 전체를 훑지 않도록, 직전 정리 후 일정 시간이 지났을 때 한 스레드만 정리
+			long nowMillis = System.currentTimeMillis();
+			long last = lastPurgeMillis.get();
+			if (nowMillis - last >= PURGE_MIN_INTERVAL_MS && lastPurgeMillis.compareAndSet(last, nowMillis)) {
+				purgeExpired();
+			}
+			// 만료 정리 후에도 가득 차 있으면 캐시하지 않음 (다음 요청도 검증 경로로 처리)
+			if (verifiedTokens.size() >= verifiedCacheMaxEntries) return;
+		}
+		verifiedTokens.put(token, verified);
+	}
+
+	/**
+	 * 서명 검증 후 state.sub/state.exp/state.jti 채움
+	 */
+	private boolean verifySignature(String token, VerifierState state) {
+		int length = token.length();
+		if (length > MAX_TOKEN_LENGTH) return false;
+		int firstDot = token.indexOf('.');
+		if (firstDot <= 0) return false;
+		int secondDot = token.indexOf('.', firstDot + 1);
+		if (secondDot <= firstDot + 1 || token.indexOf('.', secondDot + 1) >= 0) return false;
+
+		// header.payload 를 ASCII 그대로 버퍼에 복사해 서명 계산
+		byte[] buffer = state.buffer(secondDot);
+		for (int i = 0; i < secondDot; i++) {
+			char c = token.charAt(i);
+			if (c > 0x7F) return false;
+			buffer[i] = (byte) c;
+		}
+		Mac mac = state.mac;
+		try {
+			mac.update(buffer, 0, secondDot);
+			mac.doFinal(state.expected, 0);
+		} catch (GeneralSecurityException e) {
+			mac.reset();
+			return false;
+		}
+
+		if (decodeBase64Url(token, secondDot + 1, length, state.signature) != SIGNATURE_LENGTH) return false;
+		if (!MessageDigest.isEqual(state.expected, state.signature)) return false;
+
+		// 서명이 맞는 경우에만 payload 디코딩
+		int payloadLength = decodeBase64Url(token, firstDot + 1, secondDot, state.buffer((secondDot - firstDot) * 3 / 4 + 3));
+		if (payloadLength < 0) return false;
+		return readClaims(state, payloadLength);
+	}
+
+	private boolean readClaims(VerifierState state, int payloadLength) {
+		state.sub = null;
+		state.exp = 0L;
+		state.jti = null;
+		int result = ClaimsScanner.scan(state.buffer, payloadLength, state);
+		if (result == ClaimsScanner.OK) return true;
+		if (result == ClaimsScanner.INVALID) return false;
+
+		// 최소 파서가 다루지 않는 형태(escape, 중첩 값, 실수 exp 등)는 Jackson으로 처리
+		fallbackParses.incrementAndGet();
 		try {
-			String[] parts = token.split("\\.");
-			if (parts.length != 3) return null;
-			String unsigned = parts[0] + "." + parts[1];
-			String expectedSig = sign(unsigned, secret);
-			if (!constantTimeEquals(expectedSig, parts[2])) return null;
-
-			String payloadJson = new String(base64UrlDecode(parts[1]), StandardCharsets.UTF_8);
-			@SuppressWarnings("unchecked")
-			Map<String, Object> payload = objectMapper.readValue(payloadJson, Map.class);
-			// exp 검증
+			Map<String, Object> payload = claimsReader.readValue(state.buffer, 0, payloadLength);
 			Object expObj = payload.get("exp");
-			long now = Instant.now().getEpochSecond();
-			long exp = (expObj instanceof Number) ? ((Number) expObj).longValue() : 0L;
-			if (exp < now) return null;
-			// sub 반환
+			state.exp = (expObj instanceof Number) ? ((Number) expObj).longValue() : 0L;
 			Object sub = payload.get("sub");
-			return sub != null ? sub.toString() : null;
+			state.sub = sub != null ? sub.toString() : null;
+			Object jti = payload.get("jti");
+			state.jti = jti != null ? jti.toString() : null;
+			return true;
 		} catch (Exception e) {
-			return null;
+			return false;
 		}
 	}
 
-	private String sign(String data, String secret) {
+	private VerifierState acquireState() {
+		VerifierState state = verifierStates.poll();
+		return state != null ? state : new VerifierState(newMac());
+	}
+
+	private String sign(String data) {
+		byte[] raw = newMac().doFinal(data.getBytes(StandardCharsets.UTF_8));
+		return base64UrlEncode(raw);
+	}
+
+	private Mac newMac() {
 		try {
-			Mac mac = Mac.getInstance("HmacSHA256");
-			mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
-			byte[] raw = mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
-			return base64UrlEncode(raw);
-		} catch (Exception e) {
-			throw new RuntimeException("토큰 서명 실패", e);
+			Mac mac = Mac.getInstance(ALGORITHM);
+			mac.init(secretKey);
+			return mac;
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("토큰 서명 초기화 실패", e);
 		}
 	}
 
@@ -92,18 +288,185 @@ public class JwtTokenProvider {
 		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
 	}
 
-	private static byte[] base64UrlDecode(String str) {
-		return Base64.getUrlDecoder().decode(str);
+	private static final byte[] BASE64_URL_VALUES = new byte[128];
+
+	static {
+		Arrays.fill(BASE64_URL_VALUES, (byte) -1);
+		String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+		for (int i = 0; i < alphabet.length(); i++) {
+			BASE64_URL_VALUES[alphabet.charAt(i)] = (byte) i;
+		}
 	}
 
-	private static boolean constantTimeEquals(String a, String b) {
-		if (a == null || b == null || a.length() != b.length()) return false;
-		int result = 0;
-		for (int i = 0; i < a.length(); i++) {
-			result |= a.charAt(i) ^ b.charAt(i);
+	/**
+	 * padding 없는 base64url 디코딩 (문자열 생성 없이 out에 기록)
+	 * @return 디코딩된 바이트 수, 형식 오류이거나 out이 부족하면 -1
+	 */
+	private static int decodeBase64Url(String s, int from, int to, byte[] out) {
+		int chars = to - from;
+		if (chars % 4 == 1) return -1;
+		int decodedLength = chars / 4 * 3 + Math.max(0, chars % 4 - 1);
+		if (decodedLength > out.length) return -1;
+
+		int bits = 0;
+		int bitCount = 0;
+		int pos = 0;
+		for (int i = from; i < to; i++) {
+			char c = s.charAt(i);
+			int v = c < 128 ? BASE64_URL_VALUES[c] : -1;
+			if (v < 0) return -1;
+			bits = (bits << 6) | v;
+			bitCount += 6;
+			if (bitCount >= 8) {
+				bitCount -= 8;
+				out[pos++] = (byte) (bits >> bitCount);
+			}
 		}
-		return result == 0;
+		return pos;
 	}
-}
 
+	/**
+	 * 검증된 토큰 정보 (jti는 jti 도입 이전에 발급된 토큰이면 null)
+	 */
+	public record VerifiedToken(String email, long exp, String jti) {
+	}
+
+	/**
+	 * 검증 작업 공간 (한 번에 한 스레드만 사용, 사용 후 풀에 반납)
+	 */
+	private static final class VerifierState {
+		private final Mac mac;
+		private final byte[] expected = new byte[SIGNATURE_LENGTH];
+		private final byte[] signature = new byte[SIGNATURE_LENGTH];
+		private byte[] buffer = new byte[512];
+
+		// 마지막 검증 결과
+		private String sub;
+		private long exp;
+		private String jti;
+
+		private VerifierState(Mac mac) {
+			this.mac = mac;
+		}
 
+		private byte[] buffer(int required) {
+			if (buffer.length < required) {
+				buffer = new byte[Math.max(required, buffer.length * 2)];
+			}
+			return buffer;
+		}
+	}
+
+	/**
+	 * 최상위 JSON 객체에서 sub(문자열)/exp(정수)/jti(문자열)만 읽는 최소 파서
+	 */
+	private static final class ClaimsScanner {
+		static final int OK = 0;
+		static final int INVALID = 1;
+		static final int FALLBACK = 2;
+
+		private static final int KEY_OTHER = 0;
+		private static final int KEY_SUB = 1;
+		private static final int KEY_EXP = 2;
+		private static final int KEY_JTI = 3;
+
+		static int scan(byte[] b, int len, VerifierState state) {
+			int i = skipWs(b, 0, len);
+			if (i >= len || b[i] != '{') return INVALID;
+			i = skipWs(b, i + 1, len);
+			if (i < len && b[i] == '}') return OK;
+
+			while (i < len) {
+				// key
+				if (b[i] != '"') return INVALID;
+				int keyStart = i + 1;
+				int keyEnd = keyStart;
+				while (keyEnd < len && b[keyEnd] != '"') {
+					if (b[keyEnd] == '\\') return FALLBACK;
+					keyEnd++;
+				}
+				if (keyEnd >= len) return INVALID;
+				int key = keyOf(b, keyStart, keyEnd - keyStart);
+
+				i = skipWs(b, keyEnd + 1, len);
+				if (i >= len || b[i] != ':') return INVALID;
+				i = skipWs(b, i + 1, len);
+				if (i >= len) return INVALID;
+
+				// value
+				byte c = b[i];
+				if (c == '"') {
+					int valueStart = i + 1;
+					int valueEnd = valueStart;
+					while (valueEnd < len && b[valueEnd] != '"') {
+						if (b[valueEnd] == '\\') {
+							if (key == KEY_SUB || key == KEY_JTI) return FALLBACK;
+							valueEnd++;
+						}
+						valueEnd++;
+					}
+					if (valueEnd >= len) return INVALID;
+					if (key == KEY_SUB) {
+						state.sub = new String(b, valueStart, valueEnd - valueStart, StandardCharsets.UTF_8);
+					} else if (key == KEY_JTI) {
+						state.jti = new String(b, valueStart, valueEnd - valueStart, StandardCharsets.UTF_8);
+					} else if (key == KEY_EXP) {
+						return FALLBACK;
+					}
+					i = valueEnd + 1;
+				} else if (c == '-' || (c >= '0' && c <= '9')) {
+					int start = i;
+					boolean negative = c == '-';
+					if (negative) i++;
+					long value = 0;
+					int digits = 0;
+					while (i < len && b[i] >= '0' && b[i] <= '9') {
+						if (digits++ >= 18) return FALLBACK;
+						value = value * 10 + (b[i] - '0');
+						i++;
+					}
+					if (digits == 0) return INVALID;
+					if (i < len && (b[i] == '.' || b[i] == 'e' || b[i] == 'E')) {
+						if (key != KEY_OTHER) return FALLBACK;
+						i++;
+						while (i < len && ((b[i] >= '0' && b[i] <= '9') || b[i] == '+' || b[i] == '-' || b[i] == 'e' || b[i] == 'E')) i++;
+					}
+					if (key == KEY_EXP) {
+						state.exp = negative ? -value : value;
+					} else if (key == KEY_SUB || key == KEY_JTI) {
+						// 숫자 sub/jti 는 Jackson 경로와 동일하게 문자열로
+						String text = new String(b, start, i - start, StandardCharsets.US_ASCII);
+						if (key == KEY_SUB) state.sub = text;
+						else state.jti = text;
+					}
+				} else if (c == 't' || c == 'f' || c == 'n') {
+					if (key != KEY_OTHER) return FALLBACK;
+					while (i < len && b[i] >= 'a' && b[i] <= 'z') i++;
+				} else {
+					// 중첩 객체/배열
+					return FALLBACK;
+				}
+
+				i = skipWs(b, i, len);
+				if (i >= len) return INVALID;
+				if (b[i] == '}') return OK;
+				if (b[i] != ',') return INVALID;
+				i = skipWs(b, i + 1, len);
+			}
+			return INVALID;
+		}
+
+		private static int keyOf(byte[] b, int start, int length) {
+			if (length != 3) return KEY_OTHER;
+			if (b[start] == 's' && b[start + 1] == 'u' && b[start + 2] == 'b') return KEY_SUB;
+			if (b[start] == 'e' && b[start + 1] == 'x' && b[start + 2] == 'p') return KEY_EXP;
+			if (b[start] == 'j' && b[start + 1] == 't' && b[start + 2] == 'i') return KEY_JTI;
+			return KEY_OTHER;
+		}
+
+		private static int skipWs(byte[] b, int i, int len) {
+			while (i < len && (b[i] == ' ' || b[i] == '\t' || b[i] == '\n' || b[i] == '\r')) i++;
+			return i;
+		}
+	}
+}
@@ -0,0 +1,42 @@
+package dongneidle.DayMaker.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서 (정렬 키 시각 + id)
+ *
+ * "모드|시각|id"를 URL-safe Base64로 감싼 불투명 토큰.
+ * 모드로 목록(created)과 동기화(updated) 커서를 섞어 쓰지 못하게 한다.
+ */
+public record KeysetCursor(char mode, LocalDateTime at, long id) {
+
+    public static final char CREATED = 'c';
+    public static final char UPDATED = 'u';
+
+    public String encode() {
+        String raw = mode + "|" + at + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못되었거나 모드가 다른 커서
+     */
+    public static KeysetCursor decode(String token, char expectedMode) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+        if (parts.length != 3 || !parts[0].equals(String.valueOf(expectedMode))) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+        try {
+            return new KeysetCursor(expectedMode, LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+}
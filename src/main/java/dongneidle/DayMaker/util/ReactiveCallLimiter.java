@@ -0,0 +1,162 @@
+package dongneidle.DayMaker.util;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 리액티브 upstream 호출 동시 실행 한도
+ *
+ * - permit을 얻은 호출만 구독하고, 나머지는 대기열에 보관 (대기 중인 스레드 없음)
+ * - 대기열이 가득 차면 즉시 RejectedExecutionException으로 실패 → 호출부에서 503 등으로 되돌림
+ * - 구독이 취소되면(클라이언트 연결 종료) 대기열에서 빼거나 진행 중인 upstream 호출을 취소하고 permit 반납
+ *
+ * 요청 하나 안의 fan-out은 flatMap concurrency로, 인스턴스 전체의 동시 upstream 호출은 이 한도로 제한한다.
+ * 빈으로 등록되면 daymaker.limiter.*{limiter=name} 지표로도 노출된다.
+ */
+public class ReactiveCallLimiter implements MeterBinder {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final Semaphore permits;
+
+    private final Queue<Waiter> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong started = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong cancelled = new AtomicLong();
+
+    public ReactiveCallLimiter(String name, int maxConcurrent, int maxQueued) {
+        this.name = name;
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.maxQueued = Math.max(0, maxQueued);
+        this.permits = new Semaphore(this.maxConcurrent);
+    }
+
+    /**
+     * source를 한도 안에서 구독하는 Mono (구독 시점에 permit 확보 또는 대기열 등록)
+     */
+    public <T> Mono<T> limit(Mono<T> source) {
+        return Mono.create(sink -> {
+            Waiter waiter = new Waiter();
+            waiter.task = () -> {
+                inFlight.incrementAndGet();
+                started.incrementAndGet();
+                waiter.upstream.update(source
+                        .doFinally(signal -> waiter.release())
+                        .subscribe(sink::success, sink::error, sink::success));
+            };
+            sink.onCancel(() -> {
+                if (waiter.state.compareAndSet(Waiter.QUEUED, Waiter.CANCELLED)) {
+                    if (pending.remove(waiter)) {
+                        queued.decrementAndGet();
+                    }
+                } else {
+                    waiter.upstream.dispose();
+                }
+                cancelled.incrementAndGet();
+            });
+
+            if (permits.tryAcquire()) {
+                if (!waiter.start()) {
+                    permits.release();
+                }
+                return;
+            }
+            if (queued.incrementAndGet() > maxQueued) {
+                queued.decrementAndGet();
+                rejected.incrementAndGet();
+                sink.error(new RejectedExecutionException(name + " call queue is full"));
+                return;
+            }
+            pending.add(waiter);
+            // 대기열에 넣는 사이 반납된 permit이 있을 수 있으므로 한 번 더 확인
+            drain();
+        });
+    }
+
+    /**
+     * 한도/대기열 통계
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("maxConcurrent", maxConcurrent);
+        stats.put("maxQueued", maxQueued);
+        stats.put("inFlight", inFlight.get());
+        stats.put("queued", queued.get());
+        stats.put("started", started.get());
+        stats.put("rejected", rejected.get());
+        stats.put("cancelled", cancelled.get());
+        return stats;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("daymaker.limiter.active", inFlight, AtomicInteger::get)
+                .description("처리 중인 호출 수").tag("limiter", name).register(registry);
+        Gauge.builder("daymaker.limiter.queued", queued, AtomicInteger::get)
+                .description("대기열에 있는 호출 수").tag("limiter", name).register(registry);
+        FunctionCounter.builder("daymaker.limiter.rejected", rejected, AtomicLong::get)
+                .description("대기열이 가득 차 거절된 호출 수").tag("limiter", name).register(registry);
+    }
+
+    private void drain() {
+        while (!pending.isEmpty() && permits.tryAcquire()) {
+            Waiter next = pending.poll();
+            if (next == null) {
+                permits.release();
+                return;
+            }
+            queued.decrementAndGet();
+            if (!next.start()) {
+                // 대기 중 취소된 호출
+                permits.release();
+            }
+        }
+    }
+
+    private final class Waiter {
+        static final int QUEUED = 0;
+        static final int STARTED = 1;
+        static final int CANCELLED = 2;
+
+        final AtomicInteger state = new AtomicInteger(QUEUED);
+        final AtomicBoolean released = new AtomicBoolean();
+        final Disposable.Swap upstream = Disposables.swap();
+        Runnable task;
+
+        // permit을 이미 확보한 상태에서 호출
+        boolean start() {
+            if (!state.compareAndSet(QUEUED, STARTED)) {
+                return false;
+            }
+            task.run();
+            return true;
+        }
+
+        // 완료/실패/취소 중 처음 한 번만 permit 반납
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                inFlight.decrementAndGet();
+                permits.release();
+                drain();
+            }
+        }
+    }
+}
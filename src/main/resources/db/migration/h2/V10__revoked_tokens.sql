@@ -0,0 +1,11 @@
+-- JWT 폐기 목록 (로그아웃/강제 폐기), 만료 지난 행은 주기적으로 삭제
+
+CREATE TABLE revoked_tokens (
+    jti        VARCHAR(36)  NOT NULL,
+    user_email VARCHAR(255) NOT NULL,
+    expires_at TIMESTAMP(6) NOT NULL,
+    revoked_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (jti)
+);
+
+CREATE INDEX idx_revoked_tokens_expires ON revoked_tokens (expires_at);
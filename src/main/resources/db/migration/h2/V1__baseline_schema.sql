@@ -0,0 +1,44 @@
+-- 기본 스키마 (기존 ddl-auto 생성 결과 그대로, 이후 변경은 V3부터)
+
+CREATE TABLE users (
+    email    VARCHAR(255) NOT NULL,
+    nickname VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    PRIMARY KEY (email)
+);
+
+CREATE TABLE stations (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name        VARCHAR(255) NOT NULL,
+    latitude    DOUBLE PRECISION NOT NULL,
+    longitude   DOUBLE PRECISION NOT NULL,
+    line        VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT UKf6787k9crm2wetdsqyqc8xwt5 UNIQUE (name)
+);
+
+CREATE TABLE festivals (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name        VARCHAR(255),
+    description VARCHAR(255),
+    location    VARCHAR(255),
+    latitude    DOUBLE PRECISION,
+    longitude   DOUBLE PRECISION,
+    start_date  DATE,
+    end_date    DATE,
+    image_url   VARCHAR(255),
+    category    VARCHAR(255),
+    address     VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE itineraries (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_email    VARCHAR(255) NOT NULL,
+    title         VARCHAR(255) NOT NULL,
+    request_json  CLOB         NOT NULL,
+    response_json CLOB         NOT NULL,
+    created_at    TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
@@ -1,4 +1,4 @@
--- 7개 역의 초기 데이터 삽입
+-- 7개 역의 초기 데이터 삽입 (기존 data.sql)
 INSERT INTO stations (name, latitude, longitude, line, description) VALUES
 ('명학', 37.3846, 126.9355, '1호선', '안양시 만안구 명학동에 위치한 1호선 역'),
 ('안양', 37.4016, 126.9228, '1호선', '안양시 만안구 안양동에 위치한 1호선 역'),
@@ -0,0 +1,12 @@
+-- 역별 추천 코스 미리 계산 결과
+
+CREATE TABLE station_courses (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    station_name VARCHAR(255) NOT NULL,
+    culture_type VARCHAR(255) NOT NULL,
+    food_key     VARCHAR(255) NOT NULL,
+    course       CLOB         NOT NULL,
+    computed_at  TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_station_courses_key UNIQUE (station_name, culture_type, food_key)
+);
@@ -0,0 +1,5 @@
+-- 축제 일괄 적재: 원본 행 식별 키와 내용 해시 (변경된 행만 upsert)
+
+ALTER TABLE festivals ADD COLUMN source_key VARCHAR(255);
+ALTER TABLE festivals ADD COLUMN content_hash VARCHAR(64);
+ALTER TABLE festivals ADD CONSTRAINT uk_festivals_source_key UNIQUE (source_key);
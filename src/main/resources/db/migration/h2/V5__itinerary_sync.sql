@@ -0,0 +1,8 @@
+-- 저장 코스 키셋 페이지/증분 동기화: 변경 시각 (기존 행은 생성 시각으로 채움)과 조회용 인덱스
+
+ALTER TABLE itineraries ADD COLUMN updated_at TIMESTAMP(6);
+UPDATE itineraries SET updated_at = created_at;
+ALTER TABLE itineraries ALTER COLUMN updated_at SET NOT NULL;
+
+CREATE INDEX idx_itineraries_user_created ON itineraries (user_email, created_at DESC, id);
+CREATE INDEX idx_itineraries_user_updated ON itineraries (user_email, updated_at, id);
@@ -0,0 +1,17 @@
+-- 코스 요청/응답 본문을 내용 해시 기준 blob으로 분리 (이전 JSON 컬럼은 옮기기 전까지 nullable로 유지)
+
+CREATE TABLE itinerary_blobs (
+    hash       VARCHAR(64)  NOT NULL,
+    data       BLOB         NOT NULL,
+    encoding   INTEGER      NOT NULL,
+    ref_count  BIGINT       NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (hash)
+);
+
+CREATE INDEX idx_itinerary_blobs_ref_count ON itinerary_blobs (ref_count);
+
+ALTER TABLE itineraries ADD COLUMN request_hash VARCHAR(64);
+ALTER TABLE itineraries ADD COLUMN response_hash VARCHAR(64);
+ALTER TABLE itineraries ALTER COLUMN request_json DROP NOT NULL;
+ALTER TABLE itineraries ALTER COLUMN response_json DROP NOT NULL;
@@ -0,0 +1,9 @@
+-- 코스 id를 애플리케이션에서 블록 단위로 할당 (id_sequences 행은 ItineraryIdAllocator가 MAX(id) 기준으로 생성)
+
+CREATE TABLE id_sequences (
+    name     VARCHAR(64) NOT NULL,
+    next_val BIGINT      NOT NULL,
+    PRIMARY KEY (name)
+);
+
+ALTER TABLE itineraries ALTER COLUMN id DROP IDENTITY;
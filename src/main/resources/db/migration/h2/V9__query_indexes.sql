@@ -0,0 +1,6 @@
+-- 조회용 인덱스: 축제 기간 조회, 역 이름 유니크 제약 이름 고정 (ddl-auto가 만든 이름 대체)
+
+ALTER TABLE stations DROP CONSTRAINT UKf6787k9crm2wetdsqyqc8xwt5;
+ALTER TABLE stations ADD CONSTRAINT uk_stations_name UNIQUE (name);
+
+CREATE INDEX idx_festivals_dates ON festivals (start_date, end_date);
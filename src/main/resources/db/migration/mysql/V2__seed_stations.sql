@@ -0,0 +1,9 @@
+-- 7개 역의 초기 데이터 삽입 (기존 data.sql)
+INSERT INTO stations (name, latitude, longitude, line, description) VALUES
+('명학', 37.3846, 126.9355, '1호선', '안양시 만안구 명학동에 위치한 1호선 역'),
+('안양', 37.4016, 126.9228, '1호선', '안양시 만안구 안양동에 위치한 1호선 역'),
+('관악', 37.4192, 126.9087, '1호선', '안양시 동안구 관악동에 위치한 1호선 역'),
+('석수', 37.4347, 126.9025, '1호선', '안양시 동안구 석수동에 위치한 1호선 역'),
+('범계', 37.3898, 126.9508, '4호선', '안양시 동안구 범계동에 위치한 4호선 역'),
+('평촌', 37.4432, 126.9638, '4호선', '안양시 동안구 평촌동에 위치한 4호선 역'),
+('인덕원', 37.4015, 127.0383, '4호선', '안양시 동안구 인덕원동에 위치한 4호선 역');
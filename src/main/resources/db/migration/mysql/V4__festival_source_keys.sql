@@ -0,0 +1,6 @@
+-- 축제 일괄 적재: 원본 행 식별 키와 내용 해시 (변경된 행만 upsert)
+
+ALTER TABLE festivals
+    ADD COLUMN source_key VARCHAR(255),
+    ADD COLUMN content_hash VARCHAR(64),
+    ADD CONSTRAINT uk_festivals_source_key UNIQUE (source_key);
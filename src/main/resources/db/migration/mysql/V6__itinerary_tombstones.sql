@@ -0,0 +1,10 @@
+-- 삭제된 저장 코스 기록 (증분 동기화 since 조회에서 삭제분 전달), 보관 기간이 지난 행은 주기적으로 삭제
+
+CREATE TABLE itinerary_tombstones (
+    id         BIGINT       NOT NULL,
+    user_email VARCHAR(255) NOT NULL,
+    deleted_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE INDEX idx_itinerary_tombstones_user_deleted ON itinerary_tombstones (user_email, deleted_at, id);
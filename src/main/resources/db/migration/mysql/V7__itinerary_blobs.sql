@@ -0,0 +1,18 @@
+-- 코스 요청/응답 본문을 내용 해시 기준 blob으로 분리 (이전 JSON 컬럼은 옮기기 전까지 nullable로 유지)
+
+CREATE TABLE itinerary_blobs (
+    hash       VARCHAR(64) NOT NULL,
+    data       LONGBLOB    NOT NULL,
+    encoding   INT         NOT NULL,
+    ref_count  BIGINT      NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (hash)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE INDEX idx_itinerary_blobs_ref_count ON itinerary_blobs (ref_count);
+
+ALTER TABLE itineraries
+    ADD COLUMN request_hash VARCHAR(64),
+    ADD COLUMN response_hash VARCHAR(64),
+    MODIFY request_json LONGTEXT NULL,
+    MODIFY response_json LONGTEXT NULL;
@@ -0,0 +1,188 @@
+package dongneidle.DayMaker.service;
+
+import dongneidle.DayMaker.entity.Festival;
+import dongneidle.DayMaker.repository.FestivalRepository;
+import dongneidle.DayMaker.util.DistanceCalculator;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 축제 인덱스(격자 셀 + 구간 트리) 질의를 전수 탐색과 비교
+ * 셀 경계, 반경 경계, 기간 끝점에 걸친 축제를 중심으로 확인
+ */
+class FestivalIndexTest {
+
+	private static final LocalDate BASE = LocalDate.of(2026, 5, 1);
+	private static final double CELL_DEGREES = 0.02;
+
+	@Test
+	void findActiveNearMatchesBruteForce() {
+		Random random = new Random(32);
+		List<Festival> festivals = new ArrayList<>();
+		for (long id = 1; id <= 1_500; id++) {
+			LocalDate start = BASE.plusDays(random.nextInt(120));
+			festivals.add(festival(id,
+					37.25 + random.nextDouble() * 0.3,
+					126.80 + random.nextDouble() * 0.3,
+					start, start.plusDays(random.nextInt(10))));
+		}
+		FestivalIndex index = index(festivals);
+
+		for (int q = 0; q < 300; q++) {
+			double lat = 37.25 + random.nextDouble() * 0.3;
+			double lng = 126.80 + random.nextDouble() * 0.3;
+			LocalDate from = BASE.plusDays(random.nextInt(130) - 5);
+			LocalDate to = from.plusDays(random.nextInt(7));
+			for (double radiusKm : new double[]{0.3, 1, 2.5, 10, 40}) {
+				assertNear(festivals, index, from, to, lat, lng, radiusKm);
+			}
+		}
+	}
+
+	@Test
+	void festivalsAtRadiusAndCellEdges() {
+		// 질의 중심을 셀 경계 바로 안쪽에 두고, 반경 경계(정확히 radius / 바로 밖)에 있는 축제를 사방에 배치
+		double lat = 37.40 - 1e-9;
+		double lng = 126.94 + 1e-9;
+		double radiusKm = 3;
+		List<Festival> festivals = new ArrayList<>();
+		long id = 1;
+		for (int bearing = 0; bearing < 360; bearing += 15) {
+			festivals.add(festivalAt(id++, lat, lng, radiusKm - 1e-6, bearing));
+			festivals.add(festivalAt(id++, lat, lng, radiusKm + 1e-3, bearing));
+		}
+		// 셀 경계 위의 축제
+		for (int i = -3; i <= 3; i++) {
+			festivals.add(festival(id++, i * CELL_DEGREES + 37.40, 126.94, BASE, BASE));
+			festivals.add(festival(id++, 37.40, i * CELL_DEGREES + 126.94, BASE, BASE));
+		}
+		FestivalIndex index = index(festivals);
+
+		List<Festival> found = assertNear(festivals, index, BASE, BASE, lat, lng, radiusKm);
+		// 반경 안 24개 + 셀 경계 위 6개 (위도·경도 방향 각각 -1, 0, +1칸)
+		assertEquals(24 + 6, found.size());
+		for (double r : new double[]{CELL_DEGREES * 111.19, 2 * CELL_DEGREES * 111.19, 0.001}) {
+			assertNear(festivals, index, BASE, BASE, 37.40, 126.94, r);
+		}
+	}
+
+	@Test
+	void radiusTipJustPastCellBoundary() {
+		// 반경 원의 북/남쪽 끝이 셀 경계를 살짝 넘도록 중심을 둠 → 끝에 있는 축제는 바로 옆 셀에 있음
+		double radiusKm = 5;
+		double tipDegrees = Math.toDegrees(radiusKm / 6371);
+		double boundary = 1871 * CELL_DEGREES;
+		for (double overshoot : new double[]{1e-6, 1e-5, 3e-5}) {
+			double north = boundary - tipDegrees + overshoot;
+			double south = boundary + tipDegrees - overshoot;
+			FestivalIndex northIndex = index(List.of(festivalAt(1, north, 126.95, radiusKm - 1e-6, 0)));
+			FestivalIndex southIndex = index(List.of(festivalAt(2, south, 126.95, radiusKm - 1e-6, 180)));
+
+			assertEquals(List.of(1L), ids(northIndex.findActiveNear(BASE, BASE, north, 126.95, radiusKm)));
+			assertEquals(List.of(2L), ids(southIndex.findActiveNear(BASE, BASE, south, 126.95, radiusKm)));
+		}
+	}
+
+	@Test
+	void dateEndpointsAreInclusive() {
+		Festival oneDay = festival(1, 37.40, 126.95, BASE, BASE);
+		Festival week = festival(2, 37.40, 126.95, BASE.plusDays(1), BASE.plusDays(7));
+		FestivalIndex index = index(List.of(oneDay, week));
+
+		assertEquals(List.of(1L), ids(index.findActive(BASE, BASE)));
+		assertEquals(List.of(1L, 2L), ids(index.findActive(BASE, BASE.plusDays(1))));   // 질의 끝 == 시작일
+		assertEquals(List.of(2L), ids(index.findActive(BASE.plusDays(7), BASE.plusDays(9))));   // 질의 시작 == 종료일
+		assertEquals(List.of(), ids(index.findActive(BASE.plusDays(8), BASE.plusDays(9))));
+		assertEquals(List.of(), ids(index.findActive(BASE.minusDays(3), BASE.minusDays(1))));
+		assertEquals(List.of(1L, 2L), ids(index.findActiveNear(BASE, BASE.plusDays(1), 37.40, 126.95, 0.1)));
+	}
+
+	@Test
+	void festivalsWithoutCoordinatesOnlyInDateQueries() {
+		Festival located = festival(1, 37.40, 126.95, BASE, BASE);
+		Festival unlocated = Festival.builder().id(2L).name("좌표 없음").startDate(BASE).endDate(BASE).build();
+		FestivalIndex index = index(List.of(located, unlocated));
+
+		assertEquals(List.of(1L, 2L), ids(index.findActive(BASE, BASE)));
+		assertEquals(List.of(1L), ids(index.findActiveNear(BASE, BASE, 37.40, 126.95, 1000)));
+	}
+
+	@Test
+	void negativeCoordinates() {
+		// 음수 셀 번호 (경도 0 / 적도 부근)
+		Random random = new Random(5);
+		List<Festival> festivals = new ArrayList<>();
+		for (long id = 1; id <= 300; id++) {
+			festivals.add(festival(id, -0.1 + random.nextDouble() * 0.2, -0.1 + random.nextDouble() * 0.2, BASE, BASE));
+		}
+		FestivalIndex index = index(festivals);
+		for (int q = 0; q < 100; q++) {
+			assertNear(festivals, index, BASE, BASE,
+					-0.1 + random.nextDouble() * 0.2, -0.1 + random.nextDouble() * 0.2, 1 + random.nextDouble() * 5);
+		}
+	}
+
+	private static List<Festival> assertNear(List<Festival> festivals, FestivalIndex index, LocalDate from, LocalDate to,
+											 double lat, double lng, double radiusKm) {
+		List<Long> expected = festivals.stream()
+				.filter(f -> f.getLatitude() != null && f.getLongitude() != null)
+				.filter(f -> !f.getStartDate().isAfter(to) && !f.getEndDate().isBefore(from))
+				.filter(f -> DistanceCalculator.calculateDistance(lat, lng, f.getLatitude(), f.getLongitude()) <= radiusKm)
+				.map(Festival::getId)
+				.sorted()
+				.toList();
+		List<Festival> found = index.findActiveNear(from, to, lat, lng, radiusKm);
+		assertIterableEquals(expected, found.stream().map(Festival::getId).sorted().toList(),
+				"r=" + radiusKm + " at " + lat + "," + lng + " " + from + "~" + to);
+		// 시작일순
+		assertIterableEquals(found.stream().sorted(Comparator.comparing(Festival::getStartDate)).toList(), found);
+		return found;
+	}
+
+	private static FestivalIndex index(List<Festival> festivals) {
+		FestivalRepository repository = mock(FestivalRepository.class);
+		when(repository.findAll()).thenReturn(festivals);
+		FestivalIndex index = new FestivalIndex(repository, new TransactionTemplate(mock(PlatformTransactionManager.class)));
+		index.reload();
+		return index;
+	}
+
+	// (lat, lng)에서 bearing 방향으로 distanceKm 떨어진 지점 (구면)
+	private static Festival festivalAt(long id, double lat, double lng, double distanceKm, double bearingDegrees) {
+		double angular = distanceKm / 6371;
+		double bearing = Math.toRadians(bearingDegrees);
+		double lat1 = Math.toRadians(lat);
+		double lat2 = Math.asin(Math.sin(lat1) * Math.cos(angular)
+				+ Math.cos(lat1) * Math.sin(angular) * Math.cos(bearing));
+		double lng2 = Math.toRadians(lng) + Math.atan2(Math.sin(bearing) * Math.sin(angular) * Math.cos(lat1),
+				Math.cos(angular) - Math.sin(lat1) * Math.sin(lat2));
+		return festival(id, Math.toDegrees(lat2), Math.toDegrees(lng2), BASE, BASE);
+	}
+
+	private static Festival festival(long id, double lat, double lng, LocalDate start, LocalDate end) {
+		return Festival.builder()
+				.id(id)
+				.name("축제 " + id)
+				.latitude(lat)
+				.longitude(lng)
+				.startDate(start)
+				.endDate(end)
+				.build();
+	}
+
+	private static List<Long> ids(List<Festival> festivals) {
+		return festivals.stream().map(Festival::getId).toList();
+	}
+}
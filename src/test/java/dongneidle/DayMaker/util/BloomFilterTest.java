@@ -0,0 +1,120 @@
+package dongneidle.DayMaker.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Bloom filter: 추가한 키는 항상 포함으로 판정 (누락 없음), 오탐률은 목표치 근처
+ */
+class BloomFilterTest {
+
+	@Test
+	void noFalseNegatives() {
+		BloomFilter filter = BloomFilter.create(10_000, 0.01);
+		List<String> keys = new ArrayList<>();
+		for (int i = 0; i < 10_000; i++) {
+			keys.add(UUID.randomUUID().toString());
+		}
+		keys.forEach(filter::add);
+
+		for (String key : keys) {
+			assertTrue(filter.mightContain(key), key);
+		}
+		assertEquals(10_000, filter.getInsertions());
+	}
+
+	@Test
+	void noFalseNegativesBeyondCapacity() {
+		// 예상 원소 수의 10배를 넣어 오탐이 늘어도 누락은 없음
+		BloomFilter filter = BloomFilter.create(100, 0.01);
+		List<String> keys = new ArrayList<>();
+		for (int i = 0; i < 1_000; i++) {
+			keys.add("jti-" + i);
+		}
+		keys.forEach(filter::add);
+
+		for (String key : keys) {
+			assertTrue(filter.mightContain(key), key);
+		}
+	}
+
+	@Test
+	void unusualKeys() {
+		BloomFilter filter = BloomFilter.create(16, 0.01);
+		List<String> keys = List.of("", " ", "a", "\u0000", "토큰", "😀", "x".repeat(10_000));
+		keys.forEach(filter::add);
+
+		for (String key : keys) {
+			assertTrue(filter.mightContain(key), "length " + key.length());
+		}
+		// CharSequence 구현이 달라도 같은 문자열이면 같은 판정
+		assertTrue(filter.mightContain(new StringBuilder("토큰")));
+	}
+
+	@Test
+	void falsePositiveRateNearTarget() {
+		double target = 0.01;
+		BloomFilter filter = BloomFilter.create(5_000, target);
+		for (int i = 0; i < 5_000; i++) {
+			filter.add("added-" + i);
+		}
+
+		Random random = new Random(46);
+		int trials = 100_000;
+		int falsePositives = 0;
+		for (int i = 0; i < trials; i++) {
+			if (filter.mightContain("absent-" + random.nextLong())) {
+				falsePositives++;
+			}
+		}
+		double rate = (double) falsePositives / trials;
+		assertTrue(rate < target * 2, "false positive rate " + rate);
+	}
+
+	@Test
+	void concurrentAddsAreNotLost() throws Exception {
+		// 같은 long 워드의 비트를 여러 스레드가 동시에 켜도 유실되지 않음
+		BloomFilter filter = BloomFilter.create(1_000, 0.05);
+		int threads = 8;
+		int perThread = 2_000;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				int thread = t;
+				futures.add(executor.submit(() -> {
+					start.await();
+					for (int i = 0; i < perThread; i++) {
+						filter.add(thread + ":" + i);
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		for (int t = 0; t < threads; t++) {
+			for (int i = 0; i < perThread; i++) {
+				assertTrue(filter.mightContain(t + ":" + i), t + ":" + i);
+			}
+		}
+		assertEquals(threads * perThread, filter.getInsertions());
+	}
+}
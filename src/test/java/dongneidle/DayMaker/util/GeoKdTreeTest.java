@@ -0,0 +1,113 @@
+package dongneidle.DayMaker.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * k-d 트리 최근접 k개 탐색을 전수 탐색과 비교
+ * 트리는 투영 좌표 거리로 순서를 정하므로 전수 탐색도 같은 투영(기준 위도 = 평균 위도)으로 정렬한다.
+ */
+class GeoKdTreeTest {
+
+	private record Point(int id, double lat, double lng) {
+	}
+
+	@Test
+	void nearestMatchesBruteForce() {
+		Random random = new Random(31);
+		// 안양 일대 (약 20km 범위)
+		List<Point> points = randomPoints(random, 2_000, 37.30, 37.50, 126.85, 127.05);
+		GeoKdTree<Point> tree = GeoKdTree.build(points, Point::lat, Point::lng);
+
+		for (int q = 0; q < 200; q++) {
+			double lat = 37.28 + random.nextDouble() * 0.24;
+			double lng = 126.83 + random.nextDouble() * 0.24;
+			for (int k : new int[]{1, 2, 7, 50}) {
+				assertNearest(points, tree, lat, lng, k);
+			}
+		}
+	}
+
+	@Test
+	void fewerPointsThanK() {
+		Random random = new Random(7);
+		List<Point> points = randomPoints(random, 7, 37.38, 37.45, 126.90, 127.04);
+		GeoKdTree<Point> tree = GeoKdTree.build(points, Point::lat, Point::lng);
+
+		assertEquals(7, tree.size());
+		assertNearest(points, tree, 37.40, 126.95, 7);
+		assertNearest(points, tree, 37.40, 126.95, 100);
+		assertEquals(0, tree.nearest(37.40, 126.95, 0).size());
+	}
+
+	@Test
+	void emptyAndSingle() {
+		GeoKdTree<Point> empty = GeoKdTree.build(List.of(), Point::lat, Point::lng);
+		assertEquals(0, empty.size());
+		assertEquals(0, empty.nearest(37.40, 126.95, 3).size());
+
+		Point only = new Point(1, 37.3898, 126.9508);
+		GeoKdTree<Point> single = GeoKdTree.build(List.of(only), Point::lat, Point::lng);
+		List<GeoKdTree.Neighbor<Point>> result = single.nearest(37.3898, 126.9508, 3);
+		assertEquals(1, result.size());
+		assertEquals(only, result.get(0).item());
+		assertEquals(0.0, result.get(0).distanceKm(), 1e-9);
+	}
+
+	@Test
+	void duplicateCoordinates() {
+		// 같은 좌표가 분할면 위에 여러 개 있어도 모두 찾음
+		List<Point> points = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			points.add(new Point(i, 37.40, i % 2 == 0 ? 126.95 : 126.96));
+		}
+		GeoKdTree<Point> tree = GeoKdTree.build(points, Point::lat, Point::lng);
+		List<GeoKdTree.Neighbor<Point>> result = tree.nearest(37.40, 126.95, 10);
+		assertEquals(10, result.size());
+		for (GeoKdTree.Neighbor<Point> neighbor : result) {
+			assertEquals(126.95, neighbor.item().lng(), 0.0);
+		}
+	}
+
+	private static void assertNearest(List<Point> points, GeoKdTree<Point> tree, double lat, double lng, int k) {
+		double cosRefLat = Math.cos(Math.toRadians(points.stream().mapToDouble(Point::lat).average().orElse(0.0)));
+		List<Point> expected = points.stream()
+				.sorted(Comparator.comparingDouble(p -> projectedDistance2(p, lat, lng, cosRefLat)))
+				.limit(k)
+				.toList();
+
+		List<GeoKdTree.Neighbor<Point>> result = tree.nearest(lat, lng, k);
+		assertIterableEquals(expected, result.stream().map(GeoKdTree.Neighbor::item).toList(),
+				"k=" + k + " at " + lat + "," + lng);
+		for (GeoKdTree.Neighbor<Point> neighbor : result) {
+			double km = DistanceCalculator.calculateDistance(lat, lng, neighbor.item().lat(), neighbor.item().lng());
+			assertEquals(km, neighbor.distanceKm(), 1e-9);
+			assertTrue(neighbor.distanceKm() >= 0);
+		}
+	}
+
+	private static double projectedDistance2(Point p, double lat, double lng, double cosRefLat) {
+		double dx = (p.lng() - lng) * cosRefLat;
+		double dy = p.lat() - lat;
+		return dx * dx + dy * dy;
+	}
+
+	private static List<Point> randomPoints(Random random, int count,
+											double minLat, double maxLat, double minLng, double maxLng) {
+		List<Point> points = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			points.add(new Point(i,
+					minLat + random.nextDouble() * (maxLat - minLat),
+					minLng + random.nextDouble() * (maxLng - minLng)));
+		}
+		return points;
+	}
+}
@@ -0,0 +1,112 @@
+package dongneidle.DayMaker.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+
+/**
+ * 닫힌 구간 겹침 질의를 전수 탐색과 비교 (끝점이 맞닿는 경우 포함)
+ */
+class IntervalTreeTest {
+
+	private record Interval(int id, long start, long end) {
+	}
+
+	@Test
+	void overlappingMatchesBruteForce() {
+		Random random = new Random(32);
+		for (int size : new int[]{1, 2, 3, 10, 100, 1_000}) {
+			List<Interval> intervals = new ArrayList<>();
+			for (int i = 0; i < size; i++) {
+				long start = random.nextInt(400);
+				intervals.add(new Interval(i, start, start + random.nextInt(30)));
+			}
+			IntervalTree<Interval> tree = IntervalTree.build(intervals, Interval::start, Interval::end);
+			assertEquals(size, tree.size());
+
+			for (int q = 0; q < 300; q++) {
+				long from = random.nextInt(450) - 20;
+				long to = from + random.nextInt(40);
+				assertOverlapping(intervals, tree, from, to);
+			}
+			// 모든 구간의 끝점 자체로 질의
+			for (Interval interval : intervals) {
+				assertOverlapping(intervals, tree, interval.start(), interval.start());
+				assertOverlapping(intervals, tree, interval.end(), interval.end());
+			}
+		}
+	}
+
+	@Test
+	void closedEndpoints() {
+		// [10, 20]
+		List<Interval> intervals = List.of(new Interval(1, 10, 20));
+		IntervalTree<Interval> tree = IntervalTree.build(intervals, Interval::start, Interval::end);
+
+		assertEquals(1, tree.findOverlapping(20, 25).size());   // 질의 시작 == 구간 끝
+		assertEquals(1, tree.findOverlapping(5, 10).size());    // 질의 끝 == 구간 시작
+		assertEquals(1, tree.findOverlapping(12, 15).size());   // 구간 안에 포함
+		assertEquals(1, tree.findOverlapping(0, 30).size());    // 구간을 포함
+		assertEquals(0, tree.findOverlapping(21, 25).size());
+		assertEquals(0, tree.findOverlapping(5, 9).size());
+	}
+
+	@Test
+	void singlePointIntervals() {
+		// 하루짜리 축제처럼 시작 == 끝
+		List<Interval> intervals = List.of(new Interval(1, 7, 7), new Interval(2, 7, 7), new Interval(3, 8, 8));
+		IntervalTree<Interval> tree = IntervalTree.build(intervals, Interval::start, Interval::end);
+
+		assertEquals(2, tree.findOverlapping(7, 7).size());
+		assertEquals(3, tree.findOverlapping(7, 8).size());
+		assertEquals(0, tree.findOverlapping(6, 6).size());
+		assertEquals(0, tree.findOverlapping(9, 9).size());
+	}
+
+	@Test
+	void extremeValues() {
+		List<Interval> intervals = List.of(
+				new Interval(1, Long.MIN_VALUE, Long.MIN_VALUE),
+				new Interval(2, Long.MIN_VALUE, Long.MAX_VALUE),
+				new Interval(3, Long.MAX_VALUE, Long.MAX_VALUE));
+		IntervalTree<Interval> tree = IntervalTree.build(intervals, Interval::start, Interval::end);
+
+		assertOverlapping(intervals, tree, Long.MIN_VALUE, Long.MIN_VALUE);
+		assertOverlapping(intervals, tree, Long.MAX_VALUE, Long.MAX_VALUE);
+		assertOverlapping(intervals, tree, 0, 0);
+		assertEquals(3, tree.findOverlapping(Long.MIN_VALUE, Long.MAX_VALUE).size());
+	}
+
+	@Test
+	void emptyTree() {
+		IntervalTree<Interval> tree = IntervalTree.build(List.of(), Interval::start, Interval::end);
+		assertEquals(0, tree.size());
+		assertEquals(0, tree.findOverlapping(Long.MIN_VALUE, Long.MAX_VALUE).size());
+	}
+
+	@Test
+	void appendsToGivenList() {
+		List<Interval> intervals = List.of(new Interval(1, 0, 5), new Interval(2, 3, 9));
+		IntervalTree<Interval> tree = IntervalTree.build(intervals, Interval::start, Interval::end);
+		List<Interval> result = new ArrayList<>(List.of(new Interval(0, -1, -1)));
+		tree.findOverlapping(4, 4, result);
+		assertEquals(3, result.size());
+	}
+
+	private static void assertOverlapping(List<Interval> intervals, IntervalTree<Interval> tree, long from, long to) {
+		List<Interval> expected = intervals.stream()
+				.filter(i -> i.start() <= to && i.end() >= from)
+				.sorted(Comparator.comparingInt(Interval::id))
+				.toList();
+		List<Interval> actual = tree.findOverlapping(from, to).stream()
+				.sorted(Comparator.comparingInt(Interval::id))
+				.toList();
+		assertIterableEquals(expected, actual, "[" + from + ", " + to + "]");
+	}
+}
@@ -0,0 +1,167 @@
+package dongneidle.DayMaker.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dongneidle.DayMaker.util.JwtTokenProvider.VerifiedToken;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 최소 claims 파서(ClaimsScanner)와 base64url 디코더가 Jackson 파싱과 같은 결과를 내는지 확인
+ * 기대값은 payload를 Jackson Map으로 읽어 fallback 경로와 같은 규칙(sub/jti는 toString, exp는 Number.longValue)으로 만든다.
+ */
+class JwtTokenProviderTest {
+
+	private static final String SECRET = "test-secret-for-jwt-scanner";
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+	private static final long EXP = Instant.now().getEpochSecond() + 3600;
+
+	// 검증 캐시를 끄고(max-entries 0) 매번 파싱 경로를 타게 함
+	private final JwtTokenProvider provider = new JwtTokenProvider(SECRET, "daymaker", 3600, 0, MAPPER);
+
+	@Test
+	void plainClaims() {
+		assertMatchesJackson("{\"sub\":\"user@example.com\",\"iat\":1700000000,\"exp\":" + EXP + ",\"jti\":\"3f2a\"}");
+		assertMatchesJackson("{ \"sub\" : \"user@example.com\" ,\n\t\"exp\" : " + EXP + " }");
+		assertMatchesJackson("{\"exp\":" + EXP + ",\"sub\":\"user@example.com\"}");
+		// 평범한 형태는 Jackson fallback 없이 최소 파서로 처리
+		assertEquals(0L, provider.getStats().get("fallbackParses"));
+	}
+
+	@Test
+	void createdTokenRoundTrip() {
+		String token = provider.createToken("user@example.com");
+		VerifiedToken verified = provider.verify(token);
+		assertNotNull(verified);
+		assertEquals("user@example.com", verified.email());
+		assertNotNull(verified.jti());
+	}
+
+	@Test
+	void escapedStrings() {
+		assertMatchesJackson("{\"sub\":\"a\\\"b\\\\c@example.com\",\"exp\":" + EXP + "}");
+		assertMatchesJackson("{\"sub\":\"user@example.com\",\"exp\":" + EXP + ",\"jti\":\"\\u0041\\/B\"}");
+		// 키 escape ("sub" == "sub")
+		assertMatchesJackson("{\"s\\u0075b\":\"user@example.com\",\"exp\":" + EXP + "}");
+		// sub/jti가 아닌 값의 escape는 최소 파서가 건너뜀
+		assertMatchesJackson("{\"name\":\"quote \\\" and \\\\\",\"sub\":\"user@example.com\",\"exp\":" + EXP + "}");
+		assertMatchesJackson("{\"sub\":\"홍길동@example.com\",\"exp\":" + EXP + ",\"jti\":\"동네\"}");
+	}
+
+	@Test
+	void nonIntegerExp() {
+		assertMatchesJackson("{\"sub\":\"user@example.com\",\"exp\":" + EXP + ".75}");
+		assertMatchesJackson("{\"sub\":\"user@example.com\",\"exp\":" + EXP + "E0}");
+		assertMatchesJackson("{\"sub\":\"user@example.com\",\"exp\":\"" + EXP + "\"}");
+		assertMatchesJackson("{\"sub\":\"user@example.com\",\"exp\":-" + EXP + "}");
+		assertMatchesJackson("{\"sub\":\"user@example.com\"}");
+	}
+
+	@Test
+	void nestedAndOtherValues() {
+		assertMatchesJackson("{\"roles\":[\"a\",\"b\"],\"meta\":{\"x\":{\"y\":[1,2,{\"z\":\"}\"}]}},"
+				+ "\"sub\":\"user@example.com\",\"exp\":" + EXP + "}");
+		assertMatchesJackson("{\"flag\":true,\"off\":false,\"none\":null,\"score\":-1.5e-3,"
+				+ "\"sub\":\"user@example.com\",\"exp\":" + EXP + "}");
+		assertMatchesJackson("{\"sub\":12345,\"exp\":" + EXP + ",\"jti\":678}");
+		assertMatchesJackson("{\"sub\":\"first@example.com\",\"sub\":\"second@example.com\",\"exp\":" + EXP + "}");
+		assertMatchesJackson("{\"sub\":null,\"exp\":" + EXP + "}");
+	}
+
+	@Test
+	void truncatedPayload() {
+		String full = "{\"sub\":\"user@example.com\",\"meta\":{\"x\":1},\"exp\":" + EXP + "}";
+		for (int cut = 0; cut < full.length(); cut++) {
+			assertMatchesJackson(full.substring(0, cut));
+		}
+		assertMatchesJackson("{\"sub\":\"user@example.com\",\"exp\":" + EXP + ",}");
+		assertMatchesJackson("{\"sub\":\"user@example.com\" \"exp\":" + EXP + "}");
+		assertMatchesJackson("[\"sub\",\"user@example.com\"]");
+	}
+
+	@Test
+	void base64UrlPaddingLengths() {
+		// 디코딩 길이 % 3 == 0, 1, 2 를 모두 거치도록 sub 길이를 바꿔가며 확인
+		for (String sub = "a"; sub.length() < 12; sub += "b") {
+			assertMatchesJackson("{\"sub\":\"" + sub + "\",\"exp\":" + EXP + "}");
+		}
+		// base64url이 아닌 문자(+, /, =)가 있으면 서명이 맞아도 거부
+		String payload = "{\"sub\":\"user@example.com\",\"exp\":" + EXP + "}";
+		String encoded = base64Url(payload.getBytes(StandardCharsets.UTF_8));
+		assertNull(provider.verify(sign(header() + "." + encoded + "=")));
+		assertNull(provider.verify(sign(header() + "." + encoded.substring(1) + "+")));
+		assertNull(provider.verify(sign(header() + "." + encoded.substring(0, encoded.length() - 1) + "/")));
+	}
+
+	@Test
+	void tamperedSignature() {
+		String token = token("{\"sub\":\"user@example.com\",\"exp\":" + EXP + "}");
+		char last = token.charAt(token.length() - 1);
+		assertNull(provider.verify(token.substring(0, token.length() - 1) + (last == 'A' ? 'B' : 'A')));
+		assertNull(provider.verify(token.substring(0, token.length() - 1)));
+	}
+
+	@Test
+	void fullVerifiedCacheStillVerifies() {
+		JwtTokenProvider small = new JwtTokenProvider(SECRET, "daymaker", 3600, 2, MAPPER);
+		for (int i = 0; i < 5; i++) {
+			String email = "user" + i + "@example.com";
+			VerifiedToken verified = small.verify(token("{\"sub\":\"" + email + "\",\"exp\":" + EXP + "}"));
+			assertNotNull(verified);
+			assertEquals(email, verified.email());
+		}
+		assertEquals(2, small.getStats().get("cachedTokens"));
+	}
+
+	private void assertMatchesJackson(String payload) {
+		assertEquals(jackson(payload), provider.verify(token(payload)), payload);
+	}
+
+	// JwtTokenProvider의 Jackson fallback과 같은 규칙, 만료/sub 없음은 verify와 같이 null
+	private static VerifiedToken jackson(String payload) {
+		Map<?, ?> claims;
+		try {
+			claims = MAPPER.readValue(payload.getBytes(StandardCharsets.UTF_8), Map.class);
+		} catch (Exception e) {
+			return null;
+		}
+		if (claims == null) return null;
+		Object exp = claims.get("exp");
+		Object sub = claims.get("sub");
+		Object jti = claims.get("jti");
+		long expValue = exp instanceof Number number ? number.longValue() : 0L;
+		if (sub == null || expValue < Instant.now().getEpochSecond()) return null;
+		return new VerifiedToken(sub.toString(), expValue, jti != null ? jti.toString() : null);
+	}
+
+	private static String token(String payload) {
+		return sign(header() + "." + base64Url(payload.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private static String header() {
+		return base64Url("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String sign(String unsigned) {
+		try {
+			Mac mac = Mac.getInstance("HmacSHA256");
+			mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+			return unsigned + "." + base64Url(mac.doFinal(unsigned.getBytes(StandardCharsets.US_ASCII)));
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String base64Url(byte[] bytes) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+	}
+}